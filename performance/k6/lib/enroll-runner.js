@@ -22,6 +22,16 @@ function pickStudentId(studentIds, loops) {
   return studentIds[globalIndex];
 }
 
+// TX_ISOLATION (예: repeatable-read)을 지정하면 서버 재기동 없이 요청 단위로 격리 수준을 바꿔 측정
+// 서버에 app.enrollment.isolation.allow-request-override=true 필요
+function requestHeaders() {
+  const headers = { 'Content-Type': 'application/json' };
+  if (__ENV.TX_ISOLATION) {
+    headers['X-Transaction-Isolation'] = __ENV.TX_ISOLATION;
+  }
+  return headers;
+}
+
 function rampDelaySeconds(rampUpSeconds, vus) {
   if (rampUpSeconds <= 0 || vus <= 1) {
     return 0;
@@ -47,7 +57,7 @@ export function runEnrollmentIteration(testData, enrollPath, scenarioName, runCo
   });
 
   const response = http.post(`${testData.baseUrl}${enrollPath}`, payload, {
-    headers: { 'Content-Type': 'application/json' },
+    headers: requestHeaders(),
     tags: {
       scenario: scenarioName,
       endpoint: enrollPath,
@@ -0,0 +1,25 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+/**
+ * A suggestable row: {@code label} is the name, {@code detail} the course code or student number when there is one.
+ */
+public record AutocompleteEntry(
+    long id,
+    String label,
+    String detail
+) {
+
+    /**
+     * JPQL constructor-expression target.
+     */
+    public AutocompleteEntry(Long id, String label, String detail) {
+        this(id.longValue(), label, detail);
+    }
+
+    /**
+     * JPQL constructor-expression target for rows without a detail.
+     */
+    public AutocompleteEntry(Long id, String label) {
+        this(id.longValue(), label, null);
+    }
+}
@@ -0,0 +1,11 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+import java.util.List;
+
+/**
+ * Reads every suggestable row of a type for the autocomplete index.
+ */
+public interface AutocompleteEntryReader {
+
+    List<AutocompleteEntry> findAll(AutocompleteType type);
+}
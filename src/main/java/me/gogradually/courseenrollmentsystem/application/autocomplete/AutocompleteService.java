@@ -0,0 +1,138 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Prefix suggestions for course, professor and student names served from memory.
+ *
+ * <p>Each type has a large index built once from the database and a small index of rows inserted since; the small
+ * one is rebuilt on every insert and folded into the large one after {@link #MAX_RECENT} inserts.
+ */
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+    static final int MAX_RECENT = 512;
+
+    private final AutocompleteEntryReader autocompleteEntryReader;
+    private final Map<AutocompleteType, AtomicReference<Generation>> generations = initialGenerations();
+
+    /**
+     * Builds every index once startup (including seeding) is done, so the first queries do not pay for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (AutocompleteType type : AutocompleteType.values()) {
+            generation(type);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} suggestions per requested type, in order of the matching key.
+     */
+    public List<AutocompleteSuggestion> suggest(String query, Collection<AutocompleteType> types, Integer limit) {
+        String normalized = query == null ? "" : HangulKeys.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int normalizedLimit = normalizeLimit(limit);
+
+        List<AutocompleteSuggestion> suggestions = new ArrayList<>();
+        for (AutocompleteType type : types == null || types.isEmpty() ? List.of(AutocompleteType.values()) : types) {
+            for (PrefixIndex.Hit hit : generation(type).search(normalized, normalizedLimit)) {
+                AutocompleteEntry entry = hit.entry();
+                suggestions.add(new AutocompleteSuggestion(type, entry.id(), entry.label(), entry.detail()));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Makes a newly inserted row suggestable, after commit when called inside a transaction.
+     */
+    public void recordInserted(AutocompleteType type, AutocompleteEntry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(type, entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(type, entry);
+            }
+        });
+    }
+
+    private void add(AutocompleteType type, AutocompleteEntry entry) {
+        generations.get(type).updateAndGet(current -> current == null ? null : current.with(entry));
+    }
+
+    private Generation generation(AutocompleteType type) {
+        AtomicReference<Generation> reference = generations.get(type);
+        Generation current = reference.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (reference) {
+            current = reference.get();
+            if (current == null) {
+                current = new Generation(PrefixIndex.build(autocompleteEntryReader.findAll(type)), PrefixIndex.EMPTY);
+                reference.set(current);
+            }
+            return current;
+        }
+    }
+
+    private int normalizeLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return 10;
+        }
+        return Math.min(limit, 50);
+    }
+
+    private static Map<AutocompleteType, AtomicReference<Generation>> initialGenerations() {
+        Map<AutocompleteType, AtomicReference<Generation>> generations = new EnumMap<>(AutocompleteType.class);
+        for (AutocompleteType type : AutocompleteType.values()) {
+            generations.put(type, new AtomicReference<>());
+        }
+        return generations;
+    }
+
+    private record Generation(PrefixIndex loaded, PrefixIndex recent) {
+
+        Generation with(AutocompleteEntry entry) {
+            List<AutocompleteEntry> recentEntries = new ArrayList<>(recent.entries());
+            recentEntries.add(entry);
+            if (recentEntries.size() < MAX_RECENT) {
+                return new Generation(loaded, PrefixIndex.build(recentEntries));
+            }
+            List<AutocompleteEntry> all = new ArrayList<>(loaded.entries());
+            all.addAll(recentEntries);
+            return new Generation(PrefixIndex.build(all), PrefixIndex.EMPTY);
+        }
+
+        List<PrefixIndex.Hit> search(String query, int limit) {
+            List<PrefixIndex.Hit> hits = new ArrayList<>(limit);
+            loaded.collect(query, limit, hits);
+            if (recent.size() == 0) {
+                return hits;
+            }
+            recent.collect(query, limit, hits);
+            hits.sort(Comparator.comparing(PrefixIndex.Hit::key).thenComparingLong(hit -> hit.entry().id()));
+            return hits.size() > limit ? hits.subList(0, limit) : hits;
+        }
+    }
+}
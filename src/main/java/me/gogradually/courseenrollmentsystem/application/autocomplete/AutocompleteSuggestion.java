@@ -0,0 +1,9 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+public record AutocompleteSuggestion(
+    AutocompleteType type,
+    long id,
+    String label,
+    String detail
+) {
+}
@@ -0,0 +1,7 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+public enum AutocompleteType {
+    COURSE,
+    PROFESSOR,
+    STUDENT
+}
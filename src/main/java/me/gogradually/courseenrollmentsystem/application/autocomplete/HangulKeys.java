@@ -0,0 +1,78 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Key forms for autocomplete: lowercase NFC text without spaces, and the initial-consonant (초성) form of Hangul
+ * syllables written with compatibility jamo, the characters a Korean keyboard produces for a lone consonant.
+ */
+final class HangulKeys {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char LEADING_JAMO_BASE = 'ᄀ';
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private HangulKeys() {
+    }
+
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            boolean leadingJamo = c >= LEADING_JAMO_BASE && c < LEADING_JAMO_BASE + INITIALS.length();
+            normalized.append(leadingJamo ? INITIALS.charAt(c - LEADING_JAMO_BASE) : c);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Replaces each Hangul syllable with its initial consonant; other characters are kept.
+     */
+    static String initials(String normalized) {
+        StringBuilder initials = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            initials.append(initial(normalized.charAt(i)));
+        }
+        return initials.toString();
+    }
+
+    static boolean hasSyllable(String normalized) {
+        return normalized.chars().anyMatch(c -> c >= SYLLABLE_BASE && c <= SYLLABLE_LAST);
+    }
+
+    static boolean hasInitial(String normalized) {
+        return normalized.chars().anyMatch(c -> INITIALS.indexOf(c) >= 0);
+    }
+
+    /**
+     * Whether {@code text} starts with {@code query}, where a lone consonant in the query matches any syllable
+     * with that initial.
+     */
+    static boolean startsWithMixed(String text, String query) {
+        if (text.length() < query.length()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char expected = query.charAt(i);
+            char actual = text.charAt(i);
+            if (expected != actual && !(INITIALS.indexOf(expected) >= 0 && initial(actual) == expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char initial(char c) {
+        if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+            return c;
+        }
+        return INITIALS.charAt((c - SYLLABLE_BASE) / SYLLABLES_PER_INITIAL);
+    }
+}
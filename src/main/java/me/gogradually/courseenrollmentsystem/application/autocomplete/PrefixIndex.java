@@ -0,0 +1,137 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable sorted-array prefix index. Every entry contributes a few keys (the name from each word on, the
+ * detail, and the 초성 form of Hangul names); keys are kept in one sorted array, so a lookup is a binary search
+ * for the first key at or after the query followed by a scan while keys still start with it.
+ */
+final class PrefixIndex {
+
+    static final PrefixIndex EMPTY = build(List.of());
+
+    private final AutocompleteEntry[] entries;
+    private final String[] keys;
+    private final int[] keyEntries;
+
+    private PrefixIndex(AutocompleteEntry[] entries, String[] keys, int[] keyEntries) {
+        this.entries = entries;
+        this.keys = keys;
+        this.keyEntries = keyEntries;
+    }
+
+    static PrefixIndex build(List<AutocompleteEntry> source) {
+        AutocompleteEntry[] entries = source.toArray(AutocompleteEntry[]::new);
+        List<String> unsortedKeys = new ArrayList<>(entries.length * 3);
+        List<Integer> unsortedEntries = new ArrayList<>(entries.length * 3);
+        for (int position = 0; position < entries.length; position++) {
+            for (String key : keys(entries[position])) {
+                unsortedKeys.add(key);
+                unsortedEntries.add(position);
+            }
+        }
+
+        Integer[] order = IntStream.range(0, unsortedKeys.size()).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.<Integer, String>comparing(unsortedKeys::get)
+                .thenComparingLong(i -> entries[unsortedEntries.get(i)].id()));
+        String[] keys = new String[order.length];
+        int[] keyEntries = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = unsortedKeys.get(order[i]);
+            keyEntries[i] = unsortedEntries.get(order[i]);
+        }
+        return new PrefixIndex(entries, keys, keyEntries);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    List<AutocompleteEntry> entries() {
+        return List.of(entries);
+    }
+
+    /**
+     * Adds up to {@code limit} distinct entries matching the normalized query, in key order.
+     */
+    void collect(String query, int limit, List<Hit> hits) {
+        boolean mixed = HangulKeys.hasInitial(query) && HangulKeys.hasSyllable(query);
+        String prefix = mixed ? HangulKeys.initials(query) : query;
+        Set<Integer> seen = new HashSet<>();
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            int position = keyEntries[i];
+            if (seen.contains(position) || (mixed && !matchesMixed(entries[position], query))) {
+                continue;
+            }
+            seen.add(position);
+            hits.add(new Hit(keys[i], entries[position]));
+            if (seen.size() == limit) {
+                return;
+            }
+        }
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(prefix) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A query with both syllables and lone consonants, such as "자ㄹ", is looked up by its 초성 form; the
+     * syllables typed so far must then match exactly.
+     */
+    private static boolean matchesMixed(AutocompleteEntry entry, String query) {
+        return wordSuffixes(entry.label()).stream().anyMatch(suffix -> HangulKeys.startsWithMixed(suffix, query));
+    }
+
+    private static Set<String> keys(AutocompleteEntry entry) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String suffix : wordSuffixes(entry.label())) {
+            keys.add(suffix);
+            if (HangulKeys.hasSyllable(suffix)) {
+                keys.add(HangulKeys.initials(suffix));
+            }
+        }
+        if (entry.detail() != null) {
+            keys.add(HangulKeys.normalize(entry.detail()));
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    /**
+     * The normalized label from each word start, so "Linear Algebra" is found by "alg" as well as "lin".
+     */
+    private static List<String> wordSuffixes(String label) {
+        List<String> suffixes = new ArrayList<>();
+        boolean wordStart = true;
+        for (int i = 0; i < label.length(); i++) {
+            boolean whitespace = Character.isWhitespace(label.charAt(i));
+            if (wordStart && !whitespace) {
+                suffixes.add(HangulKeys.normalize(label.substring(i)));
+            }
+            wordStart = whitespace;
+        }
+        return suffixes;
+    }
+
+    record Hit(String key, AutocompleteEntry entry) {
+    }
+}
@@ -0,0 +1,133 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidation;
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Publishes invalidations for data changed by the caller's transaction. Each invalidation is written to the
+ * change table inside that transaction, so other nodes see it exactly when the change itself commits.
+ * After commit the batch is applied to this node's caches and pushed through the transport to shorten the
+ * polling delay on the others.
+ * Changes this node has already applied to its own caches go through {@link #publishToOtherNodes}, which writes
+ * the rows but skips local delivery.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final InvalidationDispatcher dispatcher;
+    private final InvalidationTransport transport;
+    private final CacheInvalidationProperties properties;
+    private final Counter published;
+
+    public CacheInvalidationBus(
+            CacheInvalidationRepository cacheInvalidationRepository,
+            InvalidationDispatcher dispatcher,
+            InvalidationTransport transport,
+            CacheInvalidationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.dispatcher = dispatcher;
+        this.transport = transport;
+        this.properties = properties;
+        this.published = meterRegistry.counter("cache.invalidation.published");
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    public void publish(String entityType, Long entityId, long version) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        InvalidationEvent event = new InvalidationEvent(entityType, entityId, version);
+        cacheInvalidationRepository.save(new CacheInvalidation(entityType, entityId, version, LocalDateTime.now()));
+        published.increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(List.of(event));
+            return;
+        }
+        eventsOfCurrentTransaction().add(event);
+    }
+
+    /**
+     * Writes one row per entity in the caller's transaction and pushes them after commit. The versions are
+     * recorded as applied first, so this node's own poll does not hand the rows to its caches again.
+     */
+    public void publishToOtherNodes(String entityType, Collection<Long> entityIds, long version) {
+        if (!properties.enabled() || entityIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<InvalidationEvent> events = new ArrayList<>(entityIds.size());
+        for (Long entityId : entityIds) {
+            events.add(new InvalidationEvent(entityType, entityId, version));
+            cacheInvalidationRepository.save(new CacheInvalidation(entityType, entityId, version, now));
+        }
+        published.increment(events.size());
+        dispatcher.markApplied(events);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            push(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                push(events);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InvalidationEvent> eventsOfCurrentTransaction() {
+        List<InvalidationEvent> events = (List<InvalidationEvent>) TransactionSynchronizationManager.getResource(this);
+        if (events != null) {
+            return events;
+        }
+
+        List<InvalidationEvent> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                if (status == STATUS_COMMITTED) {
+                    deliver(created);
+                }
+            }
+        });
+        return created;
+    }
+
+    private void deliver(List<InvalidationEvent> events) {
+        dispatcher.accept(events);
+        push(events);
+    }
+
+    private void push(List<InvalidationEvent> events) {
+        try {
+            transport.send(events);
+        } catch (RuntimeException exception) {
+            // other nodes still pick the rows up from the change table
+            log.warn("Failed to push cache invalidations. count={}", events.size(), exception);
+        }
+    }
+}
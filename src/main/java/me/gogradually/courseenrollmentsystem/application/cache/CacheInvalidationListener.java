@@ -0,0 +1,14 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+/**
+ * In-process cache that drops entries when an invalidation for its entity type arrives from any node.
+ */
+public interface CacheInvalidationListener {
+
+    String entityType();
+
+    /**
+     * Called at most once per entity and version, after bursts for the same entity are coalesced.
+     */
+    void invalidate(Long entityId, long version);
+}
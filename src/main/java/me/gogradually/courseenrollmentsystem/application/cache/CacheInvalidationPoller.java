@@ -0,0 +1,145 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Reads the change table past this node's high-water mark. Ids are assigned at insert but become visible at
+ * commit, so a missing id may still show up: the mark only moves over a gap once the row after it is older
+ * than {@code gap-timeout}, and rows already delivered above the mark are remembered to avoid re-delivery.
+ * The age comes from the application clock and says nothing about when the writer commits, so ids passed
+ * over are re-read every poll for {@code gap-rescan} and a row committed late is still delivered.
+ * A node starts at the current end of the table because its caches start empty.
+ */
+@Component
+public class CacheInvalidationPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationPoller.class);
+
+    private final CacheInvalidationTxExecutor txExecutor;
+    private final InvalidationDispatcher dispatcher;
+    private final CacheInvalidationProperties properties;
+    private final TreeMap<Long, LocalDateTime> deliveredAboveMark = new TreeMap<>();
+    private final List<SkippedGap> skippedGaps = new ArrayList<>();
+    private long highWaterMark = -1;
+
+    public CacheInvalidationPoller(
+            CacheInvalidationTxExecutor txExecutor,
+            InvalidationDispatcher dispatcher,
+            CacheInvalidationProperties properties
+    ) {
+        this.txExecutor = txExecutor;
+        this.dispatcher = dispatcher;
+        this.properties = properties;
+    }
+
+    /**
+     * Delivers new change rows and flushes them to local caches. Returns how many rows were new.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval:PT0.5S}")
+    public synchronized int poll() {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        if (highWaterMark < 0) {
+            highWaterMark = txExecutor.maxId();
+        }
+
+        int delivered = 0;
+        long readFrom = highWaterMark;
+        while (true) {
+            List<CacheInvalidation> rows = txExecutor.readAfter(readFrom, properties.batchSize());
+            List<InvalidationEvent> fresh = new ArrayList<>();
+            for (CacheInvalidation row : rows) {
+                if (deliveredAboveMark.putIfAbsent(row.getId(), row.getCreatedAt()) == null) {
+                    fresh.add(new InvalidationEvent(row.getEntityType(), row.getEntityId(), row.getVersion()));
+                }
+            }
+            dispatcher.accept(fresh);
+            delivered += fresh.size();
+            if (rows.size() < properties.batchSize()) {
+                break;
+            }
+            readFrom = rows.get(rows.size() - 1).getId();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        delivered += rescanSkippedGaps(now.minus(properties.gapRescan()));
+        advanceHighWaterMark(now.minus(properties.gapTimeout()), now);
+        dispatcher.flush();
+        return delivered;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.purge-interval:PT1M}")
+    public void purge() {
+        if (!properties.enabled()) {
+            return;
+        }
+        int purged = txExecutor.purge(LocalDateTime.now().minus(properties.retention()));
+        if (purged > 0) {
+            log.debug("Purged cache invalidation rows. count={}", purged);
+        }
+    }
+
+    /**
+     * Delivers rows that appeared in gaps the mark has already passed. Returns how many were new.
+     */
+    private int rescanSkippedGaps(LocalDateTime rescanCutoff) {
+        List<InvalidationEvent> late = new ArrayList<>();
+        Iterator<SkippedGap> gaps = skippedGaps.iterator();
+        while (gaps.hasNext()) {
+            SkippedGap gap = gaps.next();
+            if (gap.skippedAt().isBefore(rescanCutoff)) {
+                gaps.remove();
+                continue;
+            }
+            for (CacheInvalidation row : txExecutor.readBetween(gap.fromId(), gap.toId())) {
+                if (gap.delivered().add(row.getId())) {
+                    late.add(new InvalidationEvent(row.getEntityType(), row.getEntityId(), row.getVersion()));
+                }
+            }
+            if (gap.isFilled()) {
+                gaps.remove();
+            }
+        }
+        if (!late.isEmpty()) {
+            log.debug("Delivered change rows committed after their gap was skipped. count={}", late.size());
+        }
+        dispatcher.accept(late);
+        return late.size();
+    }
+
+    private void advanceHighWaterMark(LocalDateTime gapCutoff, LocalDateTime now) {
+        while (!deliveredAboveMark.isEmpty()) {
+            Map.Entry<Long, LocalDateTime> next = deliveredAboveMark.firstEntry();
+            boolean contiguous = next.getKey() == highWaterMark + 1;
+            if (!contiguous && next.getValue().isAfter(gapCutoff)) {
+                return;
+            }
+            if (!contiguous) {
+                skippedGaps.add(new SkippedGap(highWaterMark + 1, next.getKey() - 1, now, new HashSet<>()));
+            }
+            highWaterMark = next.getKey();
+            deliveredAboveMark.pollFirstEntry();
+        }
+    }
+
+    private record SkippedGap(long fromId, long toId, LocalDateTime skippedAt, Set<Long> delivered) {
+
+        private boolean isFilled() {
+            return delivered.size() == toId - fromId + 1;
+        }
+    }
+}
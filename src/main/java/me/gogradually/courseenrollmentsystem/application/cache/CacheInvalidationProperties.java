@@ -0,0 +1,77 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cross-node cache invalidation bus.
+ *
+ * @param enabled          record invalidations and poll the change table
+ * @param batchSize        change rows read per query
+ * @param gapTimeout       age after which the high-water mark moves past a missing change-table id
+ * @param gapRescan        how long ids passed over that way are still re-read, for writers that commit late
+ * @param retention        age after which change rows are purged
+ * @param appliedCapacity  entities whose last applied version is remembered for deduplication
+ * @param transport        push transport used next to polling
+ * @param udp              settings of the UDP transport
+ */
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public record CacheInvalidationProperties(
+        boolean enabled,
+        int batchSize,
+        Duration gapTimeout,
+        Duration gapRescan,
+        Duration retention,
+        int appliedCapacity,
+        Transport transport,
+        Udp udp
+) {
+
+    public CacheInvalidationProperties {
+        if (batchSize <= 0) {
+            batchSize = 500;
+        }
+        if (gapTimeout == null) {
+            gapTimeout = Duration.ofSeconds(5);
+        }
+        if (gapRescan == null) {
+            gapRescan = Duration.ofMinutes(2);
+        }
+        if (retention == null) {
+            retention = Duration.ofMinutes(10);
+        }
+        if (appliedCapacity <= 0) {
+            appliedCapacity = 10_000;
+        }
+        if (transport == null) {
+            transport = Transport.NONE;
+        }
+        if (udp == null) {
+            udp = new Udp(null, 0, List.of());
+        }
+    }
+
+    public enum Transport {
+        NONE,
+        UDP
+    }
+
+    /**
+     * @param host  address the receiver binds to, loopback when blank
+     * @param port  receiver port
+     * @param peers {@code host:port} of the other nodes
+     */
+    public record Udp(String host, int port, List<String> peers) {
+
+        public Udp {
+            if (host == null || host.isBlank()) {
+                host = "127.0.0.1";
+            }
+            if (peers == null) {
+                peers = List.of();
+            }
+        }
+    }
+}
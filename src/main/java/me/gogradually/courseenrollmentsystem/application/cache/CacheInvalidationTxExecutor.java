@@ -0,0 +1,44 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidation;
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidationRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationTxExecutor {
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Transactional(readOnly = true)
+    public List<CacheInvalidation> readAfter(long afterId, int limit) {
+        return cacheInvalidationRepository.findAfter(afterId, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CacheInvalidation> readBetween(long fromId, long toId) {
+        return cacheInvalidationRepository.findBetween(fromId, toId);
+    }
+
+    @Transactional(readOnly = true)
+    public long maxId() {
+        return cacheInvalidationRepository.findMaxId();
+    }
+
+    @Transactional
+    public void publishToOtherNodes(String entityType, Collection<Long> entityIds, long version) {
+        cacheInvalidationBus.publishToOtherNodes(entityType, entityIds, version);
+    }
+
+    @Transactional
+    public int purge(LocalDateTime createdBefore) {
+        return cacheInvalidationRepository.deleteCreatedBefore(createdBefore);
+    }
+}
@@ -0,0 +1,97 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Applies invalidations received from polling and from the transport to local caches.
+ * Bursts for the same entity are coalesced into the highest version until the next flush, and a version
+ * that was already applied is skipped, so duplicate deliveries through both paths are harmless.
+ */
+@Component
+public class InvalidationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationDispatcher.class);
+
+    private final ObjectProvider<CacheInvalidationListener> listeners;
+    private final ConcurrentMap<InvalidationEvent.Key, Long> pending = new ConcurrentHashMap<>();
+    private final Map<InvalidationEvent.Key, Long> appliedVersions;
+    private final Counter received;
+    private final Counter applied;
+
+    public InvalidationDispatcher(
+            ObjectProvider<CacheInvalidationListener> listeners,
+            CacheInvalidationProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.listeners = listeners;
+        this.appliedVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<InvalidationEvent.Key, Long> eldest) {
+                return size() > properties.appliedCapacity();
+            }
+        };
+        this.received = meterRegistry.counter("cache.invalidation.received");
+        this.applied = meterRegistry.counter("cache.invalidation.applied");
+    }
+
+    public void accept(Collection<InvalidationEvent> events) {
+        events.forEach(event -> pending.merge(event.key(), event.version(), Math::max));
+        received.increment(events.size());
+    }
+
+    /**
+     * Records versions this node has applied by itself, so the same versions arriving later are skipped.
+     */
+    public synchronized void markApplied(Collection<InvalidationEvent> events) {
+        events.forEach(event -> appliedVersions.merge(event.key(), event.version(), Math::max));
+    }
+
+    /**
+     * Hands pending invalidations to the listeners of their entity type. Returns how many were applied.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.coalesce-window:PT0.2S}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<CacheInvalidationListener>> listenersByType = listeners.orderedStream()
+                .collect(Collectors.groupingBy(CacheInvalidationListener::entityType));
+        int appliedCount = 0;
+        for (InvalidationEvent.Key key : pending.keySet()) {
+            Long version = pending.remove(key);
+            Long appliedVersion = appliedVersions.get(key);
+            if (version == null || (appliedVersion != null && appliedVersion >= version)) {
+                continue;
+            }
+            appliedVersions.put(key, version);
+            listenersByType.getOrDefault(key.entityType(), List.of())
+                    .forEach(listener -> invalidate(listener, key, version));
+            appliedCount++;
+        }
+        applied.increment(appliedCount);
+        return appliedCount;
+    }
+
+    private void invalidate(CacheInvalidationListener listener, InvalidationEvent.Key key, long version) {
+        try {
+            listener.invalidate(key.entityId(), version);
+        } catch (RuntimeException exception) {
+            log.warn("Cache invalidation failed. type={}, id={}", key.entityType(), key.entityId(), exception);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+/**
+ * Compact invalidation: cached state of the entity at or below {@code version} is stale.
+ */
+public record InvalidationEvent(String entityType, Long entityId, long version) {
+
+    public InvalidationEvent {
+        if (entityType == null || entityType.isBlank()) {
+            throw new IllegalArgumentException("entityType must not be blank");
+        }
+        if (entityId == null) {
+            throw new IllegalArgumentException("entityId must not be null");
+        }
+    }
+
+    Key key() {
+        return new Key(entityType, entityId);
+    }
+
+    record Key(String entityType, Long entityId) {
+    }
+}
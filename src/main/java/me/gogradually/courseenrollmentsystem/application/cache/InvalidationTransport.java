@@ -0,0 +1,15 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import java.util.List;
+
+/**
+ * Low-latency push of committed invalidations to other nodes. Delivery is best effort:
+ * the change table stays the source of truth and is polled by every node anyway.
+ */
+public interface InvalidationTransport {
+
+    InvalidationTransport NONE = events -> {
+    };
+
+    void send(List<InvalidationEvent> events);
+}
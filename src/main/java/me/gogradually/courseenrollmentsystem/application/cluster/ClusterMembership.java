@@ -0,0 +1,74 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Current course ownership. Outside cluster mode this node owns every course.
+ */
+@Component
+public class ClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private final ClusterProperties properties;
+    private final MembershipSource membershipSource;
+    private final ObjectProvider<CourseOwnershipListener> listeners;
+    private final AtomicReference<ConsistentHashRing> ring = new AtomicReference<>();
+
+    public ClusterMembership(
+            ClusterProperties properties,
+            MembershipSource membershipSource,
+            ObjectProvider<CourseOwnershipListener> listeners
+    ) {
+        this.properties = properties;
+        this.membershipSource = membershipSource;
+        this.listeners = listeners;
+        List<ClusterNode> members = properties.enabled() ? membershipSource.load() : List.of();
+        this.ring.set(new ConsistentHashRing(members, properties.virtualNodes()));
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    public String selfId() {
+        return properties.nodeId();
+    }
+
+    public boolean isOwnedLocally(Long courseId) {
+        return !properties.enabled() || ring.get().isOwner(properties.nodeId(), courseId);
+    }
+
+    /**
+     * Owner of the course, or null outside cluster mode or when the ring is empty.
+     */
+    public ClusterNode ownerOf(Long courseId) {
+        return properties.enabled() ? ring.get().ownerOf(courseId) : null;
+    }
+
+    /**
+     * Reloads members and, when they changed, lets course state holders hand off courses they lost.
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.refresh-interval:PT5S}")
+    public void refresh() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        ConsistentHashRing current = new ConsistentHashRing(membershipSource.load(), properties.virtualNodes());
+        ConsistentHashRing previous = ring.get();
+        if (previous.nodes().equals(current.nodes())) {
+            return;
+        }
+        ring.set(current);
+        log.info("Cluster membership changed. nodes={}", current.nodes());
+        listeners.orderedStream().forEach(listener -> listener.onOwnershipChanged(current, properties.nodeId()));
+    }
+}
@@ -0,0 +1,10 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+/**
+ * Application node taking part in course ownership.
+ *
+ * @param id      stable node id used on the hash ring
+ * @param baseUrl base URL other nodes forward requests to, e.g. {@code http://10.0.0.2:8080}
+ */
+public record ClusterNode(String id, String baseUrl) {
+}
@@ -0,0 +1,49 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Course-affinity cluster mode.
+ *
+ * @param enabled         forward enroll requests to the owner node of the course
+ * @param nodeId          id of this node on the ring
+ * @param nodes           static members (node id to base URL), used when no registry file is set
+ * @param registryFile    properties file of {@code nodeId=baseUrl} lines, re-read every refresh interval
+ * @param virtualNodes    ring points per node
+ * @param refreshInterval membership refresh interval
+ * @param forwardTimeout  timeout of a forwarded request or hand-off call
+ * @param sharedSecret    secret every node sends on internal calls; required when the cluster mode is enabled
+ */
+@ConfigurationProperties(prefix = "app.cluster")
+public record ClusterProperties(
+        boolean enabled,
+        String nodeId,
+        Map<String, String> nodes,
+        String registryFile,
+        int virtualNodes,
+        Duration refreshInterval,
+        Duration forwardTimeout,
+        String sharedSecret
+) {
+
+    public ClusterProperties {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = "local";
+        }
+        if (nodes == null) {
+            nodes = Map.of();
+        }
+        if (virtualNodes <= 0) {
+            virtualNodes = 128;
+        }
+        if (refreshInterval == null) {
+            refreshInterval = Duration.ofSeconds(5);
+        }
+        if (forwardTimeout == null) {
+            forwardTimeout = Duration.ofSeconds(2);
+        }
+    }
+}
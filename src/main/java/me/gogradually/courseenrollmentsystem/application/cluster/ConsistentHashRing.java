@@ -0,0 +1,73 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent-hash ring mapping course ids to owner nodes.
+ * Each node is placed at {@code virtualNodes} points, so adding or removing a node moves only
+ * the courses between its points and their predecessors.
+ */
+public final class ConsistentHashRing {
+
+    private final List<ClusterNode> nodes;
+    private final NavigableMap<Long, ClusterNode> points = new TreeMap<>();
+
+    public ConsistentHashRing(List<ClusterNode> nodes, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        this.nodes = nodes.stream()
+                .sorted(Comparator.comparing(ClusterNode::id))
+                .toList();
+        for (ClusterNode node : this.nodes) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                points.putIfAbsent(hash(node.id() + "#" + replica), node);
+            }
+        }
+    }
+
+    /**
+     * Returns the owner of the course, or null when the ring is empty.
+     */
+    public ClusterNode ownerOf(Long courseId) {
+        if (points.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterNode> entry = points.ceilingEntry(hash("course:" + courseId));
+        return entry != null ? entry.getValue() : points.firstEntry().getValue();
+    }
+
+    public boolean isOwner(String nodeId, Long courseId) {
+        ClusterNode owner = ownerOf(courseId);
+        return owner != null && Objects.equals(owner.id(), nodeId);
+    }
+
+    public List<ClusterNode> nodes() {
+        return nodes;
+    }
+
+    private static long hash(String value) {
+        byte[] digest = md5().digest(value.getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int index = 0; index < Long.BYTES; index++) {
+            hash = (hash << 8) | (digest[index] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("MD5 is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+/**
+ * Sends per-course state to the node that now owns the course.
+ */
+public interface CourseHandoffClient {
+
+    /**
+     * Hands a seat lease over to the owner. False when the owner could not take it.
+     */
+    boolean handOffSeatLease(ClusterNode owner, Long courseId, Long leaseId);
+}
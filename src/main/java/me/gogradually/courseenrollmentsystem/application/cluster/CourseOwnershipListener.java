@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+/**
+ * Holder of per-course in-memory state that has to move when course ownership changes.
+ */
+public interface CourseOwnershipListener {
+
+    /**
+     * Called after the ring changed; state of courses no longer owned by {@code selfId} should be handed off.
+     */
+    void onOwnershipChanged(ConsistentHashRing ring, String selfId);
+}
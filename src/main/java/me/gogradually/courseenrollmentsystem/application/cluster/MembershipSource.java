@@ -0,0 +1,11 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+import java.util.List;
+
+/**
+ * Supplies the current cluster members.
+ */
+public interface MembershipSource {
+
+    List<ClusterNode> load();
+}
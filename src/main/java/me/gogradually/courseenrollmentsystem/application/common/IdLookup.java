@@ -0,0 +1,36 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Result of a lookup by id list: rows found in request order, and the requested ids that do not exist.
+ */
+public record IdLookup<T>(List<T> items, List<Long> missingIds) {
+
+    /**
+     * Orders rows read in any order by the first occurrence of their id in {@code requestedIds}.
+     */
+    public static <T> IdLookup<T> of(List<Long> requestedIds, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowsById = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            rowsById.put(idOf.apply(row), row);
+        }
+
+        List<T> items = new ArrayList<>(rows.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(requestedIds)) {
+            T row = rowsById.get(id);
+            if (row == null) {
+                missingIds.add(id);
+            } else {
+                items.add(row);
+            }
+        }
+        return new IdLookup<>(items, missingIds);
+    }
+}
@@ -0,0 +1,60 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import org.springframework.transaction.annotation.Isolation;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound isolation level applied to transactions that do not declare one explicitly.
+ * An enclosing scope takes precedence over nested ones, so a per-request override wins over strategy defaults.
+ * The scope is not inherited by other threads.
+ */
+public final class IsolationScope {
+
+    private static final ThreadLocal<Isolation> CURRENT = new ThreadLocal<>();
+
+    private IsolationScope() {
+    }
+
+    /**
+     * Returns the isolation of the current scope, or {@link Isolation#DEFAULT} when none is open.
+     */
+    public static Isolation current() {
+        Isolation isolation = CURRENT.get();
+        return isolation == null ? Isolation.DEFAULT : isolation;
+    }
+
+    /**
+     * Opens a scope until the returned handle is closed. Does nothing when a scope is already open
+     * or the given isolation is {@link Isolation#DEFAULT}.
+     */
+    public static Handle open(Isolation isolation) {
+        if (isolation == null || isolation == Isolation.DEFAULT || CURRENT.get() != null) {
+            return Handle.NOOP;
+        }
+        CURRENT.set(isolation);
+        return CURRENT::remove;
+    }
+
+    public static <T> T call(Isolation isolation, Supplier<T> work) {
+        try (Handle ignored = open(isolation)) {
+            return work.get();
+        }
+    }
+
+    public static void run(Isolation isolation, Runnable work) {
+        try (Handle ignored = open(isolation)) {
+            work.run();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Handle extends AutoCloseable {
+
+        Handle NOOP = () -> {
+        };
+
+        @Override
+        void close();
+    }
+}
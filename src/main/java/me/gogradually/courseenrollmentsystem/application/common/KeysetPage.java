@@ -0,0 +1,20 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of an id-ordered listing and the id to continue after, or null on the last page.
+ */
+public record KeysetPage<T>(List<T> items, Long nextAfterId) {
+
+    /**
+     * A full page may have a successor, so it continues after its last id; a short page is the last one.
+     */
+    public static <T> KeysetPage<T> of(List<T> items, int limit, Function<T, Long> idOf) {
+        if (items.isEmpty() || items.size() < limit) {
+            return new KeysetPage<>(items, null);
+        }
+        return new KeysetPage<>(items, idOf.apply(items.get(items.size() - 1)));
+    }
+}
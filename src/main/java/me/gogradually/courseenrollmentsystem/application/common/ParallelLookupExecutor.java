@@ -0,0 +1,105 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only lookups concurrently on virtual threads.
+ * Each lookup gets its own read-only READ COMMITTED transaction (and therefore its own connection); every lookup
+ * is a single statement, so a snapshot across statements is not needed. It must not be used
+ * for reads that have to happen under a lock held by the caller's transaction.
+ * Returned entities are detached; lookups must fetch every association the caller touches.
+ * A {@link ReplicaReadScope} open on the caller thread is carried over to the lookup.
+ */
+@Component
+public class ParallelLookupExecutor implements DisposableBean {
+
+    static final String TIMER_NAME = "enrollment.lookup";
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ParallelLookupExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.readOnlyTransaction = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Starts a lookup in its own read-only transaction and records its duration as the given phase.
+     */
+    public <T> ForkedLookup<T> fork(String operation, String phase, Supplier<T> lookup) {
+        Timer timer = timer(operation, phase);
+        boolean replica = ReplicaReadScope.isOpen();
+        Future<T> future = executor.submit(() -> timer.record(() -> ReplicaReadScope.callIf(
+                replica,
+                () -> readOnlyTransaction.execute(status -> lookup.get())
+        )));
+        return new ForkedLookup<>(future);
+    }
+
+    /**
+     * Records the duration of work running on the caller thread, e.g. the whole critical path.
+     */
+    public <T> T record(String operation, String phase, Supplier<T> work) {
+        return timer(operation, phase).record(work);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Timer timer(String operation, String phase) {
+        return Timer.builder(TIMER_NAME)
+                .description("Latency of enrollment read phases")
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    public static final class ForkedLookup<T> {
+
+        private final Future<T> future;
+
+        private ForkedLookup(Future<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * Waits for the lookup and rethrows its failure unchanged so domain exceptions keep their HTTP mapping.
+         */
+        public T join() {
+            try {
+                return future.get();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for lookup", exception);
+            } catch (ExecutionException exception) {
+                Throwable cause = exception.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Lookup failed", cause);
+            }
+        }
+    }
+}
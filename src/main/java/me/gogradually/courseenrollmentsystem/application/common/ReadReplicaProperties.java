@@ -0,0 +1,37 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica used by catalog and timetable queries.
+ *
+ * @param enabled              route replica-scoped read-only transactions to the replica
+ * @param url                  JDBC url of the replica
+ * @param username             replica user
+ * @param password             replica password
+ * @param driverClassName      JDBC driver, derived from the url when blank
+ * @param maximumPoolSize      connections in the replica pool
+ * @param readYourWritesWindow replication lag tolerated; a student's reads stay on the primary this long after a write
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReadReplicaProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        String driverClassName,
+        int maximumPoolSize,
+        Duration readYourWritesWindow
+) {
+
+    public ReadReplicaProperties {
+        if (maximumPoolSize <= 0) {
+            maximumPoolSize = 10;
+        }
+        if (readYourWritesWindow == null) {
+            readYourWritesWindow = Duration.ofSeconds(2);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-bound permission to serve reads from the read replica. Only read-only transactions are routed there,
+ * and the route is chosen when a transaction runs its first statement, so writes and locking reads stay on the
+ * primary even inside a scope. The scope is not inherited by other threads.
+ */
+public final class ReplicaReadScope {
+
+    private static final ThreadLocal<Boolean> OPEN = new ThreadLocal<>();
+
+    private ReplicaReadScope() {
+    }
+
+    public static boolean isOpen() {
+        return Boolean.TRUE.equals(OPEN.get());
+    }
+
+    public static <T> T call(Supplier<T> work) {
+        if (isOpen()) {
+            return work.get();
+        }
+        OPEN.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            OPEN.remove();
+        }
+    }
+
+    /**
+     * Runs the work inside a scope only when {@code replica} is true, e.g. to carry a scope over to another thread.
+     */
+    public static <T> T callIf(boolean replica, Supplier<T> work) {
+        return replica ? call(work) : work.get();
+    }
+}
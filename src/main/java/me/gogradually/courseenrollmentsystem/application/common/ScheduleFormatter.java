@@ -1,5 +1,7 @@
 package me.gogradually.courseenrollmentsystem.application.common;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
 
@@ -11,9 +13,16 @@ public final class ScheduleFormatter {
     }
 
     public static String format(TimeSlot timeSlot) {
-        String day = timeSlot.getDayOfWeek().name().substring(0, 3);
-        String start = timeSlot.getStartTime().format(TIME_FORMAT);
-        String end = timeSlot.getEndTime().format(TIME_FORMAT);
+        return format(timeSlot.getDayOfWeek(), timeSlot.getStartTime(), timeSlot.getEndTime());
+    }
+
+    /**
+     * Formats the time slot columns of a projected row without materializing a {@link TimeSlot}.
+     */
+    public static String format(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        String day = dayOfWeek.name().substring(0, 3);
+        String start = startTime.format(TIME_FORMAT);
+        String end = endTime.format(TIME_FORMAT);
         return day + " " + start + "-" + end;
     }
 }
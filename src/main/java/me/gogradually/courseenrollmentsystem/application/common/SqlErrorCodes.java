@@ -0,0 +1,73 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import java.sql.SQLException;
+
+/**
+ * Classifies JDBC failures by SQLState and vendor error code instead of message text.
+ */
+public final class SqlErrorCodes {
+
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String DEADLOCK_SQL_STATE = "40001";
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final int MYSQL_LOCK_NOWAIT = 3572;
+    private static final int H2_LOCK_TIMEOUT = 50200;
+    private static final int MAX_CAUSE_DEPTH = 20;
+
+    private SqlErrorCodes() {
+    }
+
+    /**
+     * Returns true when the cause chain contains a unique key violation.
+     * MySQL reports the generic SQLState 23000, so the vendor code is checked as well.
+     */
+    public static boolean isDuplicateKey(Throwable throwable) {
+        SQLException sqlException = findSqlException(throwable);
+        if (sqlException == null) {
+            return false;
+        }
+        return UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY;
+    }
+
+    /**
+     * Returns true when the cause chain contains a deadlock victim error.
+     */
+    public static boolean isDeadlock(Throwable throwable) {
+        SQLException sqlException = findSqlException(throwable);
+        if (sqlException == null) {
+            return false;
+        }
+        return DEADLOCK_SQL_STATE.equals(sqlException.getSQLState())
+                || sqlException.getErrorCode() == MYSQL_DEADLOCK;
+    }
+
+    /**
+     * Returns true when the cause chain contains a lock wait timeout or a NOWAIT lock failure.
+     */
+    public static boolean isLockTimeout(Throwable throwable) {
+        SQLException sqlException = findSqlException(throwable);
+        if (sqlException == null) {
+            return false;
+        }
+        int errorCode = sqlException.getErrorCode();
+        return errorCode == MYSQL_LOCK_WAIT_TIMEOUT
+                || errorCode == MYSQL_LOCK_NOWAIT
+                || errorCode == H2_LOCK_TIMEOUT;
+    }
+
+    private static SQLException findSqlException(Throwable throwable) {
+        int depth = 0;
+        Throwable current = throwable;
+        while (current != null && depth < MAX_CAUSE_DEPTH) {
+            if (current instanceof SQLException sqlException) {
+                return sqlException;
+            }
+            current = current.getCause();
+            depth++;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-student token of the last committed enrollment change on this node. While a token is younger than the
+ * tolerated replica lag, the student's own reads go to the primary so they see their write.
+ * The node-local record only helps reads that land on the same node, so every write also hands the client a
+ * token ({@link #issueToken()}) that it sends back with its next reads; any node honours that one.
+ */
+@Component
+public class StudentWriteTokens {
+
+    /**
+     * How far ahead of this node's clock a token issued by another node may be. Later tokens are not honoured,
+     * so a forged far-future token cannot pin a student to the primary.
+     */
+    static final Duration MAX_CLOCK_SKEW = Duration.ofSeconds(5);
+
+    private final ReadReplicaProperties properties;
+    private final ConcurrentMap<Long, Instant> lastWriteByStudent = new ConcurrentHashMap<>();
+
+    public StudentWriteTokens(ReadReplicaProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Records a write of the student, after commit when called inside a transaction.
+     */
+    public void recordWrite(Long studentId) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lastWriteByStudent.put(studentId, Instant.now());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteByStudent.put(studentId, Instant.now());
+            }
+        });
+    }
+
+    /**
+     * True when the replica may not have the student's latest write yet.
+     */
+    public boolean requiresPrimary(Long studentId) {
+        Instant lastWrite = lastWriteByStudent.get(studentId);
+        return lastWrite != null && isWithinWindow(lastWrite);
+    }
+
+    /**
+     * Same as {@link #requiresPrimary(Long)}, also honouring a token the client got from a write on any node.
+     */
+    public boolean requiresPrimary(Long studentId, Long clientToken) {
+        return isRecent(clientToken) || requiresPrimary(studentId);
+    }
+
+    /**
+     * Token returned to the client after a committed write: the time of the write in epoch milliseconds.
+     */
+    public long issueToken() {
+        return Instant.now().toEpochMilli();
+    }
+
+    /**
+     * True when the client's token is younger than the tolerated lag, so neither the replica nor a cache filled
+     * before the write may be used yet. Tokens further in the future than {@link #MAX_CLOCK_SKEW} are ignored.
+     */
+    public boolean isRecent(Long clientToken) {
+        if (clientToken == null) {
+            return false;
+        }
+        Instant written = Instant.ofEpochMilli(clientToken);
+        return !written.isAfter(Instant.now().plus(MAX_CLOCK_SKEW)) && isWithinWindow(written);
+    }
+
+    private boolean isWithinWindow(Instant lastWrite) {
+        return lastWrite.plus(properties.readYourWritesWindow()).isAfter(Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.read-your-writes-window:PT2S}")
+    public void evictExpired() {
+        Instant cutoff = Instant.now().minus(properties.readYourWritesWindow());
+        lastWriteByStudent.values().removeIf(lastWrite -> lastWrite.isBefore(cutoff));
+    }
+}
@@ -0,0 +1,35 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Response cache of {@code GET /courses} pages.
+ *
+ * @param enabled     keep rendered pages between requests
+ * @param maxEntries  pages kept at most, least recently used evicted first
+ * @param maxSize     total bytes of kept pages, plain and gzip bodies together
+ * @param gzip        also keep a gzip body for clients that accept it
+ * @param gzipMinSize smallest plain body that is worth compressing
+ */
+@ConfigurationProperties(prefix = "app.course.catalog-cache")
+public record CourseCatalogCacheProperties(
+        boolean enabled,
+        int maxEntries,
+        DataSize maxSize,
+        boolean gzip,
+        DataSize gzipMinSize
+) {
+
+    public CourseCatalogCacheProperties {
+        if (maxEntries <= 0) {
+            maxEntries = 2_000;
+        }
+        if (maxSize == null) {
+            maxSize = DataSize.ofMegabytes(64);
+        }
+        if (gzipMinSize == null) {
+            gzipMinSize = DataSize.ofKilobytes(1);
+        }
+    }
+}
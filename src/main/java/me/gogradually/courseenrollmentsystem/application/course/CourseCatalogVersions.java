@@ -0,0 +1,69 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local catalog version. Every committed seat change of a course, on this node or announced by another
+ * node through the invalidation bus, advances the version and stamps the course with it. Anything built from
+ * the catalog at version {@code v} is still current while none of its courses is stamped above {@code v}.
+ * The version starts from the boot time in microseconds, so versions handed out before a restart, or by a node
+ * that started earlier, are never mistaken for later ones.
+ */
+@Component
+public class CourseCatalogVersions implements CacheInvalidationListener {
+
+    public static final String ENTITY_TYPE = "course";
+
+    private final AtomicLong version = new AtomicLong(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
+    private final ConcurrentMap<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Version to record before reading the catalog.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    public void markChanged(Long courseId) {
+        changedAt.put(courseId, version.incrementAndGet());
+    }
+
+    public boolean isUnchangedSince(long builtAt, long[] courseIds) {
+        for (long courseId : courseIds) {
+            Long stamp = changedAt.get(courseId);
+            if (stamp != null && stamp > builtAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Courses stamped above {@code version}.
+     */
+    public List<Long> changedSince(long version) {
+        return changedAt.entrySet().stream()
+                .filter(entry -> entry.getValue() > version)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public String entityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public void invalidate(Long entityId, long version) {
+        markChanged(entityId);
+    }
+}
@@ -1,28 +1,64 @@
 package me.gogradually.courseenrollmentsystem.application.course;
 
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.application.common.IdLookup;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
+import me.gogradually.courseenrollmentsystem.application.common.ReplicaReadScope;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Catalog reads, served by the read replica when one is configured.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
 public class CourseQueryService {
 
-    private final CourseRepository courseRepository;
+    private final CourseSummaryReader courseSummaryReader;
 
     /**
      * Returns courses optionally filtered by department id.
      */
     public List<CourseSummary> getCourses(Long departmentId, Integer offset, Integer limit) {
-        int normalizedOffset = normalizeOffset(offset);
+        return ReplicaReadScope.call(() -> getCoursesFromPrimary(departmentId, offset, limit));
+    }
+
+    /**
+     * Same as {@link #getCourses(Long, Integer, Integer)}, read from the primary. For results kept against
+     * {@link CourseCatalogVersions}, whose changes a lagging replica may not have applied yet.
+     */
+    public List<CourseSummary> getCoursesFromPrimary(Long departmentId, Integer offset, Integer limit) {
+        return courseSummaryReader.findPage(departmentId, normalizeOffset(offset), normalizeLimit(limit));
+    }
+
+    /**
+     * Returns the courses after the given id, optionally filtered by department id, at constant cost per page.
+     */
+    public KeysetPage<CourseSummary> getCoursesAfter(Long departmentId, long afterId, Integer limit) {
+        return ReplicaReadScope.call(() -> getCoursesAfterFromPrimary(departmentId, afterId, limit));
+    }
+
+    /**
+     * Same as {@link #getCoursesAfter(Long, long, Integer)}, read from the primary.
+     */
+    public KeysetPage<CourseSummary> getCoursesAfterFromPrimary(Long departmentId, long afterId, Integer limit) {
         int normalizedLimit = normalizeLimit(limit);
 
-        return courseRepository.findAll(departmentId, normalizedOffset, normalizedLimit).stream()
-            .map(CourseSummary::from)
-            .toList();
+        List<CourseSummary> courses = courseSummaryReader.findPageAfter(departmentId, afterId, normalizedLimit);
+        return KeysetPage.of(courses, normalizedLimit, CourseSummary::id);
+    }
+
+    /**
+     * Returns the requested courses in request order with one query, listing ids that do not exist.
+     */
+    public IdLookup<CourseSummary> getCoursesByIds(List<Long> courseIds) {
+        List<Long> distinctIds = courseIds.stream().filter(Objects::nonNull).distinct().toList();
+        List<CourseSummary> courses = ReplicaReadScope.call(() -> courseSummaryReader.findByIds(distinctIds));
+        return IdLookup.of(distinctIds, courses, CourseSummary::id);
     }
 
     private int normalizeOffset(Integer offset) {
@@ -0,0 +1,50 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.domain.course.ScheduleMask;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Time slot and schedule mask of every course seen so far. Time slots have no update path, so entries never go
+ * stale; courses not cached yet are read in one query per call.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseScheduleMasks {
+
+    private final CourseTimeSlotReader courseTimeSlotReader;
+    private final ConcurrentMap<Long, CourseSlot> slots = new ConcurrentHashMap<>();
+
+    public Map<Long, CourseSlot> get(Collection<Long> courseIds) {
+        Map<Long, CourseSlot> found = new HashMap<>(courseIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            CourseSlot slot = slots.get(courseId);
+            if (slot == null) {
+                missing.add(courseId);
+            } else {
+                found.put(courseId, slot);
+            }
+        }
+        if (!missing.isEmpty()) {
+            courseTimeSlotReader.findByCourseIds(missing).forEach((courseId, timeSlot) -> {
+                CourseSlot slot = new CourseSlot(timeSlot, ScheduleMask.of(timeSlot));
+                slots.put(courseId, slot);
+                found.put(courseId, slot);
+            });
+        }
+        return found;
+    }
+
+    public record CourseSlot(TimeSlot timeSlot, ScheduleMask mask) {
+    }
+}
@@ -0,0 +1,121 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationBus;
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationTxExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Announces seat count changes made by the application's seat writers. Recording only remembers the course in
+ * the caller's transaction; this node's catalog version advances right after commit. Other nodes learn about
+ * the change through the cache invalidation bus, which is written by {@link #flush()} in a short transaction of
+ * its own, so enrollment transactions holding a course row lock never wait for the change table.
+ */
+@Component
+public class CourseSeatChanges {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseSeatChanges.class);
+
+    private final CourseCatalogVersions courseCatalogVersions;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final CacheInvalidationTxExecutor cacheInvalidationTxExecutor;
+    private final Set<Long> unpublished = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    public CourseSeatChanges(
+            CourseCatalogVersions courseCatalogVersions,
+            CacheInvalidationBus cacheInvalidationBus,
+            CacheInvalidationTxExecutor cacheInvalidationTxExecutor
+    ) {
+        this.courseCatalogVersions = courseCatalogVersions;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cacheInvalidationTxExecutor = cacheInvalidationTxExecutor;
+    }
+
+    /**
+     * Records a seat change of the course, taking effect after commit when called inside a transaction.
+     * Several changes of one course in a transaction are applied once.
+     */
+    public void record(Long courseId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCommitted(Set.of(courseId));
+            return;
+        }
+        changedInCurrentTransaction().add(courseId);
+    }
+
+    /**
+     * Publishes the courses changed since the last flush to other nodes, one row per course.
+     * Returns how many courses were published.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.coalesce-window:PT0.2S}")
+    public synchronized int flush() {
+        if (unpublished.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> courseIds = new ArrayList<>();
+        for (Long courseId : unpublished) {
+            if (unpublished.remove(courseId)) {
+                courseIds.add(courseId);
+            }
+        }
+        try {
+            cacheInvalidationTxExecutor.publishToOtherNodes(CourseCatalogVersions.ENTITY_TYPE, courseIds, nextVersion());
+        } catch (RuntimeException exception) {
+            unpublished.addAll(courseIds);
+            log.warn("Failed to publish course seat changes. count={}", courseIds.size(), exception);
+            return 0;
+        }
+        return courseIds.size();
+    }
+
+    private Set<Long> changedInCurrentTransaction() {
+        @SuppressWarnings("unchecked")
+        Set<Long> courseIds = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (courseIds != null) {
+            return courseIds;
+        }
+
+        Set<Long> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CourseSeatChanges.this);
+                if (status == STATUS_COMMITTED) {
+                    applyCommitted(created);
+                }
+            }
+        });
+        return created;
+    }
+
+    private void applyCommitted(Set<Long> courseIds) {
+        courseIds.forEach(courseCatalogVersions::markChanged);
+        if (cacheInvalidationBus.isEnabled()) {
+            unpublished.addAll(courseIds);
+        }
+    }
+
+    /**
+     * Microsecond clock, kept strictly increasing on this node so receivers never drop a change as already applied.
+     */
+    private long nextVersion() {
+        long now = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        return lastVersion.updateAndGet(last -> Math.max(last + 1, now));
+    }
+}
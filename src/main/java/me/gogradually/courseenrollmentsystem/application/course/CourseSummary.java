@@ -1,7 +1,8 @@
 package me.gogradually.courseenrollmentsystem.application.course;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import me.gogradually.courseenrollmentsystem.application.common.ScheduleFormatter;
-import me.gogradually.courseenrollmentsystem.domain.course.Course;
 
 public record CourseSummary(
     Long id,
@@ -17,19 +18,36 @@ public record CourseSummary(
     String professorName
 ) {
 
-    public static CourseSummary from(Course course) {
-        return new CourseSummary(
-            course.getId(),
-            course.getCourseCode(),
-            course.getName(),
-            course.getCredits(),
-            course.getCapacity(),
-            course.getEnrolledCount(),
-            ScheduleFormatter.format(course.getTimeSlot()),
-            course.getDepartment().getId(),
-            course.getDepartment().getName(),
-            course.getProfessor().getId(),
-            course.getProfessor().getName()
+    /**
+     * JPQL constructor-expression target: takes the raw time slot columns and formats the schedule.
+     */
+    public CourseSummary(
+        Long id,
+        String courseCode,
+        String name,
+        Integer credits,
+        Integer capacity,
+        Integer enrolled,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        Long departmentId,
+        String departmentName,
+        Long professorId,
+        String professorName
+    ) {
+        this(
+            id,
+            courseCode,
+            name,
+            credits,
+            capacity,
+            enrolled,
+            ScheduleFormatter.format(dayOfWeek, startTime, endTime),
+            departmentId,
+            departmentName,
+            professorId,
+            professorName
         );
     }
 }
@@ -0,0 +1,22 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads catalog rows straight into {@link CourseSummary} without loading managed entities.
+ */
+public interface CourseSummaryReader {
+
+    List<CourseSummary> findPage(Long departmentId, int offset, int limit);
+
+    /**
+     * Keyset page: courses with an id above {@code afterId}, in id order.
+     */
+    List<CourseSummary> findPageAfter(Long departmentId, long afterId, int limit);
+
+    /**
+     * The courses among {@code courseIds} that exist, in no particular order.
+     */
+    List<CourseSummary> findByIds(Collection<Long> courseIds);
+}
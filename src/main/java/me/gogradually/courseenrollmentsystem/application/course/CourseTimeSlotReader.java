@@ -0,0 +1,14 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Reads course time slots by id.
+ */
+public interface CourseTimeSlotReader {
+
+    Map<Long, TimeSlot> findByCourseIds(Collection<Long> courseIds);
+}
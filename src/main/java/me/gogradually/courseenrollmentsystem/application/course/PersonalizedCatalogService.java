@@ -0,0 +1,56 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
+import me.gogradually.courseenrollmentsystem.application.course.CourseScheduleMasks.CourseSlot;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.StudentEnrollmentSnapshot;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.StudentEnrollmentSnapshotCache;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog pages annotated for one student. The student's snapshot (course ids, credit total, schedule mask) and
+ * the course masks come from caches, so a page costs its usual listing query plus one pass over the rows.
+ */
+@Service
+@RequiredArgsConstructor
+public class PersonalizedCatalogService {
+
+    private final CourseQueryService courseQueryService;
+    private final StudentEnrollmentSnapshotCache studentEnrollmentSnapshotCache;
+    private final CourseScheduleMasks courseScheduleMasks;
+
+    public List<PersonalizedCourse> getCourses(Long studentId, Long departmentId, Integer offset, Integer limit) {
+        StudentEnrollmentSnapshot snapshot = studentEnrollmentSnapshotCache.get(studentId);
+        return annotate(snapshot, courseQueryService.getCourses(departmentId, offset, limit));
+    }
+
+    public KeysetPage<PersonalizedCourse> getCoursesAfter(Long studentId, Long departmentId, long afterId, Integer limit) {
+        StudentEnrollmentSnapshot snapshot = studentEnrollmentSnapshotCache.get(studentId);
+        KeysetPage<CourseSummary> page = courseQueryService.getCoursesAfter(departmentId, afterId, limit);
+        return new KeysetPage<>(annotate(snapshot, page.items()), page.nextAfterId());
+    }
+
+    private List<PersonalizedCourse> annotate(StudentEnrollmentSnapshot snapshot, List<CourseSummary> courses) {
+        Map<Long, CourseSlot> slots = courseScheduleMasks.get(courses.stream().map(CourseSummary::id).toList());
+        return courses.stream()
+                .map(course -> annotate(snapshot, course, slots.get(course.id())))
+                .toList();
+    }
+
+    private PersonalizedCourse annotate(StudentEnrollmentSnapshot snapshot, CourseSummary course, CourseSlot slot) {
+        boolean full = course.enrolled() >= course.capacity();
+        if (snapshot.isEnrolledIn(course.id())) {
+            return new PersonalizedCourse(course, true, false, false, full);
+        }
+        return new PersonalizedCourse(
+                course,
+                false,
+                slot != null && snapshot.conflictsWith(slot.timeSlot(), slot.mask()),
+                snapshot.exceedsCreditLimitWith(course.credits()),
+                full
+        );
+    }
+}
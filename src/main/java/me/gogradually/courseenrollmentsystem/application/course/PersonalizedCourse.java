@@ -0,0 +1,19 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+/**
+ * A catalog row with what would currently stop the student from enrolling in it. Flags are a point-in-time hint;
+ * the enrollment rules remain authoritative.
+ *
+ * @param enrolled           the student already has the course; the other student flags are then false
+ * @param scheduleConflict   overlaps one of the student's courses
+ * @param exceedsCreditLimit would take the student over the credit limit
+ * @param full               no seat left
+ */
+public record PersonalizedCourse(
+    CourseSummary course,
+    boolean enrolled,
+    boolean scheduleConflict,
+    boolean exceedsCreditLimit,
+    boolean full
+) {
+}
@@ -0,0 +1,16 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+public record SeatAvailability(
+    long courseId,
+    long departmentId,
+    int capacity,
+    int enrolled
+) {
+
+    /**
+     * JPQL constructor-expression target.
+     */
+    public SeatAvailability(Long courseId, Long departmentId, Integer capacity, Integer enrolled) {
+        this(courseId.longValue(), departmentId.longValue(), capacity.intValue(), enrolled.intValue());
+    }
+}
@@ -0,0 +1,14 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import java.util.List;
+
+/**
+ * Seat counts as of {@code version}. With {@code full} the list holds every course and replaces what the
+ * client has; otherwise it holds only the courses changed after the requested version.
+ */
+public record SeatAvailabilityChanges(
+    long version,
+    boolean full,
+    List<SeatAvailability> seats
+) {
+}
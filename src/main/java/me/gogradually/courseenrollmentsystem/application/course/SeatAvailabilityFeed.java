@@ -0,0 +1,140 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Seat counts of every course in an immutable snapshot tagged with the catalog version. Readers never block:
+ * the first read after a committed seat change re-reads only the changed seats into a new snapshot, while
+ * concurrent readers keep getting the previous one.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityFeed {
+
+    private static final int MAX_PARTIAL_REFRESH = 500;
+
+    private final SeatAvailabilityReader seatAvailabilityReader;
+    private final CourseCatalogVersions courseCatalogVersions;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * Every course when {@code since} is absent or unknown to this node, otherwise the courses changed after it.
+     */
+    public SeatAvailabilityChanges changesSince(Long since) {
+        return current().changesSince(since);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                return refreshed();
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        if (current.version() == courseCatalogVersions.current() || !refreshLock.tryLock()) {
+            return current;
+        }
+        try {
+            return refreshed();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot refreshed() {
+        Snapshot current = snapshot.get();
+        long version = courseCatalogVersions.current();
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        Snapshot next;
+        if (current == null) {
+            next = Snapshot.of(version, version, seatAvailabilityReader.findAll());
+        } else {
+            List<Long> changed = courseCatalogVersions.changedSince(current.version());
+            next = changed.size() > MAX_PARTIAL_REFRESH
+                    ? Snapshot.of(current.baseVersion(), version, seatAvailabilityReader.findAll())
+                    : current.with(version, seatAvailabilityReader.findByCourseIds(changed));
+            if (next == null) {
+                next = Snapshot.of(current.baseVersion(), version, seatAvailabilityReader.findAll());
+            }
+        }
+        snapshot.set(next);
+        return next;
+    }
+
+    /**
+     * Parallel arrays ordered by course id. {@code changedAt} is the snapshot version that last changed a course.
+     */
+    private record Snapshot(
+            long baseVersion,
+            long version,
+            long[] courseIds,
+            long[] departmentIds,
+            int[] capacities,
+            int[] enrolled,
+            long[] changedAt
+    ) {
+
+        static Snapshot of(long baseVersion, long version, List<SeatAvailability> seats) {
+            List<SeatAvailability> sorted = seats.stream()
+                    .sorted((left, right) -> Long.compare(left.courseId(), right.courseId()))
+                    .toList();
+            long[] courseIds = new long[sorted.size()];
+            long[] departmentIds = new long[sorted.size()];
+            int[] capacities = new int[sorted.size()];
+            int[] enrolled = new int[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                courseIds[i] = sorted.get(i).courseId();
+                departmentIds[i] = sorted.get(i).departmentId();
+                capacities[i] = sorted.get(i).capacity();
+                enrolled[i] = sorted.get(i).enrolled();
+            }
+            long[] changedAt = new long[sorted.size()];
+            Arrays.fill(changedAt, version);
+            return new Snapshot(baseVersion, version, courseIds, departmentIds, capacities, enrolled, changedAt);
+        }
+
+        /**
+         * Copy with the given seats replaced, or null when a seat belongs to a course this snapshot does not know.
+         */
+        Snapshot with(long nextVersion, List<SeatAvailability> seats) {
+            int[] nextCapacities = capacities.clone();
+            int[] nextEnrolled = enrolled.clone();
+            long[] nextChangedAt = changedAt.clone();
+            for (SeatAvailability seat : seats) {
+                int index = Arrays.binarySearch(courseIds, seat.courseId());
+                if (index < 0) {
+                    return null;
+                }
+                nextCapacities[index] = seat.capacity();
+                nextEnrolled[index] = seat.enrolled();
+                nextChangedAt[index] = nextVersion;
+            }
+            return new Snapshot(baseVersion, nextVersion, courseIds, departmentIds, nextCapacities, nextEnrolled, nextChangedAt);
+        }
+
+        SeatAvailabilityChanges changesSince(Long since) {
+            boolean full = since == null || since < baseVersion || since > version;
+            List<SeatAvailability> seats = new ArrayList<>();
+            for (int i = 0; i < courseIds.length; i++) {
+                if (full || changedAt[i] > since) {
+                    seats.add(new SeatAvailability(courseIds[i], departmentIds[i], capacities[i], enrolled[i]));
+                }
+            }
+            return new SeatAvailabilityChanges(version, full, seats);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads seat counts without loading managed entities, always from the primary.
+ */
+public interface SeatAvailabilityReader {
+
+    List<SeatAvailability> findAll();
+
+    List<SeatAvailability> findByCourseIds(Collection<Long> courseIds);
+}
@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import java.util.List;
+
+/**
+ * Receives committed seat changes, at most one entry per course per publish interval.
+ * Called on the scheduler thread, so implementations hand slow work such as network writes to their own threads.
+ */
+public interface SeatChangeListener {
+
+    void onSeatChanges(long version, List<SeatAvailability> seats);
+}
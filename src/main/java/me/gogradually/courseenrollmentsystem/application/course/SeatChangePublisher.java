@@ -0,0 +1,51 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single publisher of seat changes. Each tick reads what changed since the previous tick from the
+ * availability snapshot, so several commits on one course within an interval reach listeners as one entry
+ * with the latest counts.
+ */
+@Component
+public class SeatChangePublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatChangePublisher.class);
+
+    private final SeatAvailabilityFeed seatAvailabilityFeed;
+    private final ObjectProvider<SeatChangeListener> listeners;
+    private Long publishedVersion;
+
+    public SeatChangePublisher(SeatAvailabilityFeed seatAvailabilityFeed, ObjectProvider<SeatChangeListener> listeners) {
+        this.seatAvailabilityFeed = seatAvailabilityFeed;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Hands the changes since the last tick to the listeners. Returns how many courses changed.
+     */
+    @Scheduled(fixedDelayString = "${app.course.seat-stream.interval:PT1S}")
+    public synchronized int publish() {
+        SeatAvailabilityChanges changes = seatAvailabilityFeed.changesSince(publishedVersion);
+        boolean baseline = publishedVersion == null || changes.full();
+        publishedVersion = changes.version();
+        if (baseline || changes.seats().isEmpty()) {
+            return 0;
+        }
+
+        listeners.orderedStream().forEach(listener -> notify(listener, changes));
+        return changes.seats().size();
+    }
+
+    private void notify(SeatChangeListener listener, SeatAvailabilityChanges changes) {
+        try {
+            listener.onSeatChanges(changes.version(), changes.seats());
+        } catch (RuntimeException exception) {
+            log.warn("Seat change listener failed. version={}", changes.version(), exception);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Live seat change stream.
+ *
+ * @param interval  publish interval, also the coalescing window per course
+ * @param timeout   lifetime of one stream connection before the client reconnects
+ * @param heartbeat idle time after which a comment is sent to detect closed connections
+ * @param sendQueue events waiting to be sent to one subscriber; a subscriber that falls further behind is
+ *                  disconnected and catches up by reconnecting with its last event id
+ */
+@ConfigurationProperties(prefix = "app.course.seat-stream")
+public record SeatStreamProperties(
+        Duration interval,
+        Duration timeout,
+        Duration heartbeat,
+        Integer sendQueue
+) {
+
+    public SeatStreamProperties {
+        if (interval == null) {
+            interval = Duration.ofSeconds(1);
+        }
+        if (timeout == null) {
+            timeout = Duration.ofMinutes(30);
+        }
+        if (heartbeat == null) {
+            heartbeat = Duration.ofSeconds(15);
+        }
+        if (sendQueue == null) {
+            sendQueue = 64;
+        }
+        if (sendQueue <= 0) {
+            throw new IllegalArgumentException("sendQueue must be positive");
+        }
+    }
+}
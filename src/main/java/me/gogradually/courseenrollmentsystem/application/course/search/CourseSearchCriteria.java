@@ -0,0 +1,32 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Search filters; a null filter matches every course.
+ *
+ * @param startsAtOrAfter course starts at or after this time
+ * @param endsAtOrBefore  course ends at or before this time
+ * @param openOnly        only courses with a free seat
+ * @param query           text contained in the course name or code, ignoring case and spaces
+ */
+public record CourseSearchCriteria(
+    Long departmentId,
+    Long professorId,
+    Integer credits,
+    DayOfWeek dayOfWeek,
+    LocalTime startsAtOrAfter,
+    LocalTime endsAtOrBefore,
+    boolean openOnly,
+    String query,
+    CourseSearchSort sort,
+    boolean descending
+) {
+
+    public CourseSearchCriteria {
+        if (sort == null) {
+            sort = CourseSearchSort.CODE;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Catalog attributes of a course that do not change with enrollments.
+ */
+public record CourseSearchDocument(
+    Long id,
+    String courseCode,
+    String name,
+    int credits,
+    DayOfWeek dayOfWeek,
+    LocalTime startTime,
+    LocalTime endTime,
+    Long departmentId,
+    String departmentName,
+    Long professorId,
+    String professorName
+) {
+
+    /**
+     * JPQL constructor-expression target.
+     */
+    public CourseSearchDocument(
+        Long id,
+        String courseCode,
+        String name,
+        Integer credits,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        Long departmentId,
+        String departmentName,
+        Long professorId,
+        String professorName
+    ) {
+        this(
+            id,
+            courseCode,
+            name,
+            credits.intValue(),
+            dayOfWeek,
+            startTime,
+            endTime,
+            departmentId,
+            departmentName,
+            professorId,
+            professorName
+        );
+    }
+}
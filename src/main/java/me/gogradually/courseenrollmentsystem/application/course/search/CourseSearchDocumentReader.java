@@ -0,0 +1,11 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import java.util.List;
+
+/**
+ * Reads the whole catalog for the search index without loading managed entities.
+ */
+public interface CourseSearchDocumentReader {
+
+    List<CourseSearchDocument> findAll();
+}
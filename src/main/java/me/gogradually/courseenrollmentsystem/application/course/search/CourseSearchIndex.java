@@ -0,0 +1,276 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import me.gogradually.courseenrollmentsystem.application.common.ScheduleFormatter;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailability;
+
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable search index over the catalog. Every course has a position; each facet value maps to a bitset of
+ * positions, text is indexed by character bigram, and result orders are precomputed so a query is a few bitset
+ * intersections followed by one walk over a sort order.
+ *
+ * <p>Catalog attributes are shared between generations; {@link #withSeats} copies only the seat arrays, the
+ * open-seat bitset and the fill-rate order.
+ */
+final class CourseSearchIndex {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final long seatVersion;
+    private final CourseSearchDocument[] documents;
+    private final String[] schedules;
+    private final String[] searchTexts;
+    private final Map<Long, Integer> positions;
+    private final Map<Long, BitSet> byDepartment;
+    private final Map<Long, BitSet> byProfessor;
+    private final Map<Integer, BitSet> byCredits;
+    private final Map<DayOfWeek, BitSet> byDay;
+    private final Map<String, BitSet> byBigram;
+    private final int[] codeOrder;
+    private final int[] creditsOrder;
+    private final int[] capacities;
+    private final int[] enrolled;
+    private final BitSet openSeats;
+    private final int[] fillRateOrder;
+
+    private CourseSearchIndex(CourseSearchIndex catalog, long seatVersion, int[] capacities, int[] enrolled) {
+        this.seatVersion = seatVersion;
+        this.documents = catalog.documents;
+        this.schedules = catalog.schedules;
+        this.searchTexts = catalog.searchTexts;
+        this.positions = catalog.positions;
+        this.byDepartment = catalog.byDepartment;
+        this.byProfessor = catalog.byProfessor;
+        this.byCredits = catalog.byCredits;
+        this.byDay = catalog.byDay;
+        this.byBigram = catalog.byBigram;
+        this.codeOrder = catalog.codeOrder;
+        this.creditsOrder = catalog.creditsOrder;
+        this.capacities = capacities;
+        this.enrolled = enrolled;
+        this.openSeats = openSeats(capacities, enrolled);
+        this.fillRateOrder = fillRateOrder(documents, capacities, enrolled);
+    }
+
+    private CourseSearchIndex(List<CourseSearchDocument> documents, List<SeatAvailability> seats, long seatVersion) {
+        this.seatVersion = seatVersion;
+        this.documents = documents.stream()
+                .sorted(Comparator.comparing(CourseSearchDocument::id))
+                .toArray(CourseSearchDocument[]::new);
+        int size = this.documents.length;
+        this.schedules = new String[size];
+        this.searchTexts = new String[size];
+        this.positions = new HashMap<>(size * 2);
+        this.byDepartment = new HashMap<>();
+        this.byProfessor = new HashMap<>();
+        this.byCredits = new HashMap<>();
+        this.byDay = new EnumMap<>(DayOfWeek.class);
+        this.byBigram = new HashMap<>();
+        for (int position = 0; position < size; position++) {
+            CourseSearchDocument document = this.documents[position];
+            schedules[position] = ScheduleFormatter.format(
+                    document.dayOfWeek(),
+                    document.startTime(),
+                    document.endTime()
+            );
+            searchTexts[position] = normalize(document.courseCode() + " " + document.name());
+            positions.put(document.id(), position);
+            byDepartment.computeIfAbsent(document.departmentId(), ignored -> new BitSet(size)).set(position);
+            byProfessor.computeIfAbsent(document.professorId(), ignored -> new BitSet(size)).set(position);
+            byCredits.computeIfAbsent(document.credits(), ignored -> new BitSet(size)).set(position);
+            byDay.computeIfAbsent(document.dayOfWeek(), ignored -> new BitSet(size)).set(position);
+            String text = searchTexts[position];
+            for (int i = 0; i + 1 < text.length(); i++) {
+                byBigram.computeIfAbsent(text.substring(i, i + 2), ignored -> new BitSet(size)).set(position);
+            }
+        }
+        this.codeOrder = order(size, Comparator.comparing(position -> this.documents[position].courseCode()));
+        this.creditsOrder = order(size, Comparator.comparingInt(position -> this.documents[position].credits()));
+
+        this.capacities = new int[size];
+        this.enrolled = new int[size];
+        for (SeatAvailability seat : seats) {
+            Integer position = positions.get(seat.courseId());
+            if (position != null) {
+                capacities[position] = seat.capacity();
+                enrolled[position] = seat.enrolled();
+            }
+        }
+        this.openSeats = openSeats(capacities, enrolled);
+        this.fillRateOrder = fillRateOrder(this.documents, capacities, enrolled);
+    }
+
+    static CourseSearchIndex build(List<CourseSearchDocument> documents, List<SeatAvailability> seats, long seatVersion) {
+        return new CourseSearchIndex(documents, seats, seatVersion);
+    }
+
+    long seatVersion() {
+        return seatVersion;
+    }
+
+    /**
+     * Returns a generation with the given seat counts applied, or null when a course is not in this index and
+     * the catalog has to be reloaded.
+     */
+    CourseSearchIndex withSeats(long version, List<SeatAvailability> changed) {
+        int[] nextCapacities = capacities.clone();
+        int[] nextEnrolled = enrolled.clone();
+        for (SeatAvailability seat : changed) {
+            Integer position = positions.get(seat.courseId());
+            if (position == null) {
+                return null;
+            }
+            nextCapacities[position] = seat.capacity();
+            nextEnrolled[position] = seat.enrolled();
+        }
+        return new CourseSearchIndex(this, version, nextCapacities, nextEnrolled);
+    }
+
+    CourseSearchResult search(CourseSearchCriteria criteria, int offset, int limit) {
+        BitSet matches = matches(criteria);
+        int total = matches.cardinality();
+        List<CourseSummary> page = new ArrayList<>(Math.min(limit, Math.max(total - offset, 0)));
+        if (offset >= total) {
+            return new CourseSearchResult(total, page);
+        }
+
+        int[] order = order(criteria.sort());
+        int skipped = 0;
+        for (int i = 0; i < order.length && page.size() < limit; i++) {
+            int position = order[criteria.descending() ? order.length - 1 - i : i];
+            if (!matches.get(position)) {
+                continue;
+            }
+            if (skipped++ < offset) {
+                continue;
+            }
+            page.add(summary(position));
+        }
+        return new CourseSearchResult(total, page);
+    }
+
+    private BitSet matches(CourseSearchCriteria criteria) {
+        BitSet matches = new BitSet(documents.length);
+        matches.set(0, documents.length);
+        if (criteria.departmentId() != null) {
+            matches.and(byDepartment.getOrDefault(criteria.departmentId(), EMPTY));
+        }
+        if (criteria.professorId() != null) {
+            matches.and(byProfessor.getOrDefault(criteria.professorId(), EMPTY));
+        }
+        if (criteria.credits() != null) {
+            matches.and(byCredits.getOrDefault(criteria.credits(), EMPTY));
+        }
+        if (criteria.dayOfWeek() != null) {
+            matches.and(byDay.getOrDefault(criteria.dayOfWeek(), EMPTY));
+        }
+        if (criteria.openOnly()) {
+            matches.and(openSeats);
+        }
+
+        String query = criteria.query() == null ? "" : normalize(criteria.query());
+        for (int i = 0; i + 1 < query.length() && !matches.isEmpty(); i++) {
+            matches.and(byBigram.getOrDefault(query.substring(i, i + 2), EMPTY));
+        }
+
+        boolean timeFiltered = criteria.startsAtOrAfter() != null || criteria.endsAtOrBefore() != null;
+        if (!query.isEmpty() || timeFiltered) {
+            for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+                if (!searchTexts[position].contains(query) || !withinTime(documents[position], criteria)) {
+                    matches.clear(position);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private boolean withinTime(CourseSearchDocument document, CourseSearchCriteria criteria) {
+        if (criteria.startsAtOrAfter() != null && document.startTime().isBefore(criteria.startsAtOrAfter())) {
+            return false;
+        }
+        return criteria.endsAtOrBefore() == null || !document.endTime().isAfter(criteria.endsAtOrBefore());
+    }
+
+    private int[] order(CourseSearchSort sort) {
+        return switch (sort) {
+            case CODE -> codeOrder;
+            case CREDITS -> creditsOrder;
+            case FILL_RATE -> fillRateOrder;
+        };
+    }
+
+    private CourseSummary summary(int position) {
+        CourseSearchDocument document = documents[position];
+        return new CourseSummary(
+                document.id(),
+                document.courseCode(),
+                document.name(),
+                document.credits(),
+                capacities[position],
+                enrolled[position],
+                schedules[position],
+                document.departmentId(),
+                document.departmentName(),
+                document.professorId(),
+                document.professorName()
+        );
+    }
+
+    /**
+     * Case- and space-insensitive form; NFC so decomposed Hangul input matches precomposed catalog text.
+     */
+    static String normalize(String text) {
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static BitSet openSeats(int[] capacities, int[] enrolled) {
+        BitSet open = new BitSet(capacities.length);
+        for (int position = 0; position < capacities.length; position++) {
+            if (enrolled[position] < capacities[position]) {
+                open.set(position);
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Ascending by enrolled/capacity, compared by cross-multiplication; a course without seats counts as full.
+     * Positions follow id order, so the stable sort breaks ties by id.
+     */
+    private static int[] fillRateOrder(CourseSearchDocument[] documents, int[] capacities, int[] enrolled) {
+        return order(documents.length, (left, right) -> {
+            long leftCapacity = Math.max(capacities[left], 1);
+            long rightCapacity = Math.max(capacities[right], 1);
+            long leftEnrolled = capacities[left] == 0 ? 1 : enrolled[left];
+            long rightEnrolled = capacities[right] == 0 ? 1 : enrolled[right];
+            return Long.compare(leftEnrolled * rightCapacity, rightEnrolled * leftCapacity);
+        });
+    }
+
+    private static int[] order(int size, Comparator<Integer> comparator) {
+        Integer[] boxed = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxed, comparator);
+        return Arrays.stream(boxed).mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,14 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+
+import java.util.List;
+
+/**
+ * One page of matches and the number of all matches.
+ */
+public record CourseSearchResult(
+    int total,
+    List<CourseSummary> courses
+) {
+}
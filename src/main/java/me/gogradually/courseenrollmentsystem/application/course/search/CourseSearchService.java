@@ -0,0 +1,93 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogVersions;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityChanges;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityFeed;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Faceted course search served from an in-memory {@link CourseSearchIndex}. The catalog is loaded once; seat
+ * changes are applied from {@link SeatAvailabilityFeed} on the next query, and a course the index does not know
+ * triggers a full reload.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseSearchService {
+
+    private final CourseSearchDocumentReader courseSearchDocumentReader;
+    private final SeatAvailabilityFeed seatAvailabilityFeed;
+    private final CourseCatalogVersions courseCatalogVersions;
+    private final AtomicReference<CourseSearchIndex> index = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public CourseSearchResult search(CourseSearchCriteria criteria, Integer offset, Integer limit) {
+        return current().search(criteria, normalizeOffset(offset), normalizeLimit(limit));
+    }
+
+    private CourseSearchIndex current() {
+        CourseSearchIndex current = index.get();
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                return refreshed();
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        if (current.seatVersion() == courseCatalogVersions.current() || !refreshLock.tryLock()) {
+            return current;
+        }
+        try {
+            return refreshed();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CourseSearchIndex refreshed() {
+        CourseSearchIndex current = index.get();
+        if (current == null) {
+            return rebuilt();
+        }
+
+        SeatAvailabilityChanges changes = seatAvailabilityFeed.changesSince(current.seatVersion());
+        if (changes.version() == current.seatVersion()) {
+            return current;
+        }
+        CourseSearchIndex next = changes.full() ? null : current.withSeats(changes.version(), changes.seats());
+        if (next == null) {
+            return rebuilt();
+        }
+        index.set(next);
+        return next;
+    }
+
+    private CourseSearchIndex rebuilt() {
+        SeatAvailabilityChanges seats = seatAvailabilityFeed.changesSince(null);
+        CourseSearchIndex rebuilt = CourseSearchIndex.build(
+                courseSearchDocumentReader.findAll(),
+                seats.seats(),
+                seats.version()
+        );
+        index.set(rebuilt);
+        return rebuilt;
+    }
+
+    private int normalizeOffset(Integer offset) {
+        if (offset == null || offset < 0) {
+            return 0;
+        }
+        return offset;
+    }
+
+    private int normalizeLimit(Integer limit) {
+        if (limit == null || limit < 1) {
+            return 50;
+        }
+        return Math.min(limit, 100);
+    }
+}
@@ -0,0 +1,7 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+public enum CourseSearchSort {
+    CODE,
+    CREDITS,
+    FILL_RATE
+}
@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.eligibility;
+
+/**
+ * Reasons an enrollment request would currently be rejected.
+ */
+public enum EligibilityViolation {
+    COURSE_NOT_FOUND,
+    DUPLICATE,
+    CREDIT_LIMIT,
+    SCHEDULE_CONFLICT,
+    CAPACITY
+}
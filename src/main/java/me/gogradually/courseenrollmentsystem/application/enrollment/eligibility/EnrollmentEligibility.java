@@ -0,0 +1,14 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.eligibility;
+
+import java.util.List;
+
+public record EnrollmentEligibility(
+    Long courseId,
+    boolean eligible,
+    List<EligibilityViolation> violations
+) {
+
+    public static EnrollmentEligibility of(Long courseId, List<EligibilityViolation> violations) {
+        return new EnrollmentEligibility(courseId, violations.isEmpty(), List.copyOf(violations));
+    }
+}
@@ -0,0 +1,88 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.eligibility;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.ParallelLookupExecutor;
+import me.gogradually.courseenrollmentsystem.application.common.ParallelLookupExecutor.ForkedLookup;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.course.ScheduleMask;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Dry-run evaluation of enrollment rules without row locks or writes.
+ * The three lookups are independent, so they run concurrently in separate read-only transactions.
+ */
+@Service
+@RequiredArgsConstructor
+public class EnrollmentEligibilityService {
+
+    private static final String OPERATION = "eligibility";
+
+    private final ParallelLookupExecutor parallelLookupExecutor;
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    /**
+     * Returns, in request order, whether enrolling each course would currently be rejected and why.
+     * The result is a point-in-time hint; the enrollment strategies remain authoritative.
+     */
+    public List<EnrollmentEligibility> evaluate(Long studentId, List<Long> courseIds) {
+        return parallelLookupExecutor.record(OPERATION, "total", () -> evaluateConcurrently(studentId, courseIds));
+    }
+
+    private List<EnrollmentEligibility> evaluateConcurrently(Long studentId, List<Long> courseIds) {
+        ForkedLookup<Boolean> studentExists = parallelLookupExecutor.fork(
+                OPERATION, "student", () -> studentRepository.existsById(studentId)
+        );
+        ForkedLookup<List<Enrollment>> activeEnrollments = parallelLookupExecutor.fork(
+                OPERATION, "active-enrollments", () -> enrollmentRepository.findActiveByStudentId(studentId)
+        );
+        ForkedLookup<List<Course>> courses = parallelLookupExecutor.fork(
+                OPERATION, "courses", () -> courseRepository.findAllByIds(courseIds)
+        );
+
+        if (!studentExists.join()) {
+            throw new StudentNotFoundException(studentId);
+        }
+        StudentEnrollmentSnapshot snapshot = StudentEnrollmentSnapshot.of(studentId, activeEnrollments.join());
+        Map<Long, Course> coursesById = courses.join().stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+
+        return courseIds.stream()
+                .map(courseId -> evaluate(snapshot, courseId, coursesById.get(courseId)))
+                .toList();
+    }
+
+    private EnrollmentEligibility evaluate(StudentEnrollmentSnapshot snapshot, Long courseId, Course course) {
+        if (course == null) {
+            return EnrollmentEligibility.of(courseId, List.of(EligibilityViolation.COURSE_NOT_FOUND));
+        }
+
+        if (snapshot.isEnrolledIn(courseId)) {
+            return EnrollmentEligibility.of(courseId, List.of(EligibilityViolation.DUPLICATE));
+        }
+
+        List<EligibilityViolation> violations = new ArrayList<>();
+        if (snapshot.exceedsCreditLimitWith(course.getCredits())) {
+            violations.add(EligibilityViolation.CREDIT_LIMIT);
+        }
+        if (snapshot.conflictsWith(course.getTimeSlot(), ScheduleMask.of(course.getTimeSlot()))) {
+            violations.add(EligibilityViolation.SCHEDULE_CONFLICT);
+        }
+        if (course.getEnrolledCount() >= course.getCapacity()) {
+            violations.add(EligibilityViolation.CAPACITY);
+        }
+        return EnrollmentEligibility.of(courseId, violations);
+    }
+}
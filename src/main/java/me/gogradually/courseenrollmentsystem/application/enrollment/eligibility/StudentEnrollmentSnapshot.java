@@ -0,0 +1,60 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.eligibility;
+
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.ScheduleMask;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of a student's active enrollments used for lock-free rule evaluation.
+ */
+public record StudentEnrollmentSnapshot(
+    Long studentId,
+    Set<Long> activeCourseIds,
+    int totalCredits,
+    ScheduleMask scheduleMask,
+    List<TimeSlot> timeSlots
+) {
+
+    public static StudentEnrollmentSnapshot of(Long studentId, List<Enrollment> activeEnrollments) {
+        List<Course> courses = activeEnrollments.stream()
+                .map(Enrollment::getCourse)
+                .toList();
+
+        ScheduleMask scheduleMask = ScheduleMask.empty();
+        for (Course course : courses) {
+            scheduleMask = scheduleMask.union(ScheduleMask.of(course.getTimeSlot()));
+        }
+
+        return new StudentEnrollmentSnapshot(
+                studentId,
+                courses.stream().map(Course::getId).collect(Collectors.toUnmodifiableSet()),
+                courses.stream().mapToInt(Course::getCredits).sum(),
+                scheduleMask,
+                courses.stream().map(Course::getTimeSlot).toList()
+        );
+    }
+
+    public boolean isEnrolledIn(Long courseId) {
+        return activeCourseIds.contains(courseId);
+    }
+
+    public boolean exceedsCreditLimitWith(int requestCredits) {
+        return totalCredits + requestCredits > Student.MAX_CREDITS;
+    }
+
+    /**
+     * Uses the bitmask as a fast negative check and confirms mask hits against the exact time slots.
+     */
+    public boolean conflictsWith(TimeSlot timeSlot, ScheduleMask mask) {
+        if (!scheduleMask.intersects(mask)) {
+            return false;
+        }
+        return timeSlots.stream().anyMatch(timeSlot::overlaps);
+    }
+}
@@ -0,0 +1,61 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.eligibility;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentVersions;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Recently used students' enrollment snapshots, each valid while the student's enrollment version is unchanged.
+ * Loads run outside {@code ReplicaReadScope}, so they read the primary and see the student's own latest write.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentEnrollmentSnapshotCache {
+
+    static final int MAX_ENTRIES = 10_000;
+
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentEnrollmentVersions studentEnrollmentVersions;
+    private final Map<Long, VersionedSnapshot> snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, VersionedSnapshot> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * Returns the student's current snapshot, reading the enrollments only when they changed since the last read.
+     */
+    public StudentEnrollmentSnapshot get(Long studentId) {
+        long version = studentEnrollmentVersions.current(studentId);
+        VersionedSnapshot cached;
+        synchronized (snapshots) {
+            cached = snapshots.get(studentId);
+        }
+        if (cached != null && cached.version() == version) {
+            return cached.snapshot();
+        }
+
+        if (cached == null && !studentRepository.existsById(studentId)) {
+            throw new StudentNotFoundException(studentId);
+        }
+        StudentEnrollmentSnapshot snapshot = StudentEnrollmentSnapshot.of(
+                studentId,
+                enrollmentRepository.findActiveByStudentId(studentId)
+        );
+        synchronized (snapshots) {
+            snapshots.put(studentId, new VersionedSnapshot(version, snapshot));
+        }
+        return snapshot;
+    }
+
+    private record VersionedSnapshot(long version, StudentEnrollmentSnapshot snapshot) {
+    }
+}
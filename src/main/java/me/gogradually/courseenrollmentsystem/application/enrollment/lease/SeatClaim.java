@@ -0,0 +1,21 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.lease;
+
+/**
+ * One seat taken from a node-local lease, not yet recorded as used in the database.
+ */
+public final class SeatClaim {
+
+    private final SeatLeaseManager.LocalLease lease;
+
+    SeatClaim(SeatLeaseManager.LocalLease lease) {
+        this.lease = lease;
+    }
+
+    public Long leaseId() {
+        return lease.leaseId();
+    }
+
+    void giveBack() {
+        lease.giveBack();
+    }
+}
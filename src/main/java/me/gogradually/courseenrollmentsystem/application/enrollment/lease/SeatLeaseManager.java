@@ -0,0 +1,336 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.lease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterMembership;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterNode;
+import me.gogradually.courseenrollmentsystem.application.cluster.ConsistentHashRing;
+import me.gogradually.courseenrollmentsystem.application.cluster.CourseHandoffClient;
+import me.gogradually.courseenrollmentsystem.application.cluster.CourseOwnershipListener;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Serves seats of hot courses from blocks leased by this node (escrow), so concurrent admissions on
+ * several nodes stop serializing on the single course seat row. Each admission still records the used
+ * seat on this node's own lease row in the admission transaction, which keeps the database authoritative:
+ * a lease that was returned or reclaimed rejects the update and the caller falls back to the course row.
+ * Unused seats go back to the course when a lease expires, stays idle, or the node shuts down.
+ * In cluster mode only the owner of a course leases its seats, and a lease follows the course to its new owner.
+ * Database work never runs under a slot lock: a request that finds another one refilling the slot falls back to
+ * the course row instead of waiting for it, so no thread ever holds the lock while it waits for a pooled connection.
+ */
+@Component
+public class SeatLeaseManager implements DisposableBean, CourseOwnershipListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatLeaseManager.class);
+    private static final int ORPHAN_BATCH_SIZE = 100;
+
+    private final SeatLeaseTxExecutor txExecutor;
+    private final CourseSeatLeaseRepository leaseRepository;
+    private final SeatLeaseProperties properties;
+    private final ClusterMembership membership;
+    private final CourseHandoffClient handoffClient;
+    private final Counter leasedSeats;
+    private final Counter returnedSeats;
+    private final ConcurrentMap<Long, LeaseSlot> slots = new ConcurrentHashMap<>();
+
+    public SeatLeaseManager(
+            SeatLeaseTxExecutor txExecutor,
+            CourseSeatLeaseRepository leaseRepository,
+            SeatLeaseProperties properties,
+            ClusterMembership membership,
+            CourseHandoffClient handoffClient,
+            MeterRegistry meterRegistry
+    ) {
+        this.txExecutor = txExecutor;
+        this.leaseRepository = leaseRepository;
+        this.properties = properties;
+        this.membership = membership;
+        this.handoffClient = handoffClient;
+        this.leasedSeats = meterRegistry.counter("enrollment.seat.lease.leased");
+        this.returnedSeats = meterRegistry.counter("enrollment.seat.lease.returned");
+    }
+
+    /**
+     * Whether seats of the course are served from this node's leases.
+     */
+    public boolean isLeasing(Long courseId) {
+        return properties.enabled() && membership.isOwnedLocally(courseId);
+    }
+
+    /**
+     * Takes one seat from this node's lease on the course, leasing a new block when the current one is used up.
+     * Call it outside the admission transaction, because leasing needs a connection of its own, and hand the seat
+     * back with {@link #giveBack} when the admission does not commit.
+     * Empty when the course is not leased here, another request is refilling the lease, or the course has no
+     * free seat left to lease.
+     */
+    public Optional<SeatClaim> tryClaim(Long courseId) {
+        if (!isLeasing(courseId)) {
+            return Optional.empty();
+        }
+
+        LeaseSlot slot = slots.computeIfAbsent(courseId, id -> new LeaseSlot());
+        LocalDateTime now = LocalDateTime.now();
+        Optional<SeatClaim> claim = slot.take(now);
+        if (claim.isEmpty()) {
+            claim = takeFromNewLease(courseId, slot, now);
+        }
+        return claim;
+    }
+
+    /**
+     * Records the claimed seat as used in the caller's transaction. False when the lease is no longer valid.
+     */
+    public boolean consume(SeatClaim claim) {
+        return leaseRepository.consume(claim.leaseId()) == 1;
+    }
+
+    /**
+     * Returns a claimed seat to the local lease after the admission failed.
+     */
+    public void giveBack(SeatClaim claim) {
+        claim.giveBack();
+    }
+
+    /**
+     * Returns expired and idle leases of this node, then reclaims leases that other nodes left behind.
+     */
+    @Scheduled(fixedDelayString = "${app.enrollment.seat-lease.sweep-interval:PT1S}")
+    public void sweep() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        slots.values().forEach(slot -> {
+            LocalLease lease = slot.detachIf(current -> current.isExpired(now) || isIdle(current, now));
+            if (lease != null) {
+                returnLease(lease);
+            }
+        });
+
+        txExecutor.findExpiredLeaseIds(now.minus(properties.orphanGrace()), ORPHAN_BATCH_SIZE)
+                .forEach(leaseId -> returnedSeats.increment(txExecutor.release(leaseId)));
+    }
+
+    /**
+     * Takes over a lease of a course this node now owns. A lease that cannot be used here is returned.
+     */
+    public void adopt(Long courseId, Long leaseId) {
+        if (!properties.enabled()) {
+            returnedSeats.increment(txExecutor.release(leaseId));
+            return;
+        }
+
+        LeaseSlot slot = slots.computeIfAbsent(courseId, id -> new LeaseSlot());
+        if (slot.current != null) {
+            returnedSeats.increment(txExecutor.release(leaseId));
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        txExecutor.adopt(leaseId, properties.nodeId(), now.plus(properties.ttl()))
+                .map(grant -> new LocalLease(grant, now))
+                .filter(lease -> !install(courseId, slot, lease))
+                .ifPresent(this::returnLease);
+    }
+
+    /**
+     * Hands leases of courses this node no longer owns to their new owners, returning them when that fails.
+     */
+    @Override
+    public void onOwnershipChanged(ConsistentHashRing ring, String selfId) {
+        slots.forEach((courseId, slot) -> {
+            if (ring.isOwner(selfId, courseId)) {
+                return;
+            }
+            slots.remove(courseId, slot);
+            LocalLease lease = slot.detachIf(current -> true);
+            if (lease != null) {
+                handOff(ring.ownerOf(courseId), courseId, lease);
+            }
+        });
+    }
+
+    /**
+     * Returns every lease held by this node.
+     */
+    public void returnAll() {
+        slots.values().forEach(slot -> {
+            LocalLease lease = slot.detachIf(current -> true);
+            if (lease != null) {
+                returnLease(lease);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            returnAll();
+        } catch (RuntimeException exception) {
+            log.warn("Failed to return seat leases on shutdown; they are reclaimed after expiry", exception);
+        }
+    }
+
+    /**
+     * Only one request refills a slot at a time; the others fall back to the course row instead of waiting.
+     * The new lease is installed only if the slot still belongs to this node, otherwise it is returned at once.
+     */
+    private Optional<SeatClaim> takeFromNewLease(Long courseId, LeaseSlot slot, LocalDateTime now) {
+        if (!slot.refilling.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            Optional<SeatClaim> claim = slot.take(now);
+            if (claim.isPresent()) {
+                return claim;
+            }
+
+            LocalLease previous = slot.detachIf(current -> !current.hasSeats(now));
+            if (previous != null) {
+                returnLease(previous);
+            }
+
+            Optional<SeatLeaseTxExecutor.LeaseGrant> grant = txExecutor.acquire(
+                    courseId,
+                    properties.nodeId(),
+                    properties.blockSize(),
+                    now.plus(properties.ttl())
+            );
+            if (grant.isEmpty()) {
+                return Optional.empty();
+            }
+            leasedSeats.increment(grant.get().seats());
+            LocalLease lease = new LocalLease(grant.get(), now);
+            if (!install(courseId, slot, lease)) {
+                returnLease(lease);
+                return Optional.empty();
+            }
+            return slot.take(now);
+        } finally {
+            slot.refilling.set(false);
+        }
+    }
+
+    private boolean install(Long courseId, LeaseSlot slot, LocalLease lease) {
+        slot.lock.lock();
+        try {
+            if (slot.current != null || slots.get(courseId) != slot) {
+                return false;
+            }
+            slot.current = lease;
+            return true;
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private boolean isIdle(LocalLease lease, LocalDateTime now) {
+        return lease.idleSince(now).compareTo(properties.idleReturn()) >= 0;
+    }
+
+    private void handOff(ClusterNode owner, Long courseId, LocalLease lease) {
+        if (owner == null || !handoffClient.handOffSeatLease(owner, courseId, lease.leaseId())) {
+            returnLease(lease);
+        }
+    }
+
+    private void returnLease(LocalLease lease) {
+        returnedSeats.increment(txExecutor.release(lease.leaseId()));
+    }
+
+    private static final class LeaseSlot {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile LocalLease current;
+
+        /**
+         * Clears the current lease if it matches, returning it so the caller can return it outside the lock.
+         */
+        private LocalLease detachIf(Predicate<LocalLease> condition) {
+            lock.lock();
+            try {
+                LocalLease lease = current;
+                if (lease == null || !condition.test(lease)) {
+                    return null;
+                }
+                current = null;
+                return lease;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Optional<SeatClaim> take(LocalDateTime now) {
+            LocalLease lease = current;
+            if (lease == null || !lease.tryTake(now)) {
+                return Optional.empty();
+            }
+            return Optional.of(new SeatClaim(lease));
+        }
+    }
+
+    static final class LocalLease {
+
+        private final Long leaseId;
+        private final LocalDateTime expiresAt;
+        private final AtomicInteger remaining;
+        private volatile LocalDateTime lastClaimedAt;
+
+        private LocalLease(SeatLeaseTxExecutor.LeaseGrant grant, LocalDateTime now) {
+            this.leaseId = grant.leaseId();
+            this.expiresAt = grant.expiresAt();
+            this.remaining = new AtomicInteger(grant.seats());
+            this.lastClaimedAt = now;
+        }
+
+        Long leaseId() {
+            return leaseId;
+        }
+
+        void giveBack() {
+            remaining.incrementAndGet();
+        }
+
+        private boolean tryTake(LocalDateTime now) {
+            if (isExpired(now)) {
+                return false;
+            }
+            int before = remaining.getAndUpdate(seats -> seats > 0 ? seats - 1 : seats);
+            if (before <= 0) {
+                return false;
+            }
+            lastClaimedAt = now;
+            return true;
+        }
+
+        private boolean hasSeats(LocalDateTime now) {
+            return !isExpired(now) && remaining.get() > 0;
+        }
+
+        private boolean isExpired(LocalDateTime now) {
+            return !now.isBefore(expiresAt);
+        }
+
+        private Duration idleSince(LocalDateTime now) {
+            return Duration.between(lastClaimedAt, now);
+        }
+    }
+}
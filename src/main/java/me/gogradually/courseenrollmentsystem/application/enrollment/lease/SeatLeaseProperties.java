@@ -0,0 +1,45 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.lease;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Escrow of course seats to application nodes.
+ *
+ * @param enabled     lease seat blocks for the atomic strategy
+ * @param nodeId      owner recorded on leases; a random id when blank
+ * @param blockSize   seats taken from the course per lease
+ * @param ttl         lifetime of a lease before its unused seats are returned
+ * @param idleReturn  idle time after which a lease is returned early
+ * @param orphanGrace extra time after expiry before any node reclaims a lease of a node that went away
+ */
+@ConfigurationProperties(prefix = "app.enrollment.seat-lease")
+public record SeatLeaseProperties(
+        boolean enabled,
+        String nodeId,
+        int blockSize,
+        Duration ttl,
+        Duration idleReturn,
+        Duration orphanGrace
+) {
+
+    public SeatLeaseProperties {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        if (blockSize <= 0) {
+            blockSize = 10;
+        }
+        if (ttl == null) {
+            ttl = Duration.ofSeconds(10);
+        }
+        if (idleReturn == null) {
+            idleReturn = Duration.ofSeconds(2);
+        }
+        if (orphanGrace == null) {
+            orphanGrace = Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.lease;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLease;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLeaseRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SeatLeaseTxExecutor {
+
+    private final CourseRepository courseRepository;
+    private final CourseSeatLeaseRepository leaseRepository;
+    private final CourseSeatChanges courseSeatChanges;
+
+    /**
+     * Moves up to {@code blockSize} free seats of the course into a new lease with one seat update.
+     * At most half of the free seats (rounded up) are leased, so a lease does not make the course look full to
+     * other nodes and to seat counts while seats it has not used yet are still left.
+     * The lease row is inserted before the seat row is locked to follow the global lock order.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<LeaseGrant> acquire(Long courseId, String nodeId, int blockSize, LocalDateTime expiresAt) {
+        CourseSeatLease lease = leaseRepository.save(new CourseSeatLease(courseId, nodeId, expiresAt));
+        Course course = courseRepository.findByIdForUpdate(courseId, LockWait.DEFAULT)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+
+        int free = course.getCapacity() - course.getEnrolledCount();
+        int seats = Math.min(blockSize, (free + 1) / 2);
+        if (seats <= 0 || courseRepository.incrementEnrolledCountByIfAvailable(courseId, seats) == 0) {
+            leaseRepository.delete(lease);
+            return Optional.empty();
+        }
+        lease.grant(seats);
+        courseSeatChanges.record(courseId);
+        return Optional.of(new LeaseGrant(lease.getId(), seats, expiresAt));
+    }
+
+    /**
+     * Gives the unused seats of a lease back to its course and deletes the lease.
+     * Returns 0 when the lease is already gone, so it is safe to call from several nodes.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int release(Long leaseId) {
+        Optional<CourseSeatLease> found = leaseRepository.findByIdForUpdate(leaseId);
+        if (found.isEmpty()) {
+            return 0;
+        }
+
+        CourseSeatLease lease = found.get();
+        int unused = lease.unused();
+        if (unused > 0) {
+            courseRepository.decrementEnrolledCountBy(lease.getCourseId(), unused);
+            courseSeatChanges.record(lease.getCourseId());
+        }
+        leaseRepository.delete(lease);
+        return unused;
+    }
+
+    /**
+     * Takes over a lease handed off by the previous owner of the course and returns its unused seats.
+     * Empty when the lease is already gone or fully used; a fully used lease is deleted.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<LeaseGrant> adopt(Long leaseId, String nodeId, LocalDateTime expiresAt) {
+        Optional<CourseSeatLease> found = leaseRepository.findByIdForUpdate(leaseId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        CourseSeatLease lease = found.get();
+        if (lease.unused() <= 0) {
+            leaseRepository.delete(lease);
+            return Optional.empty();
+        }
+        lease.transferTo(nodeId, expiresAt);
+        return Optional.of(new LeaseGrant(lease.getId(), lease.unused(), expiresAt));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredLeaseIds(LocalDateTime expiredBefore, int limit) {
+        return leaseRepository.findIdsExpiredBefore(expiredBefore, limit);
+    }
+
+    public record LeaseGrant(Long leaseId, int seats, LocalDateTime expiresAt) {
+    }
+}
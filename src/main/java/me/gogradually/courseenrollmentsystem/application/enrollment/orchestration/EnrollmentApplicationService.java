@@ -1,59 +1,90 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.orchestration;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.IsolationScope;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
 import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyRouter;
 import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentIsolationProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.tx.EnrollmentSwapTxExecutor;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import org.springframework.stereotype.Service;
 
 /**
  * Application service orchestrating enrollment and cancellation use cases.
+ * Each strategy runs inside an {@link IsolationScope} of its configured isolation level.
+ * Committed changes are recorded in {@link StudentWriteTokens} so the student's next reads see them.
+ * Per-student cache invalidations are recorded by the strategies inside their enrollment transactions.
  */
 @Service
 @RequiredArgsConstructor
 public class EnrollmentApplicationService {
 
     private final EnrollmentStrategyRouter enrollmentStrategyRouter;
+    private final EnrollmentSwapTxExecutor enrollmentSwapTxExecutor;
+    private final EnrollmentIsolationProperties isolationProperties;
+    private final StudentWriteTokens studentWriteTokens;
 
     /**
      * Registers a student to a course with the default strategy.
      */
     public Enrollment enroll(Long studentId, Long courseId) {
-        return enrollmentStrategyRouter.get(EnrollmentStrategyType.ATOMIC).enroll(studentId, courseId);
+        return enroll(EnrollmentStrategyType.ATOMIC, studentId, courseId);
     }
 
     /**
      * Registers a student with pessimistic course lock strategy.
      */
     public Enrollment enrollWithPessimisticLock(Long studentId, Long courseId) {
-        return enrollmentStrategyRouter.get(EnrollmentStrategyType.PESSIMISTIC).enroll(studentId, courseId);
+        return enroll(EnrollmentStrategyType.PESSIMISTIC, studentId, courseId);
     }
 
     /**
      * Registers a student with optimistic locking strategy.
      */
     public Enrollment enrollWithOptimisticLock(Long studentId, Long courseId) {
-        return enrollmentStrategyRouter.get(EnrollmentStrategyType.OPTIMISTIC).enroll(studentId, courseId);
+        return enroll(EnrollmentStrategyType.OPTIMISTIC, studentId, courseId);
     }
 
     /**
      * Registers a student with atomic update strategy.
      */
     public Enrollment enrollWithAtomicUpdate(Long studentId, Long courseId) {
-        return enrollmentStrategyRouter.get(EnrollmentStrategyType.ATOMIC).enroll(studentId, courseId);
+        return enroll(EnrollmentStrategyType.ATOMIC, studentId, courseId);
     }
 
     /**
      * Registers a student with separated transaction strategy.
      */
     public Enrollment enrollWithSeparatedTransaction(Long studentId, Long courseId) {
-        return enrollmentStrategyRouter.get(EnrollmentStrategyType.SEPARATED).enroll(studentId, courseId);
+        return enroll(EnrollmentStrategyType.SEPARATED, studentId, courseId);
+    }
+
+    /**
+     * Drops an active enrollment and enrolls another course atomically.
+     */
+    public Enrollment swap(Long studentId, Long dropEnrollmentId, Long addCourseId) {
+        Enrollment enrollment = enrollmentSwapTxExecutor.swap(studentId, dropEnrollmentId, addCourseId);
+        studentWriteTokens.recordWrite(studentId);
+        return enrollment;
     }
 
     /**
      * Cancels an active enrollment.
      */
     public void cancel(Long enrollmentId) {
-        enrollmentStrategyRouter.get(EnrollmentStrategyType.ATOMIC).cancel(enrollmentId);
+        IsolationScope.run(
+                isolationProperties.forStrategy(EnrollmentStrategyType.ATOMIC),
+                () -> enrollmentStrategyRouter.get(EnrollmentStrategyType.ATOMIC).cancel(enrollmentId)
+        );
+    }
+
+    private Enrollment enroll(EnrollmentStrategyType type, Long studentId, Long courseId) {
+        Enrollment enrollment = IsolationScope.call(
+                isolationProperties.forStrategy(type),
+                () -> enrollmentStrategyRouter.get(type).enroll(studentId, courseId)
+        );
+        studentWriteTokens.recordWrite(studentId);
+        return enrollment;
     }
 }
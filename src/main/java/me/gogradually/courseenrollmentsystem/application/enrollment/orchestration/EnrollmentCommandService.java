@@ -38,6 +38,14 @@ public class EnrollmentCommandService {
         return toResult(enrollment);
     }
 
+    /**
+     * Swaps an active enrollment for another course and returns the new enrollment.
+     */
+    public EnrollmentResult swap(Long studentId, Long dropEnrollmentId, Long addCourseId) {
+        Enrollment enrollment = enrollmentApplicationService.swap(studentId, dropEnrollmentId, addCourseId);
+        return toResult(enrollment);
+    }
+
     private EnrollmentResult toResult(Enrollment enrollment) {
         return new EnrollmentResult(
             enrollment.getId(),
@@ -0,0 +1,32 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.reconcile;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Release policy for PENDING reservations left behind by the separated strategy.
+ *
+ * @param staleAfter       age after which a pending reservation is considered abandoned
+ * @param batchSize        reservations released per transaction
+ * @param maxBatchesPerRun upper bound of batches per scheduled run
+ */
+@ConfigurationProperties(prefix = "app.enrollment.pending")
+public record PendingEnrollmentProperties(
+        Duration staleAfter,
+        int batchSize,
+        int maxBatchesPerRun
+) {
+
+    public PendingEnrollmentProperties {
+        if (staleAfter == null) {
+            staleAfter = Duration.ofSeconds(30);
+        }
+        if (batchSize <= 0) {
+            batchSize = 200;
+        }
+        if (maxBatchesPerRun <= 0) {
+            maxBatchesPerRun = 10;
+        }
+    }
+}
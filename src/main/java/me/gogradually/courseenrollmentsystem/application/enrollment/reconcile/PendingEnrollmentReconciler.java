@@ -0,0 +1,71 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.reconcile;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically releases PENDING reservations whose confirmation never arrived
+ * (e.g. the process died between the two separated transactions).
+ * {@code enrollment.pending.leaked} reports stale reservations seen by the last run and
+ * {@code enrollment.pending.recovered} counts seats given back.
+ */
+@Component
+public class PendingEnrollmentReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingEnrollmentReconciler.class);
+
+    private final PendingEnrollmentReleaseTxExecutor releaseTxExecutor;
+    private final PendingEnrollmentProperties properties;
+    private final Counter recovered;
+    private final AtomicInteger leaked = new AtomicInteger();
+
+    public PendingEnrollmentReconciler(
+            PendingEnrollmentReleaseTxExecutor releaseTxExecutor,
+            PendingEnrollmentProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.releaseTxExecutor = releaseTxExecutor;
+        this.properties = properties;
+        this.recovered = meterRegistry.counter("enrollment.pending.recovered");
+        meterRegistry.gauge("enrollment.pending.leaked", leaked);
+    }
+
+    @Scheduled(fixedDelayString = "${app.enrollment.pending.reconcile-interval:PT30S}")
+    public void reconcile() {
+        reconcileOlderThan(LocalDateTime.now().minus(properties.staleAfter()));
+    }
+
+    /**
+     * Releases reservations created before the cutoff, batch by batch, until a batch comes back short.
+     */
+    public ReconcileResult reconcileOlderThan(LocalDateTime createdBefore) {
+        int found = 0;
+        int released = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            PendingEnrollmentReleaseTxExecutor.BatchResult result =
+                    releaseTxExecutor.releaseBatch(createdBefore, properties.batchSize());
+            found += result.found();
+            released += result.released();
+            if (result.found() < properties.batchSize()) {
+                break;
+            }
+        }
+
+        leaked.set(found);
+        recovered.increment(released);
+        if (found > 0) {
+            log.info("Released stale pending enrollments. found={}, released={}", found, released);
+        }
+        return new ReconcileResult(found, released);
+    }
+
+    public record ReconcileResult(int found, int released) {
+    }
+}
@@ -0,0 +1,57 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.reconcile;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Component
+@RequiredArgsConstructor
+public class PendingEnrollmentReleaseTxExecutor {
+
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseSeatChanges courseSeatChanges;
+
+    /**
+     * Releases one batch of stale reservations: courses are locked in ascending id order, then each
+     * reservation is deleted in ascending id order only while still PENDING, and every course seat count
+     * drops by the number actually deleted. A reservation confirmed concurrently is skipped,
+     * so rerunning a batch is harmless.
+     *
+     * @return stale reservations found and reservations actually released
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult releaseBatch(LocalDateTime createdBefore, int batchSize) {
+        List<Enrollment> stale = enrollmentRepository.findPendingCreatedBefore(createdBefore, batchSize);
+        new TreeSet<>(stale.stream().map(enrollment -> enrollment.getCourse().getId()).toList())
+                .forEach(courseId -> courseRepository.findByIdForUpdate(courseId, LockWait.DEFAULT));
+
+        Map<Long, Integer> releasedByCourse = new TreeMap<>();
+        stale.stream()
+                .sorted(Comparator.comparing(Enrollment::getId))
+                .filter(enrollment -> enrollmentRepository.deletePendingById(enrollment.getId()) == 1)
+                .forEach(enrollment -> releasedByCourse.merge(enrollment.getCourse().getId(), 1, Integer::sum));
+        releasedByCourse.forEach(courseRepository::decrementEnrolledCountBy);
+        releasedByCourse.keySet().forEach(courseSeatChanges::record);
+
+        courseRepository.clearPersistenceContext();
+        int released = releasedByCourse.values().stream().mapToInt(Integer::intValue).sum();
+        return new BatchResult(stale.size(), released);
+    }
+
+    public record BatchResult(int found, int released) {
+    }
+}
@@ -0,0 +1,34 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseCapacityExceededException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rejects requests for courses that already look full.
+ * This is a cheap early reject; the seat update of each strategy stays authoritative.
+ */
+@Component
+public class CourseCapacityRule implements EnrollmentRule {
+
+    @Override
+    public String name() {
+        return "capacity";
+    }
+
+    @Override
+    public RuleReadRequirement readRequirement() {
+        return RuleReadRequirement.CACHEABLE;
+    }
+
+    @Override
+    public void check(EnrollmentRuleContext context) {
+        if (context.seatReserved()) {
+            return;
+        }
+        Course course = context.requestedCourse();
+        if (course.getEnrolledCount() >= course.getCapacity()) {
+            throw new CourseCapacityExceededException(context.courseId(), course.getCapacity());
+        }
+    }
+}
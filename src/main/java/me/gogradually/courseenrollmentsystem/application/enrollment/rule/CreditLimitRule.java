@@ -0,0 +1,26 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CreditLimitRule implements EnrollmentRule {
+
+    @Override
+    public String name() {
+        return "credit-limit";
+    }
+
+    @Override
+    public RuleReadRequirement readRequirement() {
+        return RuleReadRequirement.LOCKED_READ;
+    }
+
+    @Override
+    public void check(EnrollmentRuleContext context) {
+        int currentCredits = context.otherActiveCourses().stream()
+                .mapToInt(Course::getCredits)
+                .sum();
+        context.student().validateCreditLimit(currentCredits, context.requestedCourse().getCredits());
+    }
+}
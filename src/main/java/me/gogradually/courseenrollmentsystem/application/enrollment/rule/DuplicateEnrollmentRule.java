@@ -0,0 +1,48 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.DuplicateCheckMode;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentValidationProperties;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.DuplicateEnrollmentException;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class DuplicateEnrollmentRule implements EnrollmentRule {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentValidationProperties validationProperties;
+
+    @Override
+    public String name() {
+        return "duplicate";
+    }
+
+    @Override
+    public RuleReadRequirement readRequirement() {
+        return RuleReadRequirement.LOCKED_READ;
+    }
+
+    @Override
+    public void check(EnrollmentRuleContext context) {
+        if (context.rowInserted()) {
+            return;
+        }
+        if (validationProperties.duplicateCheck() == DuplicateCheckMode.PRE_CHECK) {
+            if (enrollmentRepository.existsActiveByStudentIdAndCourseId(context.studentId(), context.courseId())) {
+                throw new DuplicateEnrollmentException(context.studentId(), context.courseId());
+            }
+            return;
+        }
+
+        // unique-index mode: concurrent duplicates are rejected by the index, this only reads already loaded rows
+        boolean alreadyActive = context.activeEnrollments().stream()
+                .anyMatch(enrollment -> Objects.equals(enrollment.getCourse().getId(), context.courseId()));
+        if (alreadyActive) {
+            throw new DuplicateEnrollmentException(context.studentId(), context.courseId());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+/**
+ * Single enrollment business rule evaluated by {@link EnrollmentRuleChain}.
+ * A rule rejects a request by throwing a domain exception.
+ */
+public interface EnrollmentRule {
+
+    String name();
+
+    /**
+     * Declares whether the rule can be answered from cached/catalog data or needs a read under the student lock.
+     */
+    RuleReadRequirement readRequirement();
+
+    void check(EnrollmentRuleContext context);
+}
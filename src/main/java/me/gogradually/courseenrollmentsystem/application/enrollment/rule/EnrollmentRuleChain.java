@@ -0,0 +1,88 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import me.gogradually.courseenrollmentsystem.domain.exception.DomainException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-circuiting chain of enrollment rules.
+ * The order is recomputed from measured cost and rejection rate every {@value #REORDER_INTERVAL} evaluations,
+ * so cheap rules that reject often run first.
+ */
+@Component
+public class EnrollmentRuleChain {
+
+    static final long REORDER_INTERVAL = 1_000;
+
+    private final Map<EnrollmentRule, RuleStatistics> statistics;
+    private final AtomicLong evaluationCount = new AtomicLong();
+    private volatile List<EnrollmentRule> orderedRules;
+
+    public EnrollmentRuleChain(List<EnrollmentRule> rules) {
+        Map<EnrollmentRule, RuleStatistics> statisticsByRule = new IdentityHashMap<>();
+        for (EnrollmentRule rule : rules) {
+            statisticsByRule.put(rule, new RuleStatistics());
+        }
+        this.statistics = Collections.unmodifiableMap(statisticsByRule);
+
+        List<EnrollmentRule> initialOrder = new ArrayList<>(rules);
+        initialOrder.sort(Comparator.comparing(EnrollmentRule::readRequirement));
+        this.orderedRules = List.copyOf(initialOrder);
+    }
+
+    /**
+     * Evaluates the rules whose read requirement is allowed, stopping at the first rejection.
+     */
+    public void evaluate(EnrollmentRuleContext context, Set<RuleReadRequirement> allowedRequirements) {
+        try {
+            for (EnrollmentRule rule : orderedRules) {
+                if (allowedRequirements.contains(rule.readRequirement())) {
+                    check(rule, context);
+                }
+            }
+        } finally {
+            if (evaluationCount.incrementAndGet() % REORDER_INTERVAL == 0) {
+                reorder();
+            }
+        }
+    }
+
+    public List<EnrollmentRule> orderedRules() {
+        return orderedRules;
+    }
+
+    public RuleStatistics statisticsOf(EnrollmentRule rule) {
+        return statistics.get(rule);
+    }
+
+    void reorder() {
+        List<EnrollmentRule> reordered = new ArrayList<>(orderedRules);
+        // snapshot scores first; counters keep moving while sorting
+        Map<EnrollmentRule, Double> scores = new IdentityHashMap<>();
+        for (EnrollmentRule rule : reordered) {
+            scores.put(rule, statistics.get(rule).score());
+        }
+        reordered.sort(Comparator.comparingDouble((EnrollmentRule rule) -> scores.get(rule)).reversed());
+        orderedRules = List.copyOf(reordered);
+    }
+
+    private void check(EnrollmentRule rule, EnrollmentRuleContext context) {
+        RuleStatistics ruleStatistics = statistics.get(rule);
+        long startedAt = System.nanoTime();
+        try {
+            rule.check(context);
+            ruleStatistics.record(System.nanoTime() - startedAt, false);
+        } catch (DomainException exception) {
+            ruleStatistics.record(System.nanoTime() - startedAt, true);
+            throw exception;
+        }
+    }
+}
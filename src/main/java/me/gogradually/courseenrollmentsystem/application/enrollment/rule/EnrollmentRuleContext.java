@@ -0,0 +1,130 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Inputs shared by the rules of one evaluation.
+ * Active enrollments are loaded lazily at most once, so rules that reject early save the student-side query.
+ */
+public final class EnrollmentRuleContext {
+
+    private final Long studentId;
+    private final Long courseId;
+    private final Student student;
+    private final Course requestedCourse;
+    private final Supplier<List<Enrollment>> activeEnrollmentsLoader;
+    private final boolean rowInserted;
+    private final boolean seatReserved;
+    private List<Enrollment> activeEnrollments;
+
+    private EnrollmentRuleContext(
+            Long studentId,
+            Long courseId,
+            Student student,
+            Course requestedCourse,
+            Supplier<List<Enrollment>> activeEnrollmentsLoader,
+            boolean rowInserted,
+            boolean seatReserved
+    ) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.student = student;
+        this.requestedCourse = requestedCourse;
+        this.activeEnrollmentsLoader = activeEnrollmentsLoader;
+        this.rowInserted = rowInserted;
+        this.seatReserved = seatReserved;
+    }
+
+    /**
+     * Context for rules evaluated before the student lock; only {@link RuleReadRequirement#CACHEABLE} rules may use it.
+     */
+    public static EnrollmentRuleContext beforeLock(Long studentId, Long courseId, Course requestedCourse) {
+        return new EnrollmentRuleContext(studentId, courseId, null, requestedCourse, () -> {
+            throw new IllegalStateException("Active enrollments require the student lock");
+        }, false, false);
+    }
+
+    public static EnrollmentRuleContext beforeInsert(
+            Long studentId,
+            Long courseId,
+            Student student,
+            Course requestedCourse,
+            Supplier<List<Enrollment>> activeEnrollmentsLoader
+    ) {
+        return new EnrollmentRuleContext(studentId, courseId, student, requestedCourse, activeEnrollmentsLoader, false, false);
+    }
+
+    /**
+     * Context for a row not inserted yet whose seat is already taken, e.g. from a node-local seat lease.
+     */
+    public static EnrollmentRuleContext withReservedSeat(
+            Long studentId,
+            Long courseId,
+            Student student,
+            Course requestedCourse,
+            Supplier<List<Enrollment>> activeEnrollmentsLoader
+    ) {
+        return new EnrollmentRuleContext(studentId, courseId, student, requestedCourse, activeEnrollmentsLoader, false, true);
+    }
+
+    /**
+     * Context for a row that is already inserted with its seat counted; duplicate and capacity are already enforced.
+     */
+    public static EnrollmentRuleContext afterInsert(
+            Long studentId,
+            Long courseId,
+            Student student,
+            Course requestedCourse,
+            Supplier<List<Enrollment>> activeEnrollmentsLoader
+    ) {
+        return new EnrollmentRuleContext(studentId, courseId, student, requestedCourse, activeEnrollmentsLoader, true, true);
+    }
+
+    public Long studentId() {
+        return studentId;
+    }
+
+    public Long courseId() {
+        return courseId;
+    }
+
+    public Student student() {
+        return student;
+    }
+
+    public Course requestedCourse() {
+        return requestedCourse;
+    }
+
+    public boolean rowInserted() {
+        return rowInserted;
+    }
+
+    public boolean seatReserved() {
+        return seatReserved;
+    }
+
+    public List<Enrollment> activeEnrollments() {
+        if (activeEnrollments == null) {
+            activeEnrollments = activeEnrollmentsLoader.get();
+        }
+        return activeEnrollments;
+    }
+
+    /**
+     * Active courses other than the requested one. The requested course's own active row is reported
+     * by the duplicate rule, so credit and schedule rules stay correct in any evaluation order.
+     */
+    public List<Course> otherActiveCourses() {
+        return activeEnrollments().stream()
+                .map(Enrollment::getCourse)
+                .filter(course -> !Objects.equals(course.getId(), courseId))
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+public enum RuleReadRequirement {
+    /**
+     * Answerable from already loaded or cached data; safe to evaluate before any lock is taken.
+     */
+    CACHEABLE,
+    /**
+     * Reads student-side rows that are only consistent under the student lock.
+     */
+    LOCKED_READ
+}
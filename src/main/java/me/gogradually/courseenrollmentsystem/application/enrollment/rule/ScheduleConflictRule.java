@@ -0,0 +1,27 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import me.gogradually.courseenrollmentsystem.domain.exception.ScheduleConflictException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduleConflictRule implements EnrollmentRule {
+
+    @Override
+    public String name() {
+        return "schedule-conflict";
+    }
+
+    @Override
+    public RuleReadRequirement readRequirement() {
+        return RuleReadRequirement.LOCKED_READ;
+    }
+
+    @Override
+    public void check(EnrollmentRuleContext context) {
+        boolean hasScheduleConflict = context.otherActiveCourses().stream()
+                .anyMatch(activeCourse -> activeCourse.hasScheduleConflictWith(context.requestedCourse()));
+        if (hasScheduleConflict) {
+            throw new ScheduleConflictException(context.studentId(), context.courseId());
+        }
+    }
+}
@@ -1,58 +1,55 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.strategy;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.lease.SeatClaim;
+import me.gogradually.courseenrollmentsystem.application.enrollment.lease.SeatLeaseManager;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentCancellationProcessor;
-import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentPersistenceSupport;
-import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
-import me.gogradually.courseenrollmentsystem.domain.course.Course;
-import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.tx.AtomicEnrollmentTxExecutor;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
-import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
-import me.gogradually.courseenrollmentsystem.domain.exception.CourseNotFoundException;
-import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentNotFoundException;
-import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
-import me.gogradually.courseenrollmentsystem.domain.student.Student;
-import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class AtomicEnrollmentStrategy implements EnrollmentStrategy {
 
-    private final StudentRepository studentRepository;
-    private final CourseRepository courseRepository;
-    private final EnrollmentRepository enrollmentRepository;
-    private final EnrollmentRuleValidator ruleValidator;
-    private final EnrollmentPersistenceSupport persistenceSupport;
+    private final AtomicEnrollmentTxExecutor atomicEnrollmentTxExecutor;
     private final EnrollmentCancellationProcessor cancellationProcessor;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
+    private final SeatLeaseManager seatLeaseManager;
 
     @Override
     public EnrollmentStrategyType type() {
         return EnrollmentStrategyType.ATOMIC;
     }
 
+    /**
+     * With seat leasing enabled the seat comes from this node's lease and the course seat row is only touched
+     * when the lease turns out to be gone. The rules are checked and the seat is claimed before the admission
+     * transaction starts, so leasing never waits for a second connection while the admission holds one.
+     */
     @Override
-    @Transactional
     public Enrollment enroll(Long studentId, Long courseId) {
-        Student student = studentRepository.findByIdForUpdate(studentId)
-                .orElseThrow(() -> new StudentNotFoundException(studentId));
-
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
-        ruleValidator.validateForPreInsert(studentId, courseId, student, course);
-
-        persistenceSupport.incrementSeatOrThrow(courseId);
-        Long enrollmentId = persistenceSupport.insertActiveOrThrow(studentId, courseId);
-        courseRepository.clearPersistenceContext();
-
-        return enrollmentRepository.findById(enrollmentId)
-                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+        if (!seatLeaseManager.isLeasing(courseId)) {
+            return atomicEnrollmentTxExecutor.admit(studentId, courseId, Optional.empty());
+        }
+
+        atomicEnrollmentTxExecutor.validateBeforeSeatLease(studentId, courseId);
+        Optional<SeatClaim> seatClaim = seatLeaseManager.tryClaim(courseId);
+        try {
+            return atomicEnrollmentTxExecutor.admit(studentId, courseId, seatClaim);
+        } catch (RuntimeException exception) {
+            seatClaim.ifPresent(seatLeaseManager::giveBack);
+            throw exception;
+        }
     }
 
     @Override
     @Transactional
     public void cancel(Long enrollmentId) {
-        cancellationProcessor.cancel(enrollmentId);
+        cancellationProcessor.cancel(enrollmentId, lockWaitProperties.forStrategy(type()));
     }
 }
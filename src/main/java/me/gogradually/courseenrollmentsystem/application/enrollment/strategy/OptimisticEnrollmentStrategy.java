@@ -3,6 +3,7 @@ package me.gogradually.courseenrollmentsystem.application.enrollment.strategy;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentCancellationProcessor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.tx.OptimisticEnrollmentTxExecutor;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -19,6 +20,7 @@ public class OptimisticEnrollmentStrategy implements EnrollmentStrategy {
 
     private final OptimisticEnrollmentTxExecutor optimisticEnrollmentTxExecutor;
     private final EnrollmentCancellationProcessor cancellationProcessor;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
 
     @Override
     public EnrollmentStrategyType type() {
@@ -38,6 +40,6 @@ public class OptimisticEnrollmentStrategy implements EnrollmentStrategy {
     @Override
     @Transactional
     public void cancel(Long enrollmentId) {
-        cancellationProcessor.cancel(enrollmentId);
+        cancellationProcessor.cancel(enrollmentId, lockWaitProperties.forStrategy(type()));
     }
 }
@@ -3,8 +3,13 @@ package me.gogradually.courseenrollmentsystem.application.enrollment.strategy;
 import jakarta.persistence.LockTimeoutException;
 import jakarta.persistence.PessimisticLockException;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentCancellationProcessor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.LockWaitExceededException;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
@@ -21,6 +26,9 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
 @Component
 @RequiredArgsConstructor
 public class PessimisticEnrollmentStrategy implements EnrollmentStrategy {
@@ -32,12 +40,19 @@ public class PessimisticEnrollmentStrategy implements EnrollmentStrategy {
     private final EnrollmentRepository enrollmentRepository;
     private final EnrollmentRuleValidator ruleValidator;
     private final EnrollmentCancellationProcessor cancellationProcessor;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
+    private final CourseSeatChanges courseSeatChanges;
+    private final StudentEnrollmentChanges studentEnrollmentChanges;
 
     @Override
     public EnrollmentStrategyType type() {
         return EnrollmentStrategyType.PESSIMISTIC;
     }
 
+    /**
+     * Locks the student before the course to follow the global lock order.
+     * Lock failures are retried, except a lock wait timeout or NOWAIT rejection under a configured budget.
+     */
     @Override
     @Transactional
     @Retryable(
@@ -48,27 +63,39 @@ public class PessimisticEnrollmentStrategy implements EnrollmentStrategy {
                     PessimisticLockException.class,
                     LockTimeoutException.class
             },
+            noRetryFor = LockWaitExceededException.class,
             maxAttempts = RETRY_LIMIT,
             backoff = @Backoff(delay = 0)
     )
     public Enrollment enroll(Long studentId, Long courseId) {
-        Course course = courseRepository.findByIdForUpdate(courseId)
-                .orElseThrow(() -> new CourseNotFoundException(courseId));
-
-        Student student = studentRepository.findByIdForUpdate(studentId)
+        LockWait lockWait = lockWaitProperties.forStrategy(type());
+        Student student = lock(lockWait, () -> studentRepository.findByIdForUpdate(studentId, lockWait))
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
 
+        Course course = lock(lockWait, () -> courseRepository.findByIdForUpdate(courseId, lockWait))
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+
         ruleValidator.validateForPreInsert(studentId, courseId, student, course);
         course.increaseEnrollment();
 
         Enrollment enrollment = Enrollment.enroll(student, course);
         courseRepository.save(course);
+        courseSeatChanges.record(courseId);
+        studentEnrollmentChanges.record(studentId);
         return enrollmentRepository.save(enrollment);
     }
 
+    private <T> Optional<T> lock(LockWait lockWait, Supplier<Optional<T>> lockQuery) {
+        try {
+            return lockQuery.get();
+        } catch (RuntimeException exception) {
+            throw LockWaitExceededException.translate(lockWait, exception);
+        }
+    }
+
     @Override
     @Transactional
     public void cancel(Long enrollmentId) {
-        cancellationProcessor.cancel(enrollmentId);
+        cancellationProcessor.cancel(enrollmentId, lockWaitProperties.forStrategy(type()));
     }
 }
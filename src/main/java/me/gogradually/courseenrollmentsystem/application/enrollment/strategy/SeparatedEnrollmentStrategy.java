@@ -2,17 +2,23 @@ package me.gogradually.courseenrollmentsystem.application.enrollment.strategy;
 
 import lombok.RequiredArgsConstructor;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentCancellationProcessor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.tx.SeparatedEnrollmentTxExecutor;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Two short transactions: reserve a PENDING seat, then validate and confirm it.
+ * A reservation left PENDING by an unexpected failure is released asynchronously by the reconciler.
+ */
 @Component
 @RequiredArgsConstructor
 public class SeparatedEnrollmentStrategy implements EnrollmentStrategy {
 
     private final SeparatedEnrollmentTxExecutor separatedEnrollmentTxExecutor;
     private final EnrollmentCancellationProcessor cancellationProcessor;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
 
     @Override
     public EnrollmentStrategyType type() {
@@ -22,21 +28,12 @@ public class SeparatedEnrollmentStrategy implements EnrollmentStrategy {
     @Override
     public Enrollment enroll(Long studentId, Long courseId) {
         Long enrollmentId = separatedEnrollmentTxExecutor.reserveSeat(courseId, studentId);
-        try {
-            return separatedEnrollmentTxExecutor.finalizeEnrollment(studentId, courseId, enrollmentId);
-        } catch (RuntimeException exception) {
-            try {
-                separatedEnrollmentTxExecutor.releaseSeat(courseId, enrollmentId);
-            } catch (RuntimeException ignored) {
-                // TODO 이벤트 발행 등으로 지연 배치 처리 필요
-            }
-            throw exception;
-        }
+        return separatedEnrollmentTxExecutor.finalizeEnrollment(studentId, courseId, enrollmentId);
     }
 
     @Override
     @Transactional
     public void cancel(Long enrollmentId) {
-        cancellationProcessor.cancel(enrollmentId);
+        cancellationProcessor.cancel(enrollmentId, lockWaitProperties.forStrategy(type()));
     }
 }
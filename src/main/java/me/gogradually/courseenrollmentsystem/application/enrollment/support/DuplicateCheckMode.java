@@ -0,0 +1,15 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.support;
+
+/**
+ * How the duplicate-enrollment rule is enforced.
+ */
+public enum DuplicateCheckMode {
+    /**
+     * Runs an existence query before inserting.
+     */
+    PRE_CHECK,
+    /**
+     * Relies on the active-enrollment unique index and maps the violation to a duplicate error.
+     */
+    UNIQUE_INDEX
+}
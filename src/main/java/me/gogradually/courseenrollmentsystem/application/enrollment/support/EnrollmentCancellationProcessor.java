@@ -1,9 +1,15 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.support;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseNotFoundException;
 import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentNotFoundException;
 import org.springframework.stereotype.Component;
 
@@ -13,15 +19,30 @@ public class EnrollmentCancellationProcessor {
 
     private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
+    private final CourseSeatChanges courseSeatChanges;
+    private final StudentWriteTokens studentWriteTokens;
+    private final StudentEnrollmentChanges studentEnrollmentChanges;
 
-    public void cancel(Long enrollmentId) {
-        Enrollment enrollment = enrollmentRepository.findByIdForUpdate(enrollmentId)
+    /**
+     * Locks the course before the enrollment to follow the global lock order.
+     * The course id is read without a lock first; it never changes for an enrollment.
+     */
+    public void cancel(Long enrollmentId, LockWait lockWait) {
+        Long courseId = enrollmentRepository.findCourseIdById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+        Course course = courseRepository.findByIdForUpdate(courseId, lockWait)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+
+        Enrollment enrollment = enrollmentRepository.findByIdForUpdate(enrollmentId, lockWait)
                 .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
 
         enrollment.cancel();
-        enrollment.getCourse().decreaseEnrollment();
+        course.decreaseEnrollment();
 
-        courseRepository.save(enrollment.getCourse());
+        courseRepository.save(course);
+        courseSeatChanges.record(courseId);
         enrollmentRepository.save(enrollment);
+        studentWriteTokens.recordWrite(enrollment.getStudent().getId());
+        studentEnrollmentChanges.record(enrollment.getStudent().getId());
     }
 }
@@ -0,0 +1,31 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.support;
+
+import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.transaction.annotation.Isolation;
+
+import java.util.Map;
+
+/**
+ * Transaction isolation per enrollment strategy.
+ * Strategies without an entry use the connection pool default.
+ *
+ * @param strategies           per-strategy isolation, e.g. {@code atomic: read-committed}
+ * @param allowRequestOverride whether the {@code X-Transaction-Isolation} header may override the isolation
+ */
+@ConfigurationProperties(prefix = "app.enrollment.isolation")
+public record EnrollmentIsolationProperties(
+        Map<EnrollmentStrategyType, Isolation> strategies,
+        boolean allowRequestOverride
+) {
+
+    public EnrollmentIsolationProperties {
+        if (strategies == null) {
+            strategies = Map.of();
+        }
+    }
+
+    public Isolation forStrategy(EnrollmentStrategyType type) {
+        return strategies.getOrDefault(type, Isolation.DEFAULT);
+    }
+}
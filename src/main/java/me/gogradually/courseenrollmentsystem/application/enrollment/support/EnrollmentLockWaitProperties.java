@@ -0,0 +1,41 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.support;
+
+import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Row lock wait budgets per enrollment strategy.
+ * Values are {@code default}, {@code nowait} or a duration such as {@code 500ms}.
+ *
+ * @param defaultWait budget for strategies without an entry and for swaps
+ * @param strategies  per-strategy overrides
+ */
+@ConfigurationProperties(prefix = "app.enrollment.lock-wait")
+public record EnrollmentLockWaitProperties(
+        String defaultWait,
+        Map<EnrollmentStrategyType, String> strategies
+) {
+
+    public EnrollmentLockWaitProperties {
+        if (defaultWait == null) {
+            defaultWait = "default";
+        }
+        if (strategies == null) {
+            strategies = Map.of();
+        }
+        LockWait.parse(defaultWait);
+        strategies.values().forEach(LockWait::parse);
+    }
+
+    public LockWait forDefault() {
+        return LockWait.parse(defaultWait);
+    }
+
+    public LockWait forStrategy(EnrollmentStrategyType type) {
+        String value = strategies.get(type);
+        return value == null ? forDefault() : LockWait.parse(value);
+    }
+}
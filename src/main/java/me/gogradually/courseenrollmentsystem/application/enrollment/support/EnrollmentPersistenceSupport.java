@@ -1,6 +1,8 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.support;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.SqlErrorCodes;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
@@ -11,33 +13,54 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
+import java.util.function.Supplier;
+
 @Component
 @RequiredArgsConstructor
 public class EnrollmentPersistenceSupport {
 
     private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
+    private final CourseSeatChanges courseSeatChanges;
 
     public Long insertActiveOrThrow(Long studentId, Long courseId) {
+        return insertOrThrow(studentId, courseId, () -> enrollmentRepository.insertActive(studentId, courseId));
+    }
+
+    /**
+     * Inserts a PENDING reservation; a pending row blocks duplicates just like an active one.
+     */
+    public Long insertPendingOrThrow(Long studentId, Long courseId) {
+        return insertOrThrow(studentId, courseId, () -> enrollmentRepository.insertPending(studentId, courseId));
+    }
+
+    private Long insertOrThrow(Long studentId, Long courseId, Supplier<Long> insert) {
         try {
-            return enrollmentRepository.insertActive(studentId, courseId);
+            return insert.get();
         } catch (DuplicateKeyException exception) {
             throw new DuplicateEnrollmentException(studentId, courseId);
         } catch (DataIntegrityViolationException exception) {
-            if (isDuplicateEnrollmentViolation(exception)) {
+            if (SqlErrorCodes.isDuplicateKey(exception)) {
                 throw new DuplicateEnrollmentException(studentId, courseId);
             }
-            throw new IllegalStateException("Failed to insert active enrollment", exception);
+            throw new IllegalStateException("Failed to insert enrollment", exception);
         }
     }
 
+    /**
+     * Takes a seat of the course and records the seat change.
+     */
     public void incrementSeatOrThrow(Long courseId, Course course) {
         int affectedRows = courseRepository.incrementEnrolledCountIfAvailable(courseId);
         if (affectedRows == 0) {
             throw new CourseCapacityExceededException(courseId, course.getCapacity());
         }
+        courseSeatChanges.record(courseId);
     }
 
+    /**
+     * Takes a seat of the course and records the seat change.
+     */
     public void incrementSeatOrThrow(Long courseId) {
         int affectedRows = courseRepository.incrementEnrolledCountIfAvailable(courseId);
         if (affectedRows == 0) {
@@ -46,15 +69,15 @@ public class EnrollmentPersistenceSupport {
                     .orElseThrow(() -> new CourseNotFoundException(courseId));
             throw new CourseCapacityExceededException(courseId, capacity);
         }
+        courseSeatChanges.record(courseId);
     }
 
-    private boolean isDuplicateEnrollmentViolation(DataIntegrityViolationException exception) {
-        String message = exception.getMessage();
-        if (message == null) {
-            return false;
+    /**
+     * Gives a seat of the course back and records the seat change.
+     */
+    public void decrementSeat(Long courseId) {
+        if (courseRepository.decrementEnrolledCountIfPositive(courseId) > 0) {
+            courseSeatChanges.record(courseId);
         }
-        String loweredMessage = message.toLowerCase();
-        return loweredMessage.contains("duplicate")
-                || loweredMessage.contains("uk_enrollments_student_course_status");
     }
 }
@@ -1,82 +1,102 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.support;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.EnrollmentRuleChain;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.EnrollmentRuleContext;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.RuleReadRequirement;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
-import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
-import me.gogradually.courseenrollmentsystem.domain.exception.DuplicateEnrollmentException;
-import me.gogradually.courseenrollmentsystem.domain.exception.ScheduleConflictException;
 import me.gogradually.courseenrollmentsystem.domain.student.Student;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class EnrollmentRuleValidator {
 
+    private static final Set<RuleReadRequirement> CACHEABLE_ONLY = EnumSet.of(RuleReadRequirement.CACHEABLE);
+    private static final Set<RuleReadRequirement> ALL_RULES = EnumSet.allOf(RuleReadRequirement.class);
+
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentRuleChain ruleChain;
 
-    public void validateForPreInsert(Long studentId, Long courseId, Student student, Course requestedCourse) {
-        validateDuplicateEnrollment(studentId, courseId);
-        List<Enrollment> activeEnrollments = enrollmentRepository.findActiveByStudentId(studentId);
-        validateCreditAndSchedule(studentId, courseId, student, requestedCourse, activeEnrollments);
+    /**
+     * Evaluates only the rules that can be answered without the student lock, e.g. a course that is already full.
+     */
+    public void validateBeforeLock(Long studentId, Long courseId, Course requestedCourse) {
+        ruleChain.evaluate(EnrollmentRuleContext.beforeLock(studentId, courseId, requestedCourse), CACHEABLE_ONLY);
     }
 
-    public void validateAfterInsert(
-            Long studentId,
-            Long insertedEnrollmentId,
-            Student student,
-            Course requestedCourse
-    ) {
-        List<Enrollment> existingActiveEnrollments = enrollmentRepository.findActiveByStudentId(studentId).stream()
-                .filter(enrollment -> isPriorActiveEnrollment(enrollment, insertedEnrollmentId))
-                .toList();
-
-        validateCreditAndSchedule(
-                studentId,
-                requestedCourse.getId(),
-                student,
-                requestedCourse,
-                existingActiveEnrollments
+    public void validateForPreInsert(Long studentId, Long courseId, Student student, Course requestedCourse) {
+        ruleChain.evaluate(
+                EnrollmentRuleContext.beforeInsert(
+                        studentId,
+                        courseId,
+                        student,
+                        requestedCourse,
+                        () -> enrollmentRepository.findActiveByStudentId(studentId)
+                ),
+                ALL_RULES
         );
     }
 
-    private boolean isPriorActiveEnrollment(Enrollment enrollment, Long insertedEnrollmentId) {
-        Long existingEnrollmentId = enrollment.getId();
-        if (existingEnrollmentId == null || Objects.equals(existingEnrollmentId, insertedEnrollmentId)) {
-            return false;
-        }
-        return existingEnrollmentId < insertedEnrollmentId;
+    /**
+     * Same as {@link #validateForPreInsert} except capacity, because the seat is already taken from a seat lease.
+     */
+    public void validateWithReservedSeat(Long studentId, Long courseId, Student student, Course requestedCourse) {
+        ruleChain.evaluate(
+                EnrollmentRuleContext.withReservedSeat(
+                        studentId,
+                        courseId,
+                        student,
+                        requestedCourse,
+                        () -> enrollmentRepository.findActiveByStudentId(studentId)
+                ),
+                ALL_RULES
+        );
     }
 
-    private void validateDuplicateEnrollment(Long studentId, Long courseId) {
-        if (enrollmentRepository.existsActiveByStudentIdAndCourseId(studentId, courseId)) {
-            throw new DuplicateEnrollmentException(studentId, courseId);
-        }
+    /**
+     * Validates a PENDING reservation before it is confirmed. The seat and the unique key are already held,
+     * and every ACTIVE row was confirmed under the same student lock, so all of them take part in the check.
+     */
+    public void validateForConfirmation(Long studentId, Student student, Course requestedCourse) {
+        ruleChain.evaluate(
+                EnrollmentRuleContext.afterInsert(
+                        studentId,
+                        requestedCourse.getId(),
+                        student,
+                        requestedCourse,
+                        () -> enrollmentRepository.findActiveByStudentId(studentId)
+                ),
+                ALL_RULES
+        );
     }
 
-    private void validateCreditAndSchedule(
+    /**
+     * Validates the requested course as if the dropped enrollment were already canceled.
+     */
+    public void validateForSwap(
             Long studentId,
             Long courseId,
             Student student,
             Course requestedCourse,
-            List<Enrollment> activeEnrollments
+            Long droppedEnrollmentId
     ) {
-        int currentCredits = activeEnrollments.stream()
-                .map(Enrollment::getCourse)
-                .mapToInt(Course::getCredits)
-                .sum();
-
-        student.validateCreditLimit(currentCredits, requestedCourse.getCredits());
-
-        boolean hasScheduleConflict = activeEnrollments.stream()
-                .map(Enrollment::getCourse)
-                .anyMatch(activeCourse -> activeCourse.hasScheduleConflictWith(requestedCourse));
-
-        if (hasScheduleConflict) {
-            throw new ScheduleConflictException(studentId, courseId);
-        }
+        ruleChain.evaluate(
+                EnrollmentRuleContext.beforeInsert(
+                        studentId,
+                        courseId,
+                        student,
+                        requestedCourse,
+                        () -> enrollmentRepository.findActiveByStudentId(studentId).stream()
+                                .filter(enrollment -> !Objects.equals(enrollment.getId(), droppedEnrollmentId))
+                                .toList()
+                ),
+                ALL_RULES
+        );
     }
 }
@@ -0,0 +1,15 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.support;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.enrollment.validation")
+public record EnrollmentValidationProperties(
+        DuplicateCheckMode duplicateCheck
+) {
+
+    public EnrollmentValidationProperties {
+        if (duplicateCheck == null) {
+            duplicateCheck = DuplicateCheckMode.PRE_CHECK;
+        }
+    }
+}
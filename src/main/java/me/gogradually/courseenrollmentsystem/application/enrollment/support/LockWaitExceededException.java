@@ -0,0 +1,45 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.support;
+
+import jakarta.persistence.LockTimeoutException;
+import me.gogradually.courseenrollmentsystem.application.common.SqlErrorCodes;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import org.springframework.dao.CannotAcquireLockException;
+
+/**
+ * A row lock was not granted within an explicitly configured wait budget (including NOWAIT).
+ * Strategies exclude it from retry: the budget exists to fail fast, and an immediate retry would only
+ * repeat the wait. Deadlocks are not translated and stay retryable.
+ */
+public class LockWaitExceededException extends CannotAcquireLockException {
+
+    private static final int MAX_CAUSE_DEPTH = 20;
+
+    public LockWaitExceededException(LockWait lockWait, Throwable cause) {
+        super("Lock not acquired within " + (lockWait.isNoWait() ? "NOWAIT" : lockWait.timeoutMillis() + "ms"), cause);
+    }
+
+    /**
+     * Returns the exception to throw for a failed lock query: a {@link LockWaitExceededException} when a budget
+     * was set and the failure is a lock wait timeout or NOWAIT rejection, otherwise the original exception.
+     */
+    public static RuntimeException translate(LockWait lockWait, RuntimeException exception) {
+        if (lockWait.isDefault() || !isLockWaitFailure(exception)) {
+            return exception;
+        }
+        return new LockWaitExceededException(lockWait, exception);
+    }
+
+    private static boolean isLockWaitFailure(Throwable throwable) {
+        if (SqlErrorCodes.isLockTimeout(throwable)) {
+            return true;
+        }
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof LockTimeoutException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.tx;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.lease.SeatClaim;
+import me.gogradually.courseenrollmentsystem.application.enrollment.lease.SeatLeaseManager;
+import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentPersistenceSupport;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class AtomicEnrollmentTxExecutor {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentRuleValidator ruleValidator;
+    private final EnrollmentPersistenceSupport persistenceSupport;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
+    private final SeatLeaseManager seatLeaseManager;
+    private final StudentEnrollmentChanges studentEnrollmentChanges;
+
+    /**
+     * Evaluates every rule except capacity without the student lock, so seats are leased only for requests
+     * that can still succeed. The admission repeats the check under the lock.
+     */
+    @Transactional(readOnly = true)
+    public void validateBeforeSeatLease(Long studentId, Long courseId) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        ruleValidator.validateWithReservedSeat(studentId, courseId, student, course);
+    }
+
+    /**
+     * Admits the student under the student lock. A claimed seat is recorded on its lease; without a claim,
+     * or when the lease is gone, the seat is taken from the course row.
+     */
+    @Transactional
+    public Enrollment admit(Long studentId, Long courseId, Optional<SeatClaim> seatClaim) {
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new CourseNotFoundException(courseId));
+        if (seatClaim.isEmpty()) {
+            ruleValidator.validateBeforeLock(studentId, courseId, course);
+        }
+
+        Student student = studentRepository.findByIdForUpdate(
+                        studentId,
+                        lockWaitProperties.forStrategy(EnrollmentStrategyType.ATOMIC)
+                )
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+        if (seatClaim.isPresent()) {
+            ruleValidator.validateWithReservedSeat(studentId, courseId, student, course);
+            if (!seatLeaseManager.consume(seatClaim.get())) {
+                persistenceSupport.incrementSeatOrThrow(courseId);
+            }
+        } else {
+            ruleValidator.validateForPreInsert(studentId, courseId, student, course);
+            persistenceSupport.incrementSeatOrThrow(courseId);
+        }
+
+        Long enrollmentId = persistenceSupport.insertActiveOrThrow(studentId, courseId);
+        studentEnrollmentChanges.record(studentId);
+        courseRepository.clearPersistenceContext();
+
+        return enrollmentRepository.findById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+    }
+}
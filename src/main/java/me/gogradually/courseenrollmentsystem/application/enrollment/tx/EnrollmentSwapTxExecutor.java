@@ -0,0 +1,91 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.tx;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentPersistenceSupport;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.exception.DuplicateEnrollmentException;
+import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentCancellationNotAllowedException;
+import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class EnrollmentSwapTxExecutor {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentRuleValidator ruleValidator;
+    private final EnrollmentPersistenceSupport persistenceSupport;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
+    private final StudentEnrollmentChanges studentEnrollmentChanges;
+
+    /**
+     * Cancels the dropped enrollment and enrolls the requested course in a single transaction.
+     * The seat of the requested course is acquired before the dropped seat is released.
+     * Locks follow the global order: student, both courses in ascending id, then the dropped enrollment.
+     */
+    @Transactional
+    public Enrollment swap(Long studentId, Long dropEnrollmentId, Long addCourseId) {
+        LockWait lockWait = lockWaitProperties.forDefault();
+        Student student = studentRepository.findByIdForUpdate(studentId, lockWait)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
+
+        Long dropCourseId = enrollmentRepository.findCourseIdById(dropEnrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(dropEnrollmentId));
+        Course addCourse = lockCoursesInOrder(dropCourseId, addCourseId, lockWait);
+
+        Enrollment dropEnrollment = enrollmentRepository.findByIdForUpdate(dropEnrollmentId, lockWait)
+                .filter(enrollment -> Objects.equals(enrollment.getStudent().getId(), studentId))
+                .orElseThrow(() -> new EnrollmentNotFoundException(dropEnrollmentId));
+        if (!dropEnrollment.isActive()) {
+            throw new EnrollmentCancellationNotAllowedException(dropEnrollmentId);
+        }
+        if (Objects.equals(dropCourseId, addCourseId)) {
+            throw new DuplicateEnrollmentException(studentId, addCourseId);
+        }
+
+        ruleValidator.validateForSwap(studentId, addCourseId, student, addCourse, dropEnrollmentId);
+
+        persistenceSupport.incrementSeatOrThrow(addCourseId, addCourse);
+        Long enrollmentId = persistenceSupport.insertActiveOrThrow(studentId, addCourseId);
+
+        dropEnrollment.cancel();
+        enrollmentRepository.save(dropEnrollment);
+        persistenceSupport.decrementSeat(dropCourseId);
+        studentEnrollmentChanges.record(studentId);
+
+        return enrollmentRepository.findById(enrollmentId)
+                .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
+    }
+
+    /**
+     * Locks both courses in ascending id order and returns the requested course.
+     */
+    private Course lockCoursesInOrder(Long dropCourseId, Long addCourseId, LockWait lockWait) {
+        Course addCourse = null;
+        for (Long courseId : List.of(Math.min(dropCourseId, addCourseId), Math.max(dropCourseId, addCourseId))) {
+            Course course = courseRepository.findByIdForUpdate(courseId, lockWait)
+                    .orElseThrow(() -> new CourseNotFoundException(courseId));
+            if (courseId.equals(addCourseId)) {
+                addCourse = course;
+            }
+        }
+        return addCourse;
+    }
+}
@@ -1,7 +1,11 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.tx;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
+import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
@@ -22,20 +26,32 @@ public class OptimisticEnrollmentTxExecutor {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final EnrollmentRuleValidator ruleValidator;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
+    private final CourseSeatChanges courseSeatChanges;
+    private final StudentEnrollmentChanges studentEnrollmentChanges;
 
+    /**
+     * Flushes the course version update before inserting the enrollment so the course row is written first.
+     * Otherwise the identity insert would run immediately and the course update only at commit.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Enrollment executeOnce(Long studentId, Long courseId) {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new CourseNotFoundException(courseId));
 
-        Student student = studentRepository.findByIdForUpdate(studentId)
+        Student student = studentRepository.findByIdForUpdate(
+                        studentId,
+                        lockWaitProperties.forStrategy(EnrollmentStrategyType.OPTIMISTIC)
+                )
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
 
         ruleValidator.validateForPreInsert(studentId, courseId, student, course);
         course.increaseEnrollment();
 
+        courseRepository.saveAndFlush(course);
+        courseSeatChanges.record(courseId);
         Enrollment enrollment = Enrollment.enroll(student, course);
-        courseRepository.save(course);
+        studentEnrollmentChanges.record(studentId);
         return enrollmentRepository.save(enrollment);
     }
 }
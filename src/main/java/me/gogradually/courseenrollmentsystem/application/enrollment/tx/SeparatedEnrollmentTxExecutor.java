@@ -1,14 +1,20 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.tx;
 
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentPersistenceSupport;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
 import me.gogradually.courseenrollmentsystem.domain.exception.CourseNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.exception.DomainException;
 import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentReservationExpiredException;
 import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
 import me.gogradually.courseenrollmentsystem.domain.student.Student;
 import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
@@ -25,36 +31,59 @@ public class SeparatedEnrollmentTxExecutor {
     private final EnrollmentRepository enrollmentRepository;
     private final EnrollmentRuleValidator ruleValidator;
     private final EnrollmentPersistenceSupport persistenceSupport;
+    private final EnrollmentLockWaitProperties lockWaitProperties;
+    private final StudentEnrollmentChanges studentEnrollmentChanges;
 
+    /**
+     * Takes a seat and inserts a PENDING reservation. Reservations that are never confirmed
+     * are released by {@code PendingEnrollmentReconciler}.
+     */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Long reserveSeat(Long courseId, Long studentId) {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new CourseNotFoundException(courseId));
 
         persistenceSupport.incrementSeatOrThrow(courseId, course);
-        Long enrollmentId = persistenceSupport.insertActiveOrThrow(studentId, courseId);
+        Long enrollmentId = persistenceSupport.insertPendingOrThrow(studentId, courseId);
         courseRepository.clearPersistenceContext();
         return enrollmentId;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Validates the reservation under the student lock and flips it to ACTIVE.
+     * A rule violation releases the reservation in the same transaction, which still commits.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, noRollbackFor = DomainException.class)
     public Enrollment finalizeEnrollment(Long studentId, Long courseId, Long enrollmentId) {
-        Student student = studentRepository.findByIdForUpdate(studentId)
+        Student student = studentRepository.findByIdForUpdate(
+                        studentId,
+                        lockWaitProperties.forStrategy(EnrollmentStrategyType.SEPARATED)
+                )
                 .orElseThrow(() -> new StudentNotFoundException(studentId));
 
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new CourseNotFoundException(courseId));
 
-        ruleValidator.validateAfterInsert(studentId, enrollmentId, student, course);
+        try {
+            ruleValidator.validateForConfirmation(studentId, student, course);
+        } catch (DomainException exception) {
+            releasePending(courseId, enrollmentId);
+            throw exception;
+        }
+
+        if (enrollmentRepository.confirmPending(enrollmentId) == 0) {
+            throw new EnrollmentReservationExpiredException(enrollmentId);
+        }
+        studentEnrollmentChanges.record(studentId);
         courseRepository.clearPersistenceContext();
         return enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new EnrollmentNotFoundException(enrollmentId));
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void releaseSeat(Long courseId, Long enrollmentId) {
-        courseRepository.decrementEnrolledCountIfPositive(courseId);
-        courseRepository.clearPersistenceContext();
-        enrollmentRepository.deleteById(enrollmentId);
+    private void releasePending(Long courseId, Long enrollmentId) {
+        courseRepository.findByIdForUpdate(courseId, LockWait.DEFAULT);
+        if (enrollmentRepository.deletePendingById(enrollmentId) == 1) {
+            persistenceSupport.decrementSeat(courseId);
+        }
     }
 }
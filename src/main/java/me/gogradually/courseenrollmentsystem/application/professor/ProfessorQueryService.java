@@ -2,16 +2,21 @@ package me.gogradually.courseenrollmentsystem.application.professor;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import me.gogradually.courseenrollmentsystem.domain.professor.ProfessorRepository;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
+import me.gogradually.courseenrollmentsystem.application.common.ReplicaReadScope;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Professor listing, served by the read replica when one is configured.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
 public class ProfessorQueryService {
 
-    private final ProfessorRepository professorRepository;
+    private final ProfessorSummaryReader professorSummaryReader;
 
     /**
      * Returns paged professor summaries ordered by id ascending.
@@ -20,9 +25,19 @@ public class ProfessorQueryService {
         int normalizedOffset = normalizeOffset(offset);
         int normalizedLimit = normalizeLimit(limit);
 
-        return professorRepository.findAll(normalizedOffset, normalizedLimit).stream()
-            .map(ProfessorSummary::from)
-            .toList();
+        return ReplicaReadScope.call(() -> professorSummaryReader.findPage(normalizedOffset, normalizedLimit));
+    }
+
+    /**
+     * Returns the professors after the given id at constant cost per page.
+     */
+    public KeysetPage<ProfessorSummary> getProfessorsAfter(long afterId, Integer limit) {
+        int normalizedLimit = normalizeLimit(limit);
+
+        List<ProfessorSummary> professors = ReplicaReadScope.call(
+                () -> professorSummaryReader.findPageAfter(afterId, normalizedLimit)
+        );
+        return KeysetPage.of(professors, normalizedLimit, ProfessorSummary::id);
     }
 
     private int normalizeOffset(Integer offset) {
@@ -0,0 +1,16 @@
+package me.gogradually.courseenrollmentsystem.application.professor;
+
+import java.util.List;
+
+/**
+ * Reads professor rows straight into {@link ProfessorSummary} without loading managed entities.
+ */
+public interface ProfessorSummaryReader {
+
+    List<ProfessorSummary> findPage(int offset, int limit);
+
+    /**
+     * Keyset page: professors with an id above {@code afterId}, in id order.
+     */
+    List<ProfessorSummary> findPageAfter(long afterId, int limit);
+}
@@ -0,0 +1,49 @@
+package me.gogradually.courseenrollmentsystem.application.student;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationBus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Announces changes of a student's active enrollments. This node's student version advances right after commit;
+ * other nodes learn about the change through the cache invalidation bus.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentEnrollmentChanges {
+
+    private final StudentEnrollmentVersions studentEnrollmentVersions;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final AtomicLong lastVersion = new AtomicLong();
+
+    /**
+     * Records an enrollment change of the student, taking effect after commit when called inside a transaction.
+     */
+    public void record(Long studentId) {
+        cacheInvalidationBus.publish(StudentEnrollmentVersions.ENTITY_TYPE, studentId, nextVersion());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            studentEnrollmentVersions.markChanged(studentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                studentEnrollmentVersions.markChanged(studentId);
+            }
+        });
+    }
+
+    /**
+     * Microsecond clock, kept strictly increasing on this node so receivers never drop a change as already applied.
+     */
+    private long nextVersion() {
+        long now = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+        return lastVersion.updateAndGet(last -> Math.max(last + 1, now));
+    }
+}
@@ -0,0 +1,55 @@
+package me.gogradually.courseenrollmentsystem.application.student;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationListener;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local version of each student's active enrollments. Every committed enroll, swap or cancel, on this node
+ * or announced by another node through the invalidation bus, stamps the student with a new version, so anything
+ * derived from the enrollments at version {@code v} is current while {@link #current} still returns {@code v}.
+ * Students never changed since boot share the boot-time base version.
+ *
+ * <p>A change announced by another node also starts this node's read-your-writes window for the student, so
+ * whatever is rebuilt for the new version is read from the primary rather than a replica that may lag behind.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentEnrollmentVersions implements CacheInvalidationListener {
+
+    public static final String ENTITY_TYPE = "student-enrollment";
+
+    private final StudentWriteTokens studentWriteTokens;
+    private final long baseVersion = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    private final AtomicLong version = new AtomicLong(baseVersion);
+    private final ConcurrentMap<Long, Long> changedAt = new ConcurrentHashMap<>();
+
+    /**
+     * Version to record before reading the student's enrollments.
+     */
+    public long current(Long studentId) {
+        return changedAt.getOrDefault(studentId, baseVersion);
+    }
+
+    public void markChanged(Long studentId) {
+        changedAt.put(studentId, version.incrementAndGet());
+    }
+
+    @Override
+    public String entityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public void invalidate(Long entityId, long version) {
+        studentWriteTokens.recordWrite(entityId);
+        markChanged(entityId);
+    }
+}
@@ -1,20 +1,27 @@
 package me.gogradually.courseenrollmentsystem.application.student;
 
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
-import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
+import me.gogradually.courseenrollmentsystem.application.common.IdLookup;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
+import me.gogradually.courseenrollmentsystem.application.common.ReplicaReadScope;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Student listing, served by the read replica when one is configured.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
 public class StudentQueryService {
 
     public static final int DEFAULT_LIMIT = 50;
     public static final int MAX_LIMIT = 100;
 
-    private final StudentRepository studentRepository;
+    private final StudentSummaryReader studentSummaryReader;
 
     /**
      * Returns paged student summaries ordered by id ascending.
@@ -23,9 +30,28 @@ public class StudentQueryService {
         int normalizedOffset = normalizeOffset(offset);
         int normalizedLimit = normalizeLimit(limit);
 
-        return studentRepository.findAll(normalizedOffset, normalizedLimit).stream()
-            .map(StudentSummary::from)
-            .toList();
+        return ReplicaReadScope.call(() -> studentSummaryReader.findPage(normalizedOffset, normalizedLimit));
+    }
+
+    /**
+     * Returns the students after the given id at constant cost per page.
+     */
+    public KeysetPage<StudentSummary> getStudentsAfter(long afterId, Integer limit) {
+        int normalizedLimit = normalizeLimit(limit);
+
+        List<StudentSummary> students = ReplicaReadScope.call(
+                () -> studentSummaryReader.findPageAfter(afterId, normalizedLimit)
+        );
+        return KeysetPage.of(students, normalizedLimit, StudentSummary::id);
+    }
+
+    /**
+     * Returns the requested students in request order with one query, listing ids that do not exist.
+     */
+    public IdLookup<StudentSummary> getStudentsByIds(List<Long> studentIds) {
+        List<Long> distinctIds = studentIds.stream().filter(Objects::nonNull).distinct().toList();
+        List<StudentSummary> students = ReplicaReadScope.call(() -> studentSummaryReader.findByIds(distinctIds));
+        return IdLookup.of(distinctIds, students, StudentSummary::id);
     }
 
     private int normalizeOffset(Integer offset) {
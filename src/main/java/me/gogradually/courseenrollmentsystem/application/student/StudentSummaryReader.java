@@ -0,0 +1,22 @@
+package me.gogradually.courseenrollmentsystem.application.student;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads student rows straight into {@link StudentSummary} without loading managed entities.
+ */
+public interface StudentSummaryReader {
+
+    List<StudentSummary> findPage(int offset, int limit);
+
+    /**
+     * Keyset page: students with an id above {@code afterId}, in id order.
+     */
+    List<StudentSummary> findPageAfter(long afterId, int limit);
+
+    /**
+     * The students among {@code studentIds} that exist, in no particular order.
+     */
+    List<StudentSummary> findByIds(Collection<Long> studentIds);
+}
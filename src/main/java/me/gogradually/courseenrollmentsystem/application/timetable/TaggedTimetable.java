@@ -0,0 +1,11 @@
+package me.gogradually.courseenrollmentsystem.application.timetable;
+
+/**
+ * A timetable with a strong ETag derived from its content, so every node yields the same tag for the same
+ * timetable.
+ */
+public record TaggedTimetable(
+    StudentTimetable timetable,
+    String etag
+) {
+}
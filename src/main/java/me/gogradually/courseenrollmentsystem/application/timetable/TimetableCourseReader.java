@@ -0,0 +1,16 @@
+package me.gogradually.courseenrollmentsystem.application.timetable;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a student's active courses straight into {@link TimetableCourseSummary} without loading managed entities.
+ */
+public interface TimetableCourseReader {
+
+    /**
+     * Active enrollments of the student, in course id order, or empty when the student does not exist.
+     * Existence and enrollments come from the same query.
+     */
+    Optional<List<TimetableCourseSummary>> findActiveCourses(Long studentId);
+}
@@ -1,7 +1,8 @@
 package me.gogradually.courseenrollmentsystem.application.timetable;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import me.gogradually.courseenrollmentsystem.application.common.ScheduleFormatter;
-import me.gogradually.courseenrollmentsystem.domain.course.Course;
 
 public record TimetableCourseSummary(
     Long courseId,
@@ -12,14 +13,26 @@ public record TimetableCourseSummary(
     String departmentName
 ) {
 
-    public static TimetableCourseSummary from(Course course) {
-        return new TimetableCourseSummary(
-            course.getId(),
-            course.getName(),
-            course.getCredits(),
-            ScheduleFormatter.format(course.getTimeSlot()),
-            course.getProfessor().getName(),
-            course.getDepartment().getName()
+    /**
+     * JPQL constructor-expression target: takes the raw time slot columns and formats the schedule.
+     */
+    public TimetableCourseSummary(
+        Long courseId,
+        String courseName,
+        Integer credits,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        String professorName,
+        String departmentName
+    ) {
+        this(
+            courseId,
+            courseName,
+            credits,
+            ScheduleFormatter.format(dayOfWeek, startTime, endTime),
+            professorName,
+            departmentName
         );
     }
 }
@@ -1,37 +1,133 @@
 package me.gogradually.courseenrollmentsystem.application.timetable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
-import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
-import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.application.common.ParallelLookupExecutor;
+import me.gogradually.courseenrollmentsystem.application.common.ReplicaReadScope;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentVersions;
 import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
-import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Timetables of recently seen students, each kept while the student's enrollment version is unchanged, so the
+ * refresh after every enroll attempt costs a query only when the enrollments actually changed.
+ * A miss reads the student and the timetable rows in one query, served by the read replica unless the student
+ * changed enrollments within the tolerated replica lag.
+ * Lookups take no lock. Once more than {@link #MAX_ENTRIES} students are kept, one store evicts the least
+ * recently used tenth, so the sort over the entries is paid once per many misses.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class TimetableQueryService {
 
-    private final StudentRepository studentRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    static final int MAX_ENTRIES = 10_000;
+    static final int ENTRIES_AFTER_EVICTION = MAX_ENTRIES - MAX_ENTRIES / 10;
+
+    private static final String OPERATION = "timetable";
+
+    private final ParallelLookupExecutor parallelLookupExecutor;
+    private final TimetableCourseReader timetableCourseReader;
+    private final StudentWriteTokens studentWriteTokens;
+    private final StudentEnrollmentVersions studentEnrollmentVersions;
+    private final ConcurrentMap<Long, CachedTimetable> timetables = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
 
     /**
      * Returns active course timetable for a student in the current semester.
      */
     public StudentTimetable getStudentTimetable(Long studentId) {
-        studentRepository.findById(studentId).orElseThrow(() -> new StudentNotFoundException(studentId));
+        return getTaggedTimetable(studentId).timetable();
+    }
+
+    /**
+     * Returns the timetable together with its ETag.
+     */
+    public TaggedTimetable getTaggedTimetable(Long studentId) {
+        return getTaggedTimetable(studentId, null);
+    }
+
+    /**
+     * Same as {@link #getTaggedTimetable(Long)}; a recent write token from the client bypasses the cache and the
+     * replica, because the write may have been taken by another node whose invalidation has not arrived yet.
+     */
+    public TaggedTimetable getTaggedTimetable(Long studentId, Long writeToken) {
+        long version = studentEnrollmentVersions.current(studentId);
+        boolean recentWrite = studentWriteTokens.isRecent(writeToken);
+        CachedTimetable cached = timetables.get(studentId);
+        if (!recentWrite && cached != null && cached.version() == version) {
+            cached.lastUsed().set(System.nanoTime());
+            return cached.timetable();
+        }
 
-        List<TimetableCourseSummary> courses = enrollmentRepository.findActiveByStudentIdWithCourse(studentId).stream()
-            .map(Enrollment::getCourse)
-            .map(TimetableCourseSummary::from)
-            .toList();
+        TaggedTimetable loaded = parallelLookupExecutor.record(OPERATION, "total", () -> ReplicaReadScope.callIf(
+                !studentWriteTokens.requiresPrimary(studentId, writeToken),
+                () -> loadTimetable(studentId)
+        ));
+        timetables.put(studentId, new CachedTimetable(version, loaded, new AtomicLong(System.nanoTime())));
+        if (timetables.size() > MAX_ENTRIES) {
+            evict();
+        }
+        return loaded;
+    }
+
+    int cachedStudentCount() {
+        return timetables.size();
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            if (timetables.size() <= MAX_ENTRIES) {
+                return;
+            }
+            timetables.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed().get()))
+                    .limit(timetables.size() - ENTRIES_AFTER_EVICTION)
+                    .forEach(entry -> timetables.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private TaggedTimetable loadTimetable(Long studentId) {
+        List<TimetableCourseSummary> courses = timetableCourseReader.findActiveCourses(studentId)
+                .orElseThrow(() -> new StudentNotFoundException(studentId));
 
         int totalCredits = courses.stream()
-            .mapToInt(TimetableCourseSummary::credits)
-            .sum();
+                .mapToInt(TimetableCourseSummary::credits)
+                .sum();
+
+        StudentTimetable timetable = new StudentTimetable(studentId, totalCredits, courses);
+        return new TaggedTimetable(timetable, "\"" + digest(timetable) + "\"");
+    }
+
+    private static String digest(StudentTimetable timetable) {
+        StringBuilder content = new StringBuilder()
+                .append(timetable.studentId()).append('\n')
+                .append(timetable.totalCredits()).append('\n');
+        for (TimetableCourseSummary course : timetable.courses()) {
+            content.append(course.courseId()).append('\t')
+                    .append(course.courseName()).append('\t')
+                    .append(course.credits()).append('\t')
+                    .append(course.schedule()).append('\t')
+                    .append(course.professorName()).append('\t')
+                    .append(course.departmentName()).append('\n');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
 
-        return new StudentTimetable(studentId, totalCredits, courses);
+    private record CachedTimetable(long version, TaggedTimetable timetable, AtomicLong lastUsed) {
     }
 }
@@ -0,0 +1,45 @@
+package me.gogradually.courseenrollmentsystem.domain.cache;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change-table row telling every node to drop cached state of one entity up to a version.
+ * Rows are append-only; nodes read them in id order past their own high-water mark.
+ */
+@Getter
+@Entity
+@Table(
+        name = "cache_invalidations",
+        indexes = @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    private String entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CacheInvalidation(String entityType, Long entityId, long version, LocalDateTime createdAt) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,29 @@
+package me.gogradually.courseenrollmentsystem.domain.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cache invalidation change-table port.
+ */
+public interface CacheInvalidationRepository {
+
+    CacheInvalidation save(CacheInvalidation invalidation);
+
+    /**
+     * Rows with an id above the given one, in id order.
+     */
+    List<CacheInvalidation> findAfter(long afterId, int limit);
+
+    /**
+     * Highest id written so far, 0 when the table is empty.
+     */
+    long findMaxId();
+
+    /**
+     * Rows with an id in the given inclusive range, in id order.
+     */
+    List<CacheInvalidation> findBetween(long fromId, long toId);
+
+    int deleteCreatedBefore(LocalDateTime createdBefore);
+}
@@ -0,0 +1,63 @@
+package me.gogradually.courseenrollmentsystem.domain.common;
+
+import java.util.Locale;
+
+/**
+ * How long a row lock request may wait for a conflicting lock.
+ * {@link #DEFAULT} leaves the database default (e.g. InnoDB {@code innodb_lock_wait_timeout}) in effect.
+ *
+ * @param timeoutMillis {@code -1} for the database default, {@code 0} for NOWAIT, otherwise the wait budget
+ */
+public record LockWait(long timeoutMillis) {
+
+    public static final LockWait DEFAULT = new LockWait(-1);
+    public static final LockWait NOWAIT = new LockWait(0);
+
+    public LockWait {
+        if (timeoutMillis < -1) {
+            throw new IllegalArgumentException("timeoutMillis must be -1, 0 or positive: " + timeoutMillis);
+        }
+    }
+
+    public static LockWait ofMillis(long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("timeoutMillis must not be negative: " + timeoutMillis);
+        }
+        return timeoutMillis == 0 ? NOWAIT : new LockWait(timeoutMillis);
+    }
+
+    /**
+     * Parses {@code default}, {@code nowait}, or a duration such as {@code 500ms}, {@code 2s} or {@code 750}.
+     */
+    public static LockWait parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (normalized.equals("default")) {
+            return DEFAULT;
+        }
+        if (normalized.equals("nowait")) {
+            return NOWAIT;
+        }
+        try {
+            if (normalized.endsWith("ms")) {
+                return ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 2)));
+            }
+            if (normalized.endsWith("s")) {
+                return ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 1)) * 1000);
+            }
+            return ofMillis(Long.parseLong(normalized));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid lock wait: " + value, exception);
+        }
+    }
+
+    public boolean isDefault() {
+        return timeoutMillis < 0;
+    }
+
+    public boolean isNoWait() {
+        return timeoutMillis == 0;
+    }
+}
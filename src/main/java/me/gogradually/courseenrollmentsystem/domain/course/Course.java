@@ -9,11 +9,14 @@ import me.gogradually.courseenrollmentsystem.domain.exception.CourseCapacityExce
 import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
 
 /**
- * Course aggregate root.
+ * Course aggregate root. Seat counters live in {@link CourseSeat}; this row only holds catalog data.
  */
 @Getter
 @Entity
-@Table(name = "courses")
+@Table(
+        name = "courses",
+        indexes = @Index(name = "idx_courses_department_id_id", columnList = "department_id, id")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Course {
 
@@ -30,14 +33,9 @@ public class Course {
     @Column(nullable = false)
     private int credits;
 
-    @Column(nullable = false)
-    private int capacity;
-
-    @Column(nullable = false)
-    private int enrolledCount;
-
-    @Version
-    private Long version;
+    @Getter(AccessLevel.NONE)
+    @OneToOne(mappedBy = "course", cascade = CascadeType.ALL, optional = false)
+    private CourseSeat seat;
 
     @Embedded
     private TimeSlot timeSlot;
@@ -63,18 +61,11 @@ public class Course {
         if (credits <= 0) {
             throw new IllegalArgumentException("credits must be positive");
         }
-        if (capacity <= 0) {
-            throw new IllegalArgumentException("capacity must be positive");
-        }
-        if (enrolledCount < 0 || enrolledCount > capacity) {
-            throw new IllegalArgumentException("enrolledCount must be between 0 and capacity");
-        }
 
         this.courseCode = courseCode;
         this.name = name;
         this.credits = credits;
-        this.capacity = capacity;
-        this.enrolledCount = enrolledCount;
+        this.seat = new CourseSeat(this, capacity, enrolledCount);
         this.timeSlot = timeSlot;
         this.department = department;
         this.professor = professor;
@@ -91,16 +82,22 @@ public class Course {
         return timeSlot.overlaps(otherTimeSlot);
     }
 
+    public int getCapacity() {
+        return seat.getCapacity();
+    }
+
+    public int getEnrolledCount() {
+        return seat.getEnrolledCount();
+    }
+
     public void increaseEnrollment() {
-        if (enrolledCount >= capacity) {
-            throw new CourseCapacityExceededException(id, capacity);
+        if (seat.isFull()) {
+            throw new CourseCapacityExceededException(id, seat.getCapacity());
         }
-        enrolledCount++;
+        seat.increase();
     }
 
     public void decreaseEnrollment() {
-        if (enrolledCount > 0) {
-            enrolledCount--;
-        }
+        seat.decrease();
     }
 }
@@ -1,5 +1,8 @@
 package me.gogradually.courseenrollmentsystem.domain.course;
 
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,17 +13,23 @@ public interface CourseRepository {
 
     Optional<Course> findById(Long courseId);
 
-    Optional<Course> findByIdForUpdate(Long courseId);
+    Optional<Course> findByIdForUpdate(Long courseId, LockWait lockWait);
 
     boolean existsById(Long courseId);
 
-    List<Course> findAll(Long departmentId, int offset, int limit);
+    List<Course> findAllByIds(Collection<Long> courseIds);
 
     int incrementEnrolledCountIfAvailable(Long courseId);
 
+    int incrementEnrolledCountByIfAvailable(Long courseId, int count);
+
     int decrementEnrolledCountIfPositive(Long courseId);
 
+    int decrementEnrolledCountBy(Long courseId, int count);
+
     void clearPersistenceContext();
 
     Course save(Course course);
+
+    Course saveAndFlush(Course course);
 }
@@ -0,0 +1,62 @@
+package me.gogradually.courseenrollmentsystem.domain.course;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Seat inventory of a course, kept in its own narrow row keyed by course id.
+ * Seat updates and row locks touch only this row, and its version changes only with the seat count,
+ * so catalog edits on {@link Course} never fail an optimistic seat update.
+ */
+@Getter
+@Entity
+@Table(name = "course_seats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseSeat {
+
+    @Id
+    private Long courseId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "course_id")
+    private Course course;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false)
+    private int enrolledCount;
+
+    @Version
+    private Long version;
+
+    CourseSeat(Course course, int capacity, int enrolledCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (enrolledCount < 0 || enrolledCount > capacity) {
+            throw new IllegalArgumentException("enrolledCount must be between 0 and capacity");
+        }
+
+        this.course = course;
+        this.capacity = capacity;
+        this.enrolledCount = enrolledCount;
+    }
+
+    boolean isFull() {
+        return enrolledCount >= capacity;
+    }
+
+    void increase() {
+        enrolledCount++;
+    }
+
+    void decrease() {
+        if (enrolledCount > 0) {
+            enrolledCount--;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package me.gogradually.courseenrollmentsystem.domain.course;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Block of seats escrowed from a course to one application node.
+ * Granted seats are already counted in {@link CourseSeat#getEnrolledCount()}; {@code used} counts the ones
+ * turned into enrollments, and the rest goes back to the course when the lease is returned.
+ */
+@Getter
+@Entity
+@Table(
+        name = "course_seat_leases",
+        indexes = @Index(name = "idx_course_seat_leases_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseSeatLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private int granted;
+
+    @Column(nullable = false)
+    private int used;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public CourseSeatLease(Long courseId, String nodeId, LocalDateTime expiresAt) {
+        this.courseId = courseId;
+        this.nodeId = nodeId;
+        this.expiresAt = expiresAt;
+    }
+
+    public void grant(int seats) {
+        if (seats < 0) {
+            throw new IllegalArgumentException("seats must not be negative");
+        }
+        this.granted = seats;
+    }
+
+    /**
+     * Moves the lease to another node, e.g. the new owner of the course.
+     */
+    public void transferTo(String nodeId, LocalDateTime expiresAt) {
+        this.nodeId = nodeId;
+        this.expiresAt = expiresAt;
+    }
+
+    public int unused() {
+        return granted - used;
+    }
+}
@@ -0,0 +1,24 @@
+package me.gogradually.courseenrollmentsystem.domain.course;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Course seat lease repository port.
+ */
+public interface CourseSeatLeaseRepository {
+
+    CourseSeatLease save(CourseSeatLease lease);
+
+    Optional<CourseSeatLease> findByIdForUpdate(Long leaseId);
+
+    /**
+     * Counts one leased seat as used. Returns 0 when the lease is exhausted or already returned.
+     */
+    int consume(Long leaseId);
+
+    List<Long> findIdsExpiredBefore(LocalDateTime expiredBefore, int limit);
+
+    void delete(CourseSeatLease lease);
+}
@@ -0,0 +1,84 @@
+package me.gogradually.courseenrollmentsystem.domain.course;
+
+import java.util.Arrays;
+
+/**
+ * Weekly schedule bitmask value object.
+ * Each bit represents a {@value #SLOT_MINUTES}-minute slot of the week, so overlapping
+ * time slots always share at least one bit.
+ */
+public final class ScheduleMask {
+
+    public static final int SLOT_MINUTES = 5;
+
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int WORD_COUNT = (SLOTS_PER_DAY * 7 + Long.SIZE - 1) / Long.SIZE;
+    private static final ScheduleMask EMPTY = new ScheduleMask(new long[WORD_COUNT]);
+
+    private final long[] words;
+
+    private ScheduleMask(long[] words) {
+        this.words = words;
+    }
+
+    public static ScheduleMask empty() {
+        return EMPTY;
+    }
+
+    public static ScheduleMask of(TimeSlot timeSlot) {
+        if (timeSlot == null) {
+            throw new IllegalArgumentException("timeslot must not be null");
+        }
+        int dayOffset = (timeSlot.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY;
+        int startSlot = timeSlot.getStartTime().toSecondOfDay() / 60 / SLOT_MINUTES;
+        int endMinute = timeSlot.getEndTime().toSecondOfDay() / 60;
+        int endSlot = (endMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+
+        long[] words = new long[WORD_COUNT];
+        for (int slot = dayOffset + startSlot; slot < dayOffset + endSlot; slot++) {
+            words[slot / Long.SIZE] |= 1L << (slot % Long.SIZE);
+        }
+        return new ScheduleMask(words);
+    }
+
+    public ScheduleMask union(ScheduleMask other) {
+        long[] merged = Arrays.copyOf(words, WORD_COUNT);
+        for (int index = 0; index < WORD_COUNT; index++) {
+            merged[index] |= other.words[index];
+        }
+        return new ScheduleMask(merged);
+    }
+
+    /**
+     * Returns true when both masks share a slot.
+     * Slots are {@value #SLOT_MINUTES} minutes wide, so a hit on unaligned times should be confirmed
+     * with {@link TimeSlot#overlaps(TimeSlot)}.
+     */
+    public boolean intersects(ScheduleMask other) {
+        for (int index = 0; index < WORD_COUNT; index++) {
+            if ((words[index] & other.words[index]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ScheduleMask mask && Arrays.equals(words, mask.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -22,8 +22,8 @@ import java.time.LocalDateTime;
                 @Index(name = "idx_enrollments_course_status", columnList = "course_id, status")
         },
         uniqueConstraints = @UniqueConstraint(
-                name = "uk_enrollments_student_course_status",
-                columnNames = {"student_id", "course_id", "status"}
+                name = "uk_enrollments_student_active_course",
+                columnNames = {"student_id", "active_course_id"}
         )
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -59,6 +59,18 @@ public class Enrollment {
     @Column
     private LocalDateTime canceledAt;
 
+    /**
+     * Mirrors course_id only while PENDING or ACTIVE, so the unique key ignores canceled history rows
+     * (NULLs never collide) while still blocking a duplicate during a pending reservation.
+     */
+    @Column(
+            name = "active_course_id",
+            insertable = false,
+            updatable = false,
+            columnDefinition = "bigint generated always as (case when status in ('PENDING', 'ACTIVE') then course_id end)"
+    )
+    private Long activeCourseId;
+
     private Enrollment(Student student, Course course) {
         this.student = student;
         this.course = course;
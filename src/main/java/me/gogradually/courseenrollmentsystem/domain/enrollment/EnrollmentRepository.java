@@ -1,5 +1,8 @@
 package me.gogradually.courseenrollmentsystem.domain.enrollment;
 
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,15 +15,29 @@ public interface EnrollmentRepository {
 
     Long insertActive(Long studentId, Long courseId);
 
+    Long insertPending(Long studentId, Long courseId);
+
+    /**
+     * Flips a PENDING enrollment to ACTIVE. Returns 0 when it is no longer pending.
+     */
+    int confirmPending(Long enrollmentId);
+
+    /**
+     * Deletes a PENDING enrollment. Returns 0 when it was already confirmed or released.
+     */
+    int deletePendingById(Long enrollmentId);
+
+    List<Enrollment> findPendingCreatedBefore(LocalDateTime createdBefore, int limit);
+
     Enrollment save(Enrollment enrollment);
 
     boolean existsActiveByStudentIdAndCourseId(Long studentId, Long courseId);
 
     List<Enrollment> findActiveByStudentId(Long studentId);
 
-    List<Enrollment> findActiveByStudentIdWithCourse(Long studentId);
+    Optional<Long> findCourseIdById(Long enrollmentId);
 
-    Optional<Enrollment> findByIdForUpdate(Long enrollmentId);
+    Optional<Enrollment> findByIdForUpdate(Long enrollmentId, LockWait lockWait);
 
     void deleteById(Long enrollmentId);
 }
@@ -4,6 +4,10 @@ package me.gogradually.courseenrollmentsystem.domain.enrollment;
  * Enrollment lifecycle status.
  */
 public enum EnrollmentStatus {
+    /**
+     * Seat reserved by the separated strategy but not yet validated; confirmed to ACTIVE or released.
+     */
+    PENDING,
     ACTIVE,
     CANCELED
 }
@@ -0,0 +1,11 @@
+package me.gogradually.courseenrollmentsystem.domain.exception;
+
+/**
+ * Thrown when a pending reservation was released by the reconciler before it could be confirmed.
+ */
+public class EnrollmentReservationExpiredException extends DomainException {
+
+    public EnrollmentReservationExpiredException(Long enrollmentId) {
+        super("Pending enrollment reservation expired before confirmation. enrollmentId=" + enrollmentId);
+    }
+}
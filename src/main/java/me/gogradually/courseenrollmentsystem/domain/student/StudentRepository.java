@@ -1,6 +1,7 @@
 package me.gogradually.courseenrollmentsystem.domain.student;
 
-import java.util.List;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+
 import java.util.Optional;
 
 /**
@@ -10,11 +11,9 @@ public interface StudentRepository {
 
     Optional<Student> findById(Long studentId);
 
-    Optional<Student> findByIdForUpdate(Long studentId);
+    Optional<Student> findByIdForUpdate(Long studentId, LockWait lockWait);
 
     boolean existsById(Long studentId);
 
-    List<Student> findAll(int offset, int limit);
-
     Student save(Student student);
 }
@@ -0,0 +1,143 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.cache;
+
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationProperties;
+import me.gogradually.courseenrollmentsystem.application.cache.InvalidationEvent;
+import me.gogradually.courseenrollmentsystem.application.cache.InvalidationTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Pushes invalidations to peer nodes as UDP datagrams of {@code type\tid\tversion} lines.
+ * Lost or reordered datagrams are fine because the change table is polled anyway; meant for loopback
+ * setups and tests rather than as the only delivery path.
+ */
+public class UdpInvalidationTransport implements InvalidationTransport, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpInvalidationTransport.class);
+    private static final int MAX_PAYLOAD_BYTES = 1_400;
+    private static final int RECEIVE_BUFFER_BYTES = 65_507;
+
+    private final CacheInvalidationProperties.Udp settings;
+    private final Consumer<List<InvalidationEvent>> receiver;
+    private final List<InetSocketAddress> peers;
+    private volatile DatagramSocket socket;
+
+    public UdpInvalidationTransport(CacheInvalidationProperties.Udp settings, Consumer<List<InvalidationEvent>> receiver) {
+        this.settings = settings;
+        this.receiver = receiver;
+        this.peers = settings.peers().stream().map(UdpInvalidationTransport::toAddress).toList();
+    }
+
+    @Override
+    public void send(List<InvalidationEvent> events) {
+        DatagramSocket current = socket;
+        if (current == null || events.isEmpty() || peers.isEmpty()) {
+            return;
+        }
+        for (byte[] payload : encode(events)) {
+            for (InetSocketAddress peer : peers) {
+                try {
+                    current.send(new DatagramPacket(payload, payload.length, peer));
+                } catch (IOException exception) {
+                    log.debug("Failed to send cache invalidations. peer={}", peer, exception);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            socket = new DatagramSocket(new InetSocketAddress(settings.host(), settings.port()));
+        } catch (SocketException exception) {
+            throw new IllegalStateException("Failed to bind cache invalidation UDP port " + settings.port(), exception);
+        }
+        Thread.ofPlatform()
+                .name("cache-invalidation-udp")
+                .daemon()
+                .start(() -> receive(socket));
+    }
+
+    @Override
+    public void stop() {
+        DatagramSocket current = socket;
+        socket = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return socket != null;
+    }
+
+    public int localPort() {
+        DatagramSocket current = socket;
+        return current == null ? -1 : current.getLocalPort();
+    }
+
+    private void receive(DatagramSocket receiving) {
+        byte[] buffer = new byte[RECEIVE_BUFFER_BYTES];
+        while (!receiving.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                receiving.receive(packet);
+                receiver.accept(decode(new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8)));
+            } catch (IOException exception) {
+                if (!receiving.isClosed()) {
+                    log.warn("Failed to receive cache invalidations", exception);
+                }
+            } catch (RuntimeException exception) {
+                log.warn("Dropped malformed cache invalidation datagram", exception);
+            }
+        }
+    }
+
+    private List<byte[]> encode(List<InvalidationEvent> events) {
+        List<byte[]> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (InvalidationEvent event : events) {
+            String line = event.entityType() + '\t' + event.entityId() + '\t' + event.version() + '\n';
+            if (payload.length() + line.length() > MAX_PAYLOAD_BYTES && !payload.isEmpty()) {
+                payloads.add(payload.toString().getBytes(StandardCharsets.UTF_8));
+                payload.setLength(0);
+            }
+            payload.append(line);
+        }
+        if (!payload.isEmpty()) {
+            payloads.add(payload.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return payloads;
+    }
+
+    private List<InvalidationEvent> decode(String payload) {
+        List<InvalidationEvent> events = new ArrayList<>();
+        for (String line : payload.split("\n")) {
+            String[] fields = line.split("\t");
+            if (fields.length == 3) {
+                events.add(new InvalidationEvent(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+            }
+        }
+        return events;
+    }
+
+    private static InetSocketAddress toAddress(String peer) {
+        int separator = peer.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Cache invalidation peer must be host:port: " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, separator).trim(), Integer.parseInt(peer.substring(separator + 1).trim()));
+    }
+}
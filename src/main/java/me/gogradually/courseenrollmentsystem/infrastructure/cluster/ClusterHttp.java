@@ -0,0 +1,25 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.cluster;
+
+/**
+ * Header and paths used between cluster nodes.
+ */
+public final class ClusterHttp {
+
+    /**
+     * Set on forwarded requests with the id of the forwarding node; together with {@link #SECRET_HEADER} such
+     * requests are never forwarded again.
+     */
+    public static final String FORWARDED_BY_HEADER = "X-Cluster-Forwarded-By";
+
+    /**
+     * Carries {@code app.cluster.shared-secret}; internal endpoints reject calls without it.
+     */
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    public static final String INTERNAL_PATH_PATTERN = "/internal/cluster/*";
+
+    public static final String SEAT_LEASE_HANDOFF_PATH = "/internal/cluster/handoff/seat-leases";
+
+    private ClusterHttp() {
+    }
+}
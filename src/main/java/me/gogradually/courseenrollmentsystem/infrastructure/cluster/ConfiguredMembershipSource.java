@@ -0,0 +1,53 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.cluster;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterNode;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterProperties;
+import me.gogradually.courseenrollmentsystem.application.cluster.MembershipSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * Members from the local registry file when configured, otherwise from {@code app.cluster.nodes}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConfiguredMembershipSource implements MembershipSource {
+
+    private final ClusterProperties properties;
+
+    @Override
+    public List<ClusterNode> load() {
+        if (properties.registryFile() == null || properties.registryFile().isBlank()) {
+            return toNodes(properties.nodes());
+        }
+        return toNodes(readRegistry(Path.of(properties.registryFile())));
+    }
+
+    private Map<String, String> readRegistry(Path registryFile) {
+        Properties registry = new Properties();
+        try (Reader reader = Files.newBufferedReader(registryFile, StandardCharsets.UTF_8)) {
+            registry.load(reader);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read cluster registry file: " + registryFile, exception);
+        }
+        return registry.stringPropertyNames().stream()
+                .collect(Collectors.toMap(name -> name, registry::getProperty));
+    }
+
+    private List<ClusterNode> toNodes(Map<String, String> nodes) {
+        return nodes.entrySet().stream()
+                .map(entry -> new ClusterNode(entry.getKey().trim(), entry.getValue().trim()))
+                .toList();
+    }
+}
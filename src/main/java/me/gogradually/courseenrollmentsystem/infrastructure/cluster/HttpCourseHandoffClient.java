@@ -0,0 +1,60 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterNode;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterProperties;
+import me.gogradually.courseenrollmentsystem.application.cluster.CourseHandoffClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+@Component
+public class HttpCourseHandoffClient implements CourseHandoffClient {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpCourseHandoffClient.class);
+
+    private final ClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public HttpCourseHandoffClient(ClusterProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.forwardTimeout())
+                .build();
+    }
+
+    @Override
+    public boolean handOffSeatLease(ClusterNode owner, Long courseId, Long leaseId) {
+        try {
+            String body = objectMapper.writeValueAsString(Map.of("courseId", courseId, "leaseId", leaseId));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(owner.baseUrl() + ClusterHttp.SEAT_LEASE_HANDOFF_PATH))
+                    .timeout(properties.forwardTimeout())
+                    .header("Content-Type", "application/json")
+                    .header(ClusterHttp.FORWARDED_BY_HEADER, properties.nodeId())
+                    .header(ClusterHttp.SECRET_HEADER, properties.sharedSecret() == null ? "" : properties.sharedSecret())
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status / 100 == 2;
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("Failed to serialize seat lease hand-off", exception);
+        } catch (IOException exception) {
+            log.warn("Seat lease hand-off failed. owner={}, courseId={}", owner.id(), courseId, exception);
+            return false;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
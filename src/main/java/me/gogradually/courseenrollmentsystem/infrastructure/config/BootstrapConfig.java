@@ -1,9 +1,33 @@
 package me.gogradually.courseenrollmentsystem.infrastructure.config;
 
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationProperties;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterProperties;
+import me.gogradually.courseenrollmentsystem.application.common.ReadReplicaProperties;
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogCacheProperties;
+import me.gogradually.courseenrollmentsystem.application.course.SeatStreamProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.lease.SeatLeaseProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.reconcile.PendingEnrollmentProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentIsolationProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentValidationProperties;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockOrderProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties(InitialDataProperties.class)
+@EnableConfigurationProperties({
+        InitialDataProperties.class,
+        EnrollmentValidationProperties.class,
+        EnrollmentLockWaitProperties.class,
+        EnrollmentIsolationProperties.class,
+        PendingEnrollmentProperties.class,
+        SeatLeaseProperties.class,
+        ClusterProperties.class,
+        CacheInvalidationProperties.class,
+        ReadReplicaProperties.class,
+        CourseCatalogCacheProperties.class,
+        SeatStreamProperties.class,
+        LockOrderProperties.class
+})
 public class BootstrapConfig {
 }
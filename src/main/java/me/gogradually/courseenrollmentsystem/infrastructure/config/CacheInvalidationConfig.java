@@ -0,0 +1,23 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationProperties;
+import me.gogradually.courseenrollmentsystem.application.cache.InvalidationDispatcher;
+import me.gogradually.courseenrollmentsystem.application.cache.InvalidationTransport;
+import me.gogradually.courseenrollmentsystem.infrastructure.cache.UdpInvalidationTransport;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    public InvalidationTransport invalidationTransport(
+            CacheInvalidationProperties properties,
+            InvalidationDispatcher dispatcher
+    ) {
+        if (!properties.enabled() || properties.transport() != CacheInvalidationProperties.Transport.UDP) {
+            return InvalidationTransport.NONE;
+        }
+        return new UdpInvalidationTransport(properties.udp(), dispatcher::accept);
+    }
+}
@@ -0,0 +1,52 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterMembership;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterProperties;
+import me.gogradually.courseenrollmentsystem.infrastructure.cluster.ClusterHttp;
+import me.gogradually.courseenrollmentsystem.infrastructure.web.ClusterSecretFilter;
+import me.gogradually.courseenrollmentsystem.infrastructure.web.CourseAffinityForwardingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+public class ClusterConfig {
+
+    @Bean
+    public FilterRegistrationBean<CourseAffinityForwardingFilter> courseAffinityForwardingFilter(
+            ClusterMembership membership,
+            ClusterProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        requireSharedSecret(properties);
+        FilterRegistrationBean<CourseAffinityForwardingFilter> registration = new FilterRegistrationBean<>(
+                new CourseAffinityForwardingFilter(membership, properties, objectMapper, meterRegistry)
+        );
+        registration.addUrlPatterns("/enrollments", "/enrollments/*");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ClusterSecretFilter> clusterSecretFilter(
+            ClusterProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        requireSharedSecret(properties);
+        FilterRegistrationBean<ClusterSecretFilter> registration = new FilterRegistrationBean<>(
+                new ClusterSecretFilter(properties.sharedSecret(), objectMapper)
+        );
+        registration.addUrlPatterns(ClusterHttp.INTERNAL_PATH_PATTERN);
+        return registration;
+    }
+
+    private static void requireSharedSecret(ClusterProperties properties) {
+        if (properties.sharedSecret() == null || properties.sharedSecret().isBlank()) {
+            throw new IllegalStateException("app.cluster.shared-secret must be set when app.cluster.enabled is true");
+        }
+    }
+}
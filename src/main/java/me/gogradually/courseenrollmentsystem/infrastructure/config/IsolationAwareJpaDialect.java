@@ -0,0 +1,38 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import me.gogradually.courseenrollmentsystem.application.common.IsolationScope;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.support.DelegatingTransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Applies the {@link IsolationScope} isolation to transactions declared with the default isolation.
+ * Hibernate sets the level on the JDBC connection for the transaction and restores it on cleanup,
+ * so the pool default stays in effect for every other transaction.
+ */
+public class IsolationAwareJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        return super.beginTransaction(entityManager, withScopedIsolation(definition));
+    }
+
+    static TransactionDefinition withScopedIsolation(TransactionDefinition definition) {
+        Isolation scoped = IsolationScope.current();
+        if (scoped == Isolation.DEFAULT || definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT) {
+            return definition;
+        }
+        return new DelegatingTransactionDefinition(definition) {
+            @Override
+            public int getIsolationLevel() {
+                return scoped.value();
+            }
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import me.gogradually.courseenrollmentsystem.application.common.ReplicaReadScope;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions opened in a {@link ReplicaReadScope} to the replica and everything else to the
+ * primary. Wrapped in a lazy connection proxy, the key is resolved at the first statement of a transaction,
+ * after the transaction manager has marked it read-only.
+ */
+public class ReadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReplicaReadScope.isOpen() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,27 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+@Configuration
+public class TransactionIsolationConfig {
+
+    /**
+     * Installs {@link IsolationAwareJpaDialect} before the factory bean initializes,
+     * so the JPA transaction manager picks it up from the entity manager factory.
+     */
+    @Bean
+    static BeanPostProcessor isolationAwareJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setJpaDialect(new IsolationAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import me.gogradually.courseenrollmentsystem.infrastructure.web.TransactionIsolationOverrideInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.enrollment.isolation", name = "allow-request-override", havingValue = "true")
+public class TransactionIsolationOverrideConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TransactionIsolationOverrideInterceptor())
+                .addPathPatterns("/enrollments/**");
+    }
+}
@@ -0,0 +1,32 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteEntry;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteEntryReader;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteType;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Reads id, name and code columns only, so loading 40k+ students stays a single narrow scan.
+ */
+@Repository
+public class AutocompleteEntryReaderAdapter implements AutocompleteEntryReader {
+
+    private static final String ENTRY = "me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteEntry";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AutocompleteEntry> findAll(AutocompleteType type) {
+        String query = switch (type) {
+            case COURSE -> "select new " + ENTRY + "(c.id, c.name, c.courseCode) from Course c order by c.id";
+            case PROFESSOR -> "select new " + ENTRY + "(p.id, p.name) from Professor p order by p.id";
+            case STUDENT -> "select new " + ENTRY + "(s.id, s.name, s.studentNumber) from Student s order by s.id";
+        };
+        return entityManager.createQuery(query, AutocompleteEntry.class).getResultList();
+    }
+}
@@ -0,0 +1,43 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidation;
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidationRepository;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa.CacheInvalidationJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationRepositoryAdapter implements CacheInvalidationRepository {
+
+    private final CacheInvalidationJpaRepository cacheInvalidationJpaRepository;
+
+    @Override
+    public CacheInvalidation save(CacheInvalidation invalidation) {
+        return cacheInvalidationJpaRepository.save(invalidation);
+    }
+
+    @Override
+    public List<CacheInvalidation> findAfter(long afterId, int limit) {
+        return cacheInvalidationJpaRepository.findAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long findMaxId() {
+        return cacheInvalidationJpaRepository.findMaxId();
+    }
+
+    @Override
+    public List<CacheInvalidation> findBetween(long fromId, long toId) {
+        return cacheInvalidationJpaRepository.findBetween(fromId, toId);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdBefore) {
+        return cacheInvalidationJpaRepository.deleteCreatedBefore(createdBefore);
+    }
+}
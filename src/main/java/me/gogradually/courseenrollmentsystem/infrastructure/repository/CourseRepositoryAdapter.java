@@ -1,18 +1,28 @@
 package me.gogradually.courseenrollmentsystem.infrastructure.repository;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteEntry;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteService;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteType;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeat;
 import me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa.CourseJpaRepository;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockOrderGuard;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockResource;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockWaitHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Inserted courses are added to autocomplete.
+ */
 @Repository
 @RequiredArgsConstructor
 public class CourseRepositoryAdapter implements CourseRepository {
@@ -21,6 +31,8 @@ public class CourseRepositoryAdapter implements CourseRepository {
     private EntityManager entityManager;
 
     private final CourseJpaRepository courseJpaRepository;
+    private final LockOrderGuard lockOrderGuard;
+    private final AutocompleteService autocompleteService;
 
     @Override
     public Optional<Course> findById(Long courseId) {
@@ -28,9 +40,10 @@ public class CourseRepositoryAdapter implements CourseRepository {
     }
 
     @Override
-    public Optional<Course> findByIdForUpdate(Long courseId) {
-        Course course = entityManager.find(Course.class, courseId, LockModeType.PESSIMISTIC_WRITE);
-        return Optional.ofNullable(course);
+    public Optional<Course> findByIdForUpdate(Long courseId, LockWait lockWait) {
+        lockOrderGuard.acquire(LockResource.COURSE, courseId);
+        CourseSeat seat = LockWaitHints.findForUpdate(entityManager, CourseSeat.class, courseId, lockWait);
+        return Optional.ofNullable(seat).map(CourseSeat::getCourse);
     }
 
     @Override
@@ -39,48 +52,70 @@ public class CourseRepositoryAdapter implements CourseRepository {
     }
 
     @Override
-    public List<Course> findAll(Long departmentId, int offset, int limit) {
-        StringBuilder queryBuilder = new StringBuilder(
-                "select c from Course c join fetch c.department d join fetch c.professor p"
-        );
-
-        if (departmentId != null) {
-            queryBuilder.append(" where d.id = :departmentId");
-        }
-        queryBuilder.append(" order by c.id");
-
-        TypedQuery<Course> query = entityManager.createQuery(queryBuilder.toString(), Course.class);
-        if (departmentId != null) {
-            query.setParameter("departmentId", departmentId);
+    public List<Course> findAllByIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return List.of();
         }
-
-        return query
-                .setFirstResult(offset)
-                .setMaxResults(limit)
-                .getResultList();
+        return courseJpaRepository.findAllWithSeatByIdIn(courseIds);
     }
 
     @Override
     public int incrementEnrolledCountIfAvailable(Long courseId) {
+        lockOrderGuard.acquire(LockResource.COURSE, courseId);
+        return entityManager.createQuery("""
+                        update CourseSeat s
+                        set s.enrolledCount = s.enrolledCount + 1,
+                            s.version = s.version + 1
+                        where s.courseId = :courseId
+                          and s.enrolledCount < s.capacity
+                        """)
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int incrementEnrolledCountByIfAvailable(Long courseId, int count) {
+        lockOrderGuard.acquire(LockResource.COURSE, courseId);
         return entityManager.createQuery("""
-                        update Course c
-                        set c.enrolledCount = c.enrolledCount + 1
-                        where c.id = :courseId
-                          and c.enrolledCount < c.capacity
+                        update CourseSeat s
+                        set s.enrolledCount = s.enrolledCount + :count,
+                            s.version = s.version + 1
+                        where s.courseId = :courseId
+                          and s.enrolledCount + :count <= s.capacity
                         """)
                 .setParameter("courseId", courseId)
+                .setParameter("count", count)
                 .executeUpdate();
     }
 
     @Override
     public int decrementEnrolledCountIfPositive(Long courseId) {
+        lockOrderGuard.acquire(LockResource.COURSE, courseId);
+        return entityManager.createQuery("""
+                        update CourseSeat s
+                        set s.enrolledCount = s.enrolledCount - 1,
+                            s.version = s.version + 1
+                        where s.courseId = :courseId
+                          and s.enrolledCount > 0
+                        """)
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int decrementEnrolledCountBy(Long courseId, int count) {
+        lockOrderGuard.acquire(LockResource.COURSE, courseId);
         return entityManager.createQuery("""
-                        update Course c
-                        set c.enrolledCount = c.enrolledCount - 1
-                        where c.id = :courseId
-                          and c.enrolledCount > 0
+                        update CourseSeat s
+                        set s.enrolledCount = case
+                            when s.enrolledCount >= :count then s.enrolledCount - :count
+                            else 0
+                        end,
+                            s.version = s.version + 1
+                        where s.courseId = :courseId
                         """)
                 .setParameter("courseId", courseId)
+                .setParameter("count", count)
                 .executeUpdate();
     }
 
@@ -91,6 +126,27 @@ public class CourseRepositoryAdapter implements CourseRepository {
 
     @Override
     public Course save(Course course) {
-        return courseJpaRepository.save(course);
+        boolean inserted = course.getId() == null;
+        Course saved = courseJpaRepository.save(course);
+        recordIfInserted(inserted, saved);
+        return saved;
+    }
+
+    @Override
+    public Course saveAndFlush(Course course) {
+        boolean inserted = course.getId() == null;
+        lockOrderGuard.acquire(LockResource.COURSE, course.getId());
+        Course saved = courseJpaRepository.saveAndFlush(course);
+        recordIfInserted(inserted, saved);
+        return saved;
+    }
+
+    private void recordIfInserted(boolean inserted, Course course) {
+        if (inserted) {
+            autocompleteService.recordInserted(
+                    AutocompleteType.COURSE,
+                    new AutocompleteEntry(course.getId(), course.getName(), course.getCourseCode())
+            );
+        }
     }
 }
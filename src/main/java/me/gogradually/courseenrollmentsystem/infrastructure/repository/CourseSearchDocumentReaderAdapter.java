@@ -0,0 +1,35 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchDocument;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchDocumentReader;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Loads the catalog for the search index in one projection query.
+ */
+@Repository
+public class CourseSearchDocumentReaderAdapter implements CourseSearchDocumentReader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CourseSearchDocument> findAll() {
+        return entityManager.createQuery("""
+                        select new me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchDocument(
+                            c.id, c.courseCode, c.name, c.credits,
+                            c.timeSlot.dayOfWeek, c.timeSlot.startTime, c.timeSlot.endTime,
+                            d.id, d.name, p.id, p.name
+                        )
+                        from Course c
+                        join c.department d
+                        join c.professor p
+                        order by c.id
+                        """, CourseSearchDocument.class)
+                .getResultList();
+    }
+}
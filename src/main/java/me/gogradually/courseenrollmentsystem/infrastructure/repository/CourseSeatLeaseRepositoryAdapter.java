@@ -0,0 +1,66 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLease;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLeaseRepository;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa.CourseSeatLeaseJpaRepository;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockOrderGuard;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class CourseSeatLeaseRepositoryAdapter implements CourseSeatLeaseRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CourseSeatLeaseJpaRepository courseSeatLeaseJpaRepository;
+    private final LockOrderGuard lockOrderGuard;
+
+    /**
+     * Inserts new leases immediately so the id is known and the row is counted as held.
+     */
+    @Override
+    public CourseSeatLease save(CourseSeatLease lease) {
+        if (lease.getId() != null) {
+            lockOrderGuard.acquire(LockResource.SEAT_LEASE, lease.getId());
+            return courseSeatLeaseJpaRepository.save(lease);
+        }
+        entityManager.persist(lease);
+        entityManager.flush();
+        lockOrderGuard.acquire(LockResource.SEAT_LEASE, lease.getId());
+        return lease;
+    }
+
+    @Override
+    public Optional<CourseSeatLease> findByIdForUpdate(Long leaseId) {
+        lockOrderGuard.acquire(LockResource.SEAT_LEASE, leaseId);
+        return Optional.ofNullable(entityManager.find(CourseSeatLease.class, leaseId, LockModeType.PESSIMISTIC_WRITE));
+    }
+
+    @Override
+    public int consume(Long leaseId) {
+        lockOrderGuard.acquire(LockResource.SEAT_LEASE, leaseId);
+        return courseSeatLeaseJpaRepository.incrementUsed(leaseId);
+    }
+
+    @Override
+    public List<Long> findIdsExpiredBefore(LocalDateTime expiredBefore, int limit) {
+        return courseSeatLeaseJpaRepository.findIdsExpiredBefore(expiredBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void delete(CourseSeatLease lease) {
+        lockOrderGuard.acquire(LockResource.SEAT_LEASE, lease.getId());
+        courseSeatLeaseJpaRepository.delete(lease);
+    }
+}
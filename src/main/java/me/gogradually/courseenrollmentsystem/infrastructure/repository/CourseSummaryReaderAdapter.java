@@ -0,0 +1,87 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummaryReader;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Selects only the listed columns into {@link CourseSummary}; no entity is hydrated, snapshotted or proxied.
+ */
+@Repository
+public class CourseSummaryReaderAdapter implements CourseSummaryReader {
+
+    private static final String SELECT_SUMMARY = """
+            select new me.gogradually.courseenrollmentsystem.application.course.CourseSummary(
+                c.id, c.courseCode, c.name, c.credits, s.capacity, s.enrolledCount,
+                c.timeSlot.dayOfWeek, c.timeSlot.startTime, c.timeSlot.endTime,
+                d.id, d.name, p.id, p.name
+            )
+            from Course c
+            join c.seat s
+            join c.department d
+            join c.professor p
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CourseSummary> findPage(Long departmentId, int offset, int limit) {
+        StringBuilder queryBuilder = new StringBuilder(SELECT_SUMMARY);
+
+        if (departmentId != null) {
+            queryBuilder.append(" where d.id = :departmentId");
+        }
+        queryBuilder.append(" order by c.id");
+
+        TypedQuery<CourseSummary> query = entityManager.createQuery(queryBuilder.toString(), CourseSummary.class);
+        if (departmentId != null) {
+            query.setParameter("departmentId", departmentId);
+        }
+
+        return query
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Seeks past {@code afterId} on the primary key (or the department/id index), so every page reads only
+     * {@code limit} rows regardless of depth.
+     */
+    @Override
+    public List<CourseSummary> findPageAfter(Long departmentId, long afterId, int limit) {
+        StringBuilder queryBuilder = new StringBuilder(SELECT_SUMMARY).append(" where c.id > :afterId");
+
+        if (departmentId != null) {
+            queryBuilder.append(" and d.id = :departmentId");
+        }
+        queryBuilder.append(" order by c.id");
+
+        TypedQuery<CourseSummary> query = entityManager.createQuery(queryBuilder.toString(), CourseSummary.class)
+                .setParameter("afterId", afterId);
+        if (departmentId != null) {
+            query.setParameter("departmentId", departmentId);
+        }
+
+        return query
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<CourseSummary> findByIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(SELECT_SUMMARY + " where c.id in :courseIds", CourseSummary.class)
+                .setParameter("courseIds", courseIds)
+                .getResultList();
+    }
+}
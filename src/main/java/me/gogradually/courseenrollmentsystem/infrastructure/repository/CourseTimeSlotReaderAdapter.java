@@ -0,0 +1,31 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.course.CourseTimeSlotReader;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+public class CourseTimeSlotReaderAdapter implements CourseTimeSlotReader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Map<Long, TimeSlot> findByCourseIds(Collection<Long> courseIds) {
+        Map<Long, TimeSlot> timeSlots = new HashMap<>(courseIds.size() * 2);
+        if (courseIds.isEmpty()) {
+            return timeSlots;
+        }
+        entityManager.createQuery("select c.id, c.timeSlot from Course c where c.id in :courseIds", Object[].class)
+                .setParameter("courseIds", courseIds)
+                .getResultList()
+                .forEach(row -> timeSlots.put((Long) row[0], (TimeSlot) row[1]));
+        return timeSlots;
+    }
+}
@@ -1,10 +1,17 @@
 package me.gogradually.courseenrollmentsystem.infrastructure.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentStatus;
 import me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa.EnrollmentJpaRepository;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockOrderGuard;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockResource;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockWaitHints;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -21,8 +28,12 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class EnrollmentRepositoryAdapter implements EnrollmentRepository {
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private final EnrollmentJpaRepository enrollmentJpaRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final LockOrderGuard lockOrderGuard;
 
     @Override
     public Optional<Enrollment> findById(Long enrollmentId) {
@@ -31,32 +42,40 @@ public class EnrollmentRepositoryAdapter implements EnrollmentRepository {
 
     @Override
     public Long insertActive(Long studentId, Long courseId) {
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-        int affectedRows = jdbcTemplate.update(connection -> {
-            PreparedStatement statement = connection.prepareStatement(
-                    """
-                            insert into enrollments (student_id, course_id, status, created_at)
-                            values (?, ?, ?, ?)
-                            """,
-                    Statement.RETURN_GENERATED_KEYS
-            );
-            statement.setLong(1, studentId);
-            statement.setLong(2, courseId);
-            statement.setString(3, EnrollmentStatus.ACTIVE.name());
-            statement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
-            return statement;
-        }, keyHolder);
+        return insert(studentId, courseId, EnrollmentStatus.ACTIVE);
+    }
 
-        if (affectedRows != 1 || keyHolder.getKey() == null) {
-            throw new IllegalStateException("Failed to insert active enrollment");
-        }
+    @Override
+    public Long insertPending(Long studentId, Long courseId) {
+        return insert(studentId, courseId, EnrollmentStatus.PENDING);
+    }
+
+    @Override
+    public int confirmPending(Long enrollmentId) {
+        lockOrderGuard.acquire(LockResource.ENROLLMENT, enrollmentId);
+        return enrollmentJpaRepository.updateStatus(enrollmentId, EnrollmentStatus.PENDING, EnrollmentStatus.ACTIVE);
+    }
 
-        return keyHolder.getKey().longValue();
+    @Override
+    public int deletePendingById(Long enrollmentId) {
+        lockOrderGuard.acquire(LockResource.ENROLLMENT, enrollmentId);
+        return enrollmentJpaRepository.deleteByIdAndStatus(enrollmentId, EnrollmentStatus.PENDING);
+    }
+
+    @Override
+    public List<Enrollment> findPendingCreatedBefore(LocalDateTime createdBefore, int limit) {
+        return enrollmentJpaRepository.findAllByStatusCreatedBefore(
+                EnrollmentStatus.PENDING,
+                createdBefore,
+                PageRequest.of(0, limit)
+        );
     }
 
     @Override
     public Enrollment save(Enrollment enrollment) {
-        return enrollmentJpaRepository.save(enrollment);
+        Enrollment saved = enrollmentJpaRepository.save(enrollment);
+        lockOrderGuard.acquire(LockResource.ENROLLMENT, saved.getId());
+        return saved;
     }
 
     @Override
@@ -74,20 +93,46 @@ public class EnrollmentRepositoryAdapter implements EnrollmentRepository {
     }
 
     @Override
-    public List<Enrollment> findActiveByStudentIdWithCourse(Long studentId) {
-        return enrollmentJpaRepository.findAllByStudentIdAndStatusWithCourseDetails(
-                studentId,
-                EnrollmentStatus.ACTIVE
-        );
+    public Optional<Long> findCourseIdById(Long enrollmentId) {
+        return enrollmentJpaRepository.findCourseIdById(enrollmentId);
     }
 
     @Override
-    public Optional<Enrollment> findByIdForUpdate(Long enrollmentId) {
-        return enrollmentJpaRepository.findByIdForUpdate(enrollmentId);
+    public Optional<Enrollment> findByIdForUpdate(Long enrollmentId, LockWait lockWait) {
+        lockOrderGuard.acquire(LockResource.ENROLLMENT, enrollmentId);
+        Enrollment enrollment = LockWaitHints.findForUpdate(entityManager, Enrollment.class, enrollmentId, lockWait);
+        return Optional.ofNullable(enrollment);
     }
 
     @Override
     public void deleteById(Long enrollmentId) {
+        lockOrderGuard.acquire(LockResource.ENROLLMENT, enrollmentId);
         enrollmentJpaRepository.deleteById(enrollmentId);
     }
+
+    private Long insert(Long studentId, Long courseId, EnrollmentStatus status) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int affectedRows = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    """
+                            insert into enrollments (student_id, course_id, status, created_at)
+                            values (?, ?, ?, ?)
+                            """,
+                    Statement.RETURN_GENERATED_KEYS
+            );
+            statement.setLong(1, studentId);
+            statement.setLong(2, courseId);
+            statement.setString(3, status.name());
+            statement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+            return statement;
+        }, keyHolder);
+
+        if (affectedRows != 1 || keyHolder.getKey() == null) {
+            throw new IllegalStateException("Failed to insert " + status.name().toLowerCase() + " enrollment");
+        }
+
+        Long enrollmentId = keyHolder.getKey().longValue();
+        lockOrderGuard.acquire(LockResource.ENROLLMENT, enrollmentId);
+        return enrollmentId;
+    }
 }
@@ -0,0 +1,43 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.professor.ProfessorSummary;
+import me.gogradually.courseenrollmentsystem.application.professor.ProfessorSummaryReader;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class ProfessorSummaryReaderAdapter implements ProfessorSummaryReader {
+
+    private static final String SELECT_SUMMARY = """
+            select new me.gogradually.courseenrollmentsystem.application.professor.ProfessorSummary(
+                p.id, p.name, d.id, d.name
+            )
+            from Professor p
+            join p.department d
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProfessorSummary> findPage(int offset, int limit) {
+        return entityManager.createQuery(SELECT_SUMMARY + " order by p.id", ProfessorSummary.class)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ProfessorSummary> findPageAfter(long afterId, int limit) {
+        return entityManager.createQuery(
+                        SELECT_SUMMARY + " where p.id > :afterId order by p.id",
+                        ProfessorSummary.class
+                )
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,47 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailability;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityReader;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads seat rows with the owning department id. Runs outside any transaction, so the routing DataSource keeps it on the primary.
+ */
+@Repository
+public class SeatAvailabilityReaderAdapter implements SeatAvailabilityReader {
+
+    private static final String SELECT_AVAILABILITY = """
+            select new me.gogradually.courseenrollmentsystem.application.course.SeatAvailability(
+                s.courseId, c.department.id, s.capacity, s.enrolledCount
+            )
+            from CourseSeat s
+            join s.course c
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SeatAvailability> findAll() {
+        return entityManager.createQuery(SELECT_AVAILABILITY + " order by s.courseId", SeatAvailability.class)
+                .getResultList();
+    }
+
+    @Override
+    public List<SeatAvailability> findByCourseIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        SELECT_AVAILABILITY + " where s.courseId in :courseIds order by s.courseId",
+                        SeatAvailability.class
+                )
+                .setParameter("courseIds", courseIds)
+                .getResultList();
+    }
+}
@@ -1,15 +1,20 @@
 package me.gogradually.courseenrollmentsystem.infrastructure.repository;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteEntry;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteService;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteType;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
 import me.gogradually.courseenrollmentsystem.domain.student.Student;
 import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
 import me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa.StudentJpaRepository;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockOrderGuard;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockResource;
+import me.gogradually.courseenrollmentsystem.infrastructure.repository.lock.LockWaitHints;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,6 +25,8 @@ public class StudentRepositoryAdapter implements StudentRepository {
     private EntityManager entityManager;
 
     private final StudentJpaRepository studentJpaRepository;
+    private final LockOrderGuard lockOrderGuard;
+    private final AutocompleteService autocompleteService;
 
     @Override
     public Optional<Student> findById(Long studentId) {
@@ -27,8 +34,9 @@ public class StudentRepositoryAdapter implements StudentRepository {
     }
 
     @Override
-    public Optional<Student> findByIdForUpdate(Long studentId) {
-        Student student = entityManager.find(Student.class, studentId, LockModeType.PESSIMISTIC_WRITE);
+    public Optional<Student> findByIdForUpdate(Long studentId, LockWait lockWait) {
+        lockOrderGuard.acquire(LockResource.STUDENT, studentId);
+        Student student = LockWaitHints.findForUpdate(entityManager, Student.class, studentId, lockWait);
         return Optional.ofNullable(student);
     }
 
@@ -37,19 +45,16 @@ public class StudentRepositoryAdapter implements StudentRepository {
         return studentJpaRepository.existsById(studentId);
     }
 
-    @Override
-    public List<Student> findAll(int offset, int limit) {
-        return entityManager.createQuery(
-                        "select s from Student s join fetch s.department order by s.id",
-                        Student.class
-                )
-                .setFirstResult(offset)
-                .setMaxResults(limit)
-                .getResultList();
-    }
-
     @Override
     public Student save(Student student) {
-        return studentJpaRepository.save(student);
+        boolean inserted = student.getId() == null;
+        Student saved = studentJpaRepository.save(student);
+        if (inserted) {
+            autocompleteService.recordInserted(
+                    AutocompleteType.STUDENT,
+                    new AutocompleteEntry(saved.getId(), saved.getName(), saved.getStudentNumber())
+            );
+        }
+        return saved;
     }
 }
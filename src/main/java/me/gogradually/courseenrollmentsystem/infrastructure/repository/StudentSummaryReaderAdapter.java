@@ -0,0 +1,54 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.student.StudentSummary;
+import me.gogradually.courseenrollmentsystem.application.student.StudentSummaryReader;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class StudentSummaryReaderAdapter implements StudentSummaryReader {
+
+    private static final String SELECT_SUMMARY = """
+            select new me.gogradually.courseenrollmentsystem.application.student.StudentSummary(
+                s.id, s.studentNumber, s.name, d.id, d.name
+            )
+            from Student s
+            join s.department d
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<StudentSummary> findPage(int offset, int limit) {
+        return entityManager.createQuery(SELECT_SUMMARY + " order by s.id", StudentSummary.class)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<StudentSummary> findPageAfter(long afterId, int limit) {
+        return entityManager.createQuery(
+                        SELECT_SUMMARY + " where s.id > :afterId order by s.id",
+                        StudentSummary.class
+                )
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<StudentSummary> findByIds(Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(SELECT_SUMMARY + " where s.id in :studentIds", StudentSummary.class)
+                .setParameter("studentIds", studentIds)
+                .getResultList();
+    }
+}
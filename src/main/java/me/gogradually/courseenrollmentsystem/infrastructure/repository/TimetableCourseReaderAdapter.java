@@ -0,0 +1,65 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.timetable.TimetableCourseReader;
+import me.gogradually.courseenrollmentsystem.application.timetable.TimetableCourseSummary;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentStatus;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class TimetableCourseReaderAdapter implements TimetableCourseReader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Starts from the student and outer-joins the active enrollments: no row means no student, and a student
+     * without enrollments yields a single row whose course columns are null.
+     */
+    @Override
+    public Optional<List<TimetableCourseSummary>> findActiveCourses(Long studentId) {
+        List<Object[]> rows = entityManager.createQuery("""
+                        select s.id, c.id, c.name, c.credits,
+                            c.timeSlot.dayOfWeek, c.timeSlot.startTime, c.timeSlot.endTime,
+                            p.name, d.name
+                        from Student s
+                        left join Enrollment e on e.student = s and e.status = :status
+                        left join e.course c
+                        left join c.department d
+                        left join c.professor p
+                        where s.id = :studentId
+                        order by c.id
+                        """, Object[].class)
+                .setParameter("studentId", studentId)
+                .setParameter("status", EnrollmentStatus.ACTIVE)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<TimetableCourseSummary> courses = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] == null) {
+                continue;
+            }
+            courses.add(new TimetableCourseSummary(
+                    (Long) row[1],
+                    (String) row[2],
+                    (Integer) row[3],
+                    (DayOfWeek) row[4],
+                    (LocalTime) row[5],
+                    (LocalTime) row[6],
+                    (String) row[7],
+                    (String) row[8]
+            ));
+        }
+        return Optional.of(courses);
+    }
+}
@@ -0,0 +1,37 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa;
+
+import me.gogradually.courseenrollmentsystem.domain.cache.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CacheInvalidationJpaRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    @Query("""
+            select i
+            from CacheInvalidation i
+            where i.id > :afterId
+            order by i.id
+            """)
+    List<CacheInvalidation> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("""
+            select i
+            from CacheInvalidation i
+            where i.id between :fromId and :toId
+            order by i.id
+            """)
+    List<CacheInvalidation> findBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("select coalesce(max(i.id), 0) from CacheInvalidation i")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from CacheInvalidation i where i.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
@@ -2,6 +2,19 @@ package me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa;
 
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CourseJpaRepository extends JpaRepository<Course, Long> {
+
+    @Query("""
+            select c
+            from Course c
+            join fetch c.seat
+            where c.id in :courseIds
+            """)
+    List<Course> findAllWithSeatByIdIn(@Param("courseIds") Collection<Long> courseIds);
 }
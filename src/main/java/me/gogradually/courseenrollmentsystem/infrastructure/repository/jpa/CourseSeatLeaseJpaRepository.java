@@ -0,0 +1,31 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa;
+
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLease;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CourseSeatLeaseJpaRepository extends JpaRepository<CourseSeatLease, Long> {
+
+    @Modifying
+    @Query("""
+            update CourseSeatLease l
+            set l.used = l.used + 1
+            where l.id = :leaseId
+              and l.used < l.granted
+            """)
+    int incrementUsed(@Param("leaseId") Long leaseId);
+
+    @Query("""
+            select l.id
+            from CourseSeatLease l
+            where l.expiresAt < :expiredBefore
+            order by l.id
+            """)
+    List<Long> findIdsExpiredBefore(@Param("expiredBefore") LocalDateTime expiredBefore, Pageable pageable);
+}
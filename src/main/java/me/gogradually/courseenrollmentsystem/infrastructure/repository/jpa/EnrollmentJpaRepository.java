@@ -1,13 +1,14 @@
 package me.gogradually.courseenrollmentsystem.infrastructure.repository.jpa;
 
-import jakarta.persistence.LockModeType;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,7 @@ public interface EnrollmentJpaRepository extends JpaRepository<Enrollment, Long>
             select e
             from Enrollment e
             join fetch e.course c
+            join fetch c.seat
             where e.student.id = :studentId
               and e.status = :status
             order by e.id
@@ -31,24 +33,41 @@ public interface EnrollmentJpaRepository extends JpaRepository<Enrollment, Long>
     @Query("""
             select e
             from Enrollment e
-            join fetch e.course c
-            join fetch c.department
-            join fetch c.professor
-            where e.student.id = :studentId
-              and e.status = :status
-            order by c.id
+            where e.status = :status
+              and e.createdAt < :createdBefore
+            order by e.id
             """)
-    List<Enrollment> findAllByStudentIdAndStatusWithCourseDetails(
-            @Param("studentId") Long studentId,
-            @Param("status") EnrollmentStatus status
+    List<Enrollment> findAllByStatusCreatedBefore(
+            @Param("status") EnrollmentStatus status,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("""
+            update Enrollment e
+            set e.status = :to
+            where e.id = :enrollmentId
+              and e.status = :from
+            """)
+    int updateStatus(
+            @Param("enrollmentId") Long enrollmentId,
+            @Param("from") EnrollmentStatus from,
+            @Param("to") EnrollmentStatus to
     );
 
+    @Modifying
+    @Query("""
+            delete from Enrollment e
+            where e.id = :enrollmentId
+              and e.status = :status
+            """)
+    int deleteByIdAndStatus(@Param("enrollmentId") Long enrollmentId, @Param("status") EnrollmentStatus status);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
-            select e
+            select e.course.id
             from Enrollment e
             where e.id = :enrollmentId
             """)
-    Optional<Enrollment> findByIdForUpdate(Long enrollmentId);
+    Optional<Long> findCourseIdById(@Param("enrollmentId") Long enrollmentId);
 }
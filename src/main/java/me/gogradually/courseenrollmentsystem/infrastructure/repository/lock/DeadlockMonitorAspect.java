@@ -0,0 +1,41 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.SqlErrorCodes;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts deadlock victims per repository call, including attempts that are later retried.
+ * Locking statements all run through the repository adapters, so a deadlock surfaces there rather than at commit.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DeadlockMonitorAspect {
+
+    static final String DEADLOCK_METRIC = "enrollment.lock.deadlocks";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(me.gogradually.courseenrollmentsystem.infrastructure.repository.*RepositoryAdapter)")
+    public Object countDeadlocks(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException exception) {
+            if (SqlErrorCodes.isDeadlock(exception)) {
+                Counter.builder(DEADLOCK_METRIC)
+                        .description("Transactions chosen as deadlock victims")
+                        .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                        .tag("method", joinPoint.getSignature().getName())
+                        .register(meterRegistry)
+                        .increment();
+            }
+            throw exception;
+        }
+    }
+}
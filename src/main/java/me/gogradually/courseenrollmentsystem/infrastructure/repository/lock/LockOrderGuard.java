@@ -0,0 +1,123 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks row locks taken by the current transaction and detects acquisitions that break the global order
+ * {@code STUDENT -> COURSE -> ENROLLMENT} (ascending id within a type).
+ * Re-acquiring a row already held by the transaction is always allowed.
+ */
+@Component
+public class LockOrderGuard {
+
+    static final String VIOLATION_METRIC = "enrollment.lock.order.violations";
+
+    private static final Logger log = LoggerFactory.getLogger(LockOrderGuard.class);
+
+    private final boolean strict;
+    private final Counter violations;
+
+    public LockOrderGuard(LockOrderProperties properties, MeterRegistry meterRegistry) {
+        this.strict = properties.strict();
+        this.violations = Counter.builder(VIOLATION_METRIC)
+                .description("Row locks acquired out of the global lock order")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records that the current transaction is about to lock (or has just inserted) the given row.
+     * Does nothing outside a transaction.
+     */
+    public void acquire(LockResource resource, Long id) {
+        if (id == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        LockKey requested = new LockKey(resource, id);
+        LockKey highest = currentLocks().acquire(requested);
+        if (highest == null) {
+            return;
+        }
+
+        violations.increment();
+        String message = "Lock order violation: " + requested + " acquired after " + highest;
+        if (strict) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private AcquiredLocks currentLocks() {
+        AcquiredLocks locks = (AcquiredLocks) TransactionSynchronizationManager.getResource(this);
+        if (locks != null) {
+            return locks;
+        }
+
+        AcquiredLocks created = new AcquiredLocks();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LockOrderGuard.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(LockOrderGuard.this, created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LockOrderGuard.this);
+            }
+        });
+        return created;
+    }
+
+    private record LockKey(LockResource resource, Long id) implements Comparable<LockKey> {
+
+        private static final Comparator<LockKey> ORDER = Comparator
+                .comparing(LockKey::resource)
+                .thenComparing(LockKey::id);
+
+        @Override
+        public int compareTo(LockKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public String toString() {
+            return resource + "#" + id;
+        }
+    }
+
+    private static final class AcquiredLocks {
+
+        private final Set<LockKey> held = new HashSet<>();
+        private LockKey highest;
+
+        /**
+         * Returns the highest held key when the requested key is out of order, otherwise null.
+         */
+        private LockKey acquire(LockKey requested) {
+            if (!held.add(requested)) {
+                return null;
+            }
+            if (highest == null || requested.compareTo(highest) > 0) {
+                highest = requested;
+                return null;
+            }
+            return highest;
+        }
+    }
+}
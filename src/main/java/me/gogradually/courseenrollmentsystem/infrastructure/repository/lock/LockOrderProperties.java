@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Lock order guard settings.
+ *
+ * @param strict when true an out-of-order acquisition fails the transaction instead of only being counted
+ */
+@ConfigurationProperties(prefix = "app.enrollment.lock-order")
+public record LockOrderProperties(boolean strict) {
+}
@@ -0,0 +1,12 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.lock;
+
+/**
+ * Row types locked by enrollment transactions, declared in the global acquisition order.
+ * Rows of the same type are acquired in ascending id order.
+ */
+public enum LockResource {
+    STUDENT,
+    SEAT_LEASE,
+    COURSE,
+    ENROLLMENT
+}
@@ -0,0 +1,76 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.lock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
+import org.hibernate.Session;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Map;
+
+/**
+ * Translates a {@link LockWait} into JPA query hints for pessimistic lock queries.
+ * Hibernate renders {@code 0} as {@code NOWAIT}; positive budgets are rendered where the dialect supports
+ * {@code WAIT n}. MySQL has no per-statement wait, so there a positive budget sets the session's
+ * {@code innodb_lock_wait_timeout} (whole seconds, rounded up) around the lock query and restores it afterwards.
+ */
+public final class LockWaitHints {
+
+    public static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+
+    private LockWaitHints() {
+    }
+
+    public static Map<String, Object> of(LockWait lockWait) {
+        if (lockWait.isDefault()) {
+            return Map.of();
+        }
+        return Map.of(LOCK_TIMEOUT_HINT, lockWait.timeoutMillis());
+    }
+
+    /**
+     * Finds the row with {@code PESSIMISTIC_WRITE}, waiting at most as long as the budget allows.
+     */
+    public static <T> T findForUpdate(EntityManager entityManager, Class<T> type, Object id, LockWait lockWait) {
+        if (lockWait.isDefault() || lockWait.isNoWait() || !isMySql(entityManager)) {
+            return entityManager.find(type, id, LockModeType.PESSIMISTIC_WRITE, of(lockWait));
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        long previous = session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "select @@session.innodb_lock_wait_timeout"
+            ); ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        });
+        setLockWaitTimeout(session, Math.max(1, (lockWait.timeoutMillis() + 999) / 1000));
+        try {
+            return entityManager.find(type, id, LockModeType.PESSIMISTIC_WRITE);
+        } finally {
+            setLockWaitTimeout(session, previous);
+        }
+    }
+
+    private static void setLockWaitTimeout(Session session, long seconds) {
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "set session innodb_lock_wait_timeout = ?"
+            )) {
+                statement.setLong(1, seconds);
+                statement.execute();
+            }
+        });
+    }
+
+    private static boolean isMySql(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof MySQLDialect;
+    }
+}
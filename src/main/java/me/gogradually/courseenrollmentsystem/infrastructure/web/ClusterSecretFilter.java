@@ -0,0 +1,50 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.gogradually.courseenrollmentsystem.infrastructure.cluster.ClusterHttp;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.ErrorResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.OffsetDateTime;
+
+/**
+ * Rejects calls to internal cluster endpoints that do not carry the shared secret of the cluster.
+ */
+public class ClusterSecretFilter extends OncePerRequestFilter {
+
+    private final byte[] sharedSecret;
+    private final ObjectMapper objectMapper;
+
+    public ClusterSecretFilter(String sharedSecret, ObjectMapper objectMapper) {
+        this.sharedSecret = sharedSecret.getBytes(StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String secret = request.getHeader(ClusterHttp.SECRET_HEADER);
+        if (secret != null && MessageDigest.isEqual(sharedSecret, secret.getBytes(StandardCharsets.UTF_8))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ErrorResponse error = new ErrorResponse(
+                "CLUSTER_SECRET_MISMATCH",
+                "Internal cluster endpoints require the cluster secret",
+                OffsetDateTime.now().toString()
+        );
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
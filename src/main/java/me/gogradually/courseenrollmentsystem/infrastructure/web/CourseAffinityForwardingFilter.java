@@ -0,0 +1,260 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterMembership;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterNode;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterProperties;
+import me.gogradually.courseenrollmentsystem.infrastructure.cluster.ClusterHttp;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.ErrorResponse;
+import me.gogradually.courseenrollmentsystem.interfaces.web.EnrollmentController;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Forwards enroll requests to the node owning the course on the consistent-hash ring, so per-course
+ * in-memory state is only mutated by one node. A request forwarded by a peer, i.e. carrying the forwarded-by
+ * header together with the cluster secret, is always handled locally; a forwarded-by header without the secret
+ * is ignored and the request is routed like any other. An unreachable owner falls back to local handling because the database stays authoritative.
+ * Once the request may have reached the owner, e.g. on a response timeout, it is never retried locally:
+ * the owner may already have committed it, so the client gets 504 and decides itself.
+ */
+public class CourseAffinityForwardingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseAffinityForwardingFilter.class);
+
+    /**
+     * Enroll endpoints and the request field that holds the course id.
+     */
+    private static final Map<String, String> COURSE_FIELD_BY_PATH = Map.of(
+            "/enrollments", "courseId",
+            "/enrollments/pessimistic", "courseId",
+            "/enrollments/optimistic", "courseId",
+            "/enrollments/atomic", "courseId",
+            "/enrollments/separated", "courseId",
+            "/enrollments/swap", "addCourseId"
+    );
+
+    private static final String[] FORWARDED_REQUEST_HEADERS = {
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.ACCEPT,
+            TransactionIsolationOverrideInterceptor.HEADER
+    };
+
+    private final ClusterMembership membership;
+    private final ClusterProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final byte[] sharedSecret;
+
+    public CourseAffinityForwardingFilter(
+            ClusterMembership membership,
+            ClusterProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.membership = membership;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.forwardTimeout())
+                .build();
+        this.sharedSecret = properties.sharedSecret().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !COURSE_FIELD_BY_PATH.containsKey(request.getRequestURI())
+                || isForwardedByPeer(request);
+    }
+
+    private boolean isForwardedByPeer(HttpServletRequest request) {
+        String secret = request.getHeader(ClusterHttp.SECRET_HEADER);
+        return request.getHeader(ClusterHttp.FORWARDED_BY_HEADER) != null
+                && secret != null
+                && MessageDigest.isEqual(sharedSecret, secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpServletRequest replayable = new CachedBodyRequest(request, body);
+
+        Long courseId = readCourseId(body, COURSE_FIELD_BY_PATH.get(request.getRequestURI()));
+        ClusterNode owner = courseId == null ? null : membership.ownerOf(courseId);
+        if (owner == null || owner.id().equals(properties.nodeId())) {
+            filterChain.doFilter(replayable, response);
+            return;
+        }
+
+        HttpResponse<byte[]> forwarded;
+        try {
+            forwarded = forward(owner, request, body);
+        } catch (IOException exception) {
+            if (!isConnectFailure(exception)) {
+                meterRegistry.counter("cluster.forward", "outcome", "unknown").increment();
+                log.warn("Course owner did not answer a forwarded request. owner={}, courseId={}", owner.id(), courseId);
+                writeGatewayTimeout(response);
+                return;
+            }
+            meterRegistry.counter("cluster.forward", "outcome", "fallback").increment();
+            log.warn("Course owner unreachable, handling locally. owner={}, courseId={}", owner.id(), courseId);
+            filterChain.doFilter(replayable, response);
+            return;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while forwarding to course owner", exception);
+        }
+        relay(forwarded, response);
+        meterRegistry.counter("cluster.forward", "outcome", "forwarded").increment();
+    }
+
+    /**
+     * True only when the connection to the owner was never established, so the owner cannot have seen the request.
+     */
+    private boolean isConnectFailure(IOException exception) {
+        Throwable current = exception;
+        while (current != null) {
+            if (current instanceof HttpConnectTimeoutException || current instanceof ConnectException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private void writeGatewayTimeout(HttpServletResponse response) throws IOException {
+        ErrorResponse error = new ErrorResponse(
+                "CLUSTER_FORWARD_TIMEOUT",
+                "Course owner did not respond in time; the request may have been processed",
+                OffsetDateTime.now().toString()
+        );
+        response.setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private Long readCourseId(byte[] body, String field) {
+        try {
+            JsonNode courseId = objectMapper.readTree(body).get(field);
+            return courseId != null && courseId.canConvertToLong() ? courseId.asLong() : null;
+        } catch (IOException exception) {
+            // malformed bodies are rejected by the local controller with the usual 400
+            return null;
+        }
+    }
+
+    private HttpResponse<byte[]> forward(ClusterNode owner, HttpServletRequest request, byte[] body)
+            throws IOException, InterruptedException {
+        String query = request.getQueryString() == null ? "" : "?" + request.getQueryString();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(owner.baseUrl() + request.getRequestURI() + query))
+                .timeout(properties.forwardTimeout())
+                .header(ClusterHttp.FORWARDED_BY_HEADER, properties.nodeId())
+                .header(ClusterHttp.SECRET_HEADER, properties.sharedSecret())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String header : FORWARDED_REQUEST_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                builder.header(header, value);
+            }
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private void relay(HttpResponse<byte[]> forwarded, HttpServletResponse response) throws IOException {
+        response.setStatus(forwarded.statusCode());
+        forwarded.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(response::setContentType);
+        forwarded.headers().firstValue(EnrollmentController.WRITE_TOKEN_HEADER)
+                .ifPresent(token -> response.setHeader(EnrollmentController.WRITE_TOKEN_HEADER, token));
+        response.setContentLength(forwarded.body().length);
+        response.getOutputStream().write(forwarded.body());
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * The whole body is already in memory, so the listener is told at once that it can read everything.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException exception) {
+                        readListener.onError(exception);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
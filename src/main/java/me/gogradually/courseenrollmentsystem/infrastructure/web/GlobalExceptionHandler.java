@@ -4,8 +4,10 @@ import jakarta.persistence.LockTimeoutException;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.persistence.PessimisticLockException;
 import jakarta.validation.ConstraintViolationException;
+import me.gogradually.courseenrollmentsystem.application.common.SqlErrorCodes;
 import me.gogradually.courseenrollmentsystem.domain.exception.*;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.ErrorResponse;
+import me.gogradually.courseenrollmentsystem.interfaces.web.InvalidPageCursorException;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.CannotSerializeTransactionException;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -35,7 +37,8 @@ public class GlobalExceptionHandler {
             HttpMessageNotReadableException.class,
             MissingServletRequestParameterException.class,
             MethodArgumentTypeMismatchException.class,
-            ConstraintViolationException.class
+            ConstraintViolationException.class,
+            InvalidPageCursorException.class
     })
     public ResponseEntity<ErrorResponse> handleBadRequest(Exception exception) {
         return buildResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", extractMessage(exception));
@@ -52,7 +55,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({
             DuplicateEnrollmentException.class,
-            EnrollmentCancellationNotAllowedException.class
+            EnrollmentCancellationNotAllowedException.class,
+            EnrollmentReservationExpiredException.class
     })
     public ResponseEntity<ErrorResponse> handleConflict(DomainException exception) {
         return buildResponse(HttpStatus.CONFLICT, toCode(exception), exception.getMessage());
@@ -107,6 +111,9 @@ public class GlobalExceptionHandler {
     }
 
     private boolean containsConcurrencyConflict(Throwable throwable) {
+        if (SqlErrorCodes.isLockTimeout(throwable)) {
+            return true;
+        }
         int depth = 0;
         Throwable current = throwable;
         while (current != null && depth < 20) {
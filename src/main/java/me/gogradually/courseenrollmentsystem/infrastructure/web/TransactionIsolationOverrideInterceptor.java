@@ -0,0 +1,61 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.gogradually.courseenrollmentsystem.application.common.IsolationScope;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Opens an {@link IsolationScope} from the {@code X-Transaction-Isolation} header,
+ * so isolation comparisons can run against a single instance without restarting per profile.
+ */
+public class TransactionIsolationOverrideInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Transaction-Isolation";
+
+    private static final String HANDLE_ATTRIBUTE = TransactionIsolationOverrideInterceptor.class.getName() + ".handle";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        String value = request.getHeader(HEADER);
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+
+        Isolation isolation = parse(value);
+        if (isolation == null) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Unsupported " + HEADER + ": " + value);
+            return false;
+        }
+        request.setAttribute(HANDLE_ATTRIBUTE, IsolationScope.open(isolation));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception exception
+    ) {
+        if (request.getAttribute(HANDLE_ATTRIBUTE) instanceof IsolationScope.Handle handle) {
+            handle.close();
+            request.removeAttribute(HANDLE_ATTRIBUTE);
+        }
+    }
+
+    private Isolation parse(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT).replace('-', '_').replace(' ', '_');
+        try {
+            return Isolation.valueOf(normalized);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+}
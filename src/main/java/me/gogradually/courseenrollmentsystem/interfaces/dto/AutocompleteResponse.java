@@ -0,0 +1,27 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteSuggestion;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteType;
+
+@Schema(description = "자동완성 응답")
+public record AutocompleteResponse(
+        @Schema(description = "대상 종류", example = "COURSE")
+        AutocompleteType type,
+        @Schema(description = "강좌/교수/학생 ID", example = "101")
+        long id,
+        @Schema(description = "이름", example = "자료구조")
+        String label,
+        @Schema(description = "강좌 코드 또는 학번(교수는 없음)", example = "CSE301")
+        String detail
+) {
+
+    public static AutocompleteResponse from(AutocompleteSuggestion suggestion) {
+        return new AutocompleteResponse(
+                suggestion.type(),
+                suggestion.id(),
+                suggestion.label(),
+                suggestion.detail()
+        );
+    }
+}
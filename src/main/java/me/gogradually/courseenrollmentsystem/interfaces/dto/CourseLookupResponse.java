@@ -0,0 +1,23 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import me.gogradually.courseenrollmentsystem.application.common.IdLookup;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+
+import java.util.List;
+
+@Schema(description = "강좌 ID 목록 조회 응답")
+public record CourseLookupResponse(
+        @Schema(description = "찾은 강좌(요청 ID 순서)")
+        List<CourseResponse> courses,
+        @Schema(description = "존재하지 않는 강좌 ID(요청 순서)", example = "[999]")
+        List<Long> missingIds
+) {
+
+    public static CourseLookupResponse from(IdLookup<CourseSummary> lookup) {
+        return new CourseLookupResponse(
+                lookup.items().stream().map(CourseResponse::from).toList(),
+                lookup.missingIds()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "수강신청 가능 여부 사전 확인 요청")
+public record EnrollmentEligibilityRequest(
+        @NotNull(message = "studentId is required")
+        @Schema(description = "학생 ID", example = "1")
+        Long studentId,
+        @NotEmpty(message = "courseIds must not be empty")
+        @Size(max = 100, message = "courseIds must not exceed 100 items")
+        @Schema(description = "확인할 강좌 ID 목록", example = "[101, 102]")
+        List<@NotNull(message = "courseIds must not contain null") Long> courseIds
+) {
+}
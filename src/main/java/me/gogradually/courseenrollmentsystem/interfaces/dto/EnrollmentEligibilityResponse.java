@@ -0,0 +1,28 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.EligibilityViolation;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.EnrollmentEligibility;
+
+import java.util.List;
+
+@Schema(description = "강좌별 수강신청 가능 여부")
+public record EnrollmentEligibilityResponse(
+        @Schema(description = "강좌 ID", example = "101")
+        Long courseId,
+        @Schema(description = "현재 시점 신청 가능 여부", example = "false")
+        boolean eligible,
+        @Schema(description = "실패 사유 목록", example = "[\"SCHEDULE_CONFLICT\"]")
+        List<String> violations
+) {
+
+    public static EnrollmentEligibilityResponse from(EnrollmentEligibility eligibility) {
+        return new EnrollmentEligibilityResponse(
+                eligibility.courseId(),
+                eligibility.eligible(),
+                eligibility.violations().stream()
+                        .map(EligibilityViolation::name)
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "수강 교체 요청")
+public record EnrollmentSwapRequest(
+        @NotNull(message = "studentId is required")
+        @Schema(description = "학생 ID", example = "1")
+        Long studentId,
+        @NotNull(message = "dropEnrollmentId is required")
+        @Schema(description = "취소할 신청 ID", example = "1001")
+        Long dropEnrollmentId,
+        @NotNull(message = "addCourseId is required")
+        @Schema(description = "새로 신청할 강좌 ID", example = "102")
+        Long addCourseId
+) {
+}
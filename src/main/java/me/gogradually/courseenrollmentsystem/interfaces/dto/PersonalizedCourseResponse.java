@@ -0,0 +1,61 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.PersonalizedCourse;
+
+@Schema(description = "학생별 신청 가능 여부가 표시된 강좌 목록 응답")
+public record PersonalizedCourseResponse(
+        @Schema(description = "강좌 ID", example = "101")
+        Long id,
+        @Schema(description = "강좌 코드", example = "CSE301")
+        String courseCode,
+        @Schema(description = "강좌명", example = "자료구조")
+        String name,
+        @Schema(description = "학점", example = "3")
+        int credits,
+        @Schema(description = "정원", example = "30")
+        int capacity,
+        @Schema(description = "현재 신청 인원", example = "25")
+        int enrolled,
+        @Schema(description = "강의 시간", example = "MON 09:00-10:30")
+        String schedule,
+        @Schema(description = "학과 ID", example = "3")
+        Long departmentId,
+        @Schema(description = "학과명", example = "컴퓨터공학과")
+        String departmentName,
+        @Schema(description = "교수 ID", example = "12")
+        Long professorId,
+        @Schema(description = "교수명", example = "김교수")
+        String professorName,
+        @Schema(description = "이미 신청한 강좌(true면 나머지 학생 기준 표시는 false)", example = "false")
+        boolean alreadyEnrolled,
+        @Schema(description = "신청한 강좌와 시간 충돌", example = "false")
+        boolean scheduleConflict,
+        @Schema(description = "신청 시 최대 학점 초과", example = "false")
+        boolean exceedsCreditLimit,
+        @Schema(description = "정원 마감", example = "false")
+        boolean full
+) {
+
+    public static PersonalizedCourseResponse from(PersonalizedCourse personalized) {
+        CourseSummary summary = personalized.course();
+        return new PersonalizedCourseResponse(
+                summary.id(),
+                summary.courseCode(),
+                summary.name(),
+                summary.credits(),
+                summary.capacity(),
+                summary.enrolled(),
+                summary.schedule(),
+                summary.departmentId(),
+                summary.departmentName(),
+                summary.professorId(),
+                summary.professorName(),
+                personalized.enrolled(),
+                personalized.scheduleConflict(),
+                personalized.exceedsCreditLimit(),
+                personalized.full()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityChanges;
+
+import java.util.List;
+
+@Schema(description = "좌석 현황 응답")
+public record SeatAvailabilityResponse(
+        @Schema(description = "좌석 현황 버전(다음 요청의 since)", example = "1792400000000042")
+        long version,
+        @Schema(description = "true면 전체 강좌 목록(기존 상태 교체), false면 since 이후 바뀐 강좌만", example = "false")
+        boolean full,
+        @Schema(description = "[강좌 ID, 정원, 현재 신청 인원] 배열", example = "[[101, 30, 25], [102, 40, 40]]")
+        List<long[]> seats
+) {
+
+    public static SeatAvailabilityResponse from(SeatAvailabilityChanges changes) {
+        List<long[]> seats = changes.seats().stream()
+                .map(seat -> new long[]{seat.courseId(), seat.capacity(), seat.enrolled()})
+                .toList();
+        return new SeatAvailabilityResponse(changes.version(), changes.full(), seats);
+    }
+}
@@ -0,0 +1,15 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "좌석 임대 이관 요청(노드 간 내부 호출)")
+public record SeatLeaseHandoffRequest(
+        @NotNull(message = "courseId is required")
+        @Schema(description = "강좌 ID", example = "101")
+        Long courseId,
+        @NotNull(message = "leaseId is required")
+        @Schema(description = "좌석 임대 ID", example = "1")
+        Long leaseId
+) {
+}
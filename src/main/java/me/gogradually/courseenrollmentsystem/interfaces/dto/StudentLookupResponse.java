@@ -0,0 +1,23 @@
+package me.gogradually.courseenrollmentsystem.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import me.gogradually.courseenrollmentsystem.application.common.IdLookup;
+import me.gogradually.courseenrollmentsystem.application.student.StudentSummary;
+
+import java.util.List;
+
+@Schema(description = "학생 ID 목록 조회 응답")
+public record StudentLookupResponse(
+        @Schema(description = "찾은 학생(요청 ID 순서)")
+        List<StudentResponse> students,
+        @Schema(description = "존재하지 않는 학생 ID(요청 순서)", example = "[999]")
+        List<Long> missingIds
+) {
+
+    public static StudentLookupResponse from(IdLookup<StudentSummary> lookup) {
+        return new StudentLookupResponse(
+                lookup.items().stream().map(StudentResponse::from).toList(),
+                lookup.missingIds()
+        );
+    }
+}
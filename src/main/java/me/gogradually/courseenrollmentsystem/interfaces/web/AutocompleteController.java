@@ -0,0 +1,50 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteService;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteType;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.AutocompleteResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Autocomplete")
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @Operation(
+            summary = "자동완성",
+            description = "강좌명/강좌 코드, 교수명, 학생 이름/학번을 접두어로 찾습니다. 한글은 초성(예: ㅈㄹㄱㅈ)과 초성 혼합 입력(예: 자ㄹ)도 지원합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 types 값")
+    })
+    @GetMapping
+    public ResponseEntity<List<AutocompleteResponse>> suggest(
+            @Parameter(description = "입력 중인 검색어(대소문자, 공백 무시)", example = "자료")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "대상 종류(COURSE, PROFESSOR, STUDENT, 쉼표 구분). 없으면 전체", example = "COURSE,STUDENT")
+            @RequestParam(required = false) List<AutocompleteType> types,
+            @Parameter(description = "종류별 최대 건수(기본 10, 최대 50)", example = "10")
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<AutocompleteResponse> response = autocompleteService.suggest(q, types, limit).stream()
+                .map(AutocompleteResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,40 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.lease.SeatLeaseManager;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.SeatLeaseHandoffRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Only registered in cluster mode; the shared-secret check runs in a filter before this controller.
+ */
+@Tag(name = "Cluster (internal)")
+@RestController
+@ConditionalOnProperty(prefix = "app.cluster", name = "enabled", havingValue = "true")
+@RequestMapping("/internal/cluster/handoff")
+@RequiredArgsConstructor
+public class ClusterHandoffController {
+
+    private final SeatLeaseManager seatLeaseManager;
+
+    @Operation(summary = "강좌 소유권 변경 시 이전 소유 노드의 좌석 임대 인수")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "인수 완료(이미 반환된 임대면 무시)"),
+            @ApiResponse(responseCode = "403", description = "X-Cluster-Secret 헤더 누락 또는 불일치")
+    })
+    @PostMapping("/seat-leases")
+    public ResponseEntity<Void> adoptSeatLease(@Valid @RequestBody SeatLeaseHandoffRequest request) {
+        seatLeaseManager.adopt(request.courseId(), request.leaseId());
+        return ResponseEntity.noContent().build();
+    }
+}
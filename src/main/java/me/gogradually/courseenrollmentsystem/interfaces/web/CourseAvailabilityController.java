@@ -0,0 +1,63 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityFeed;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.SeatAvailabilityResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Courses")
+@RestController
+@RequestMapping("/courses")
+@RequiredArgsConstructor
+public class CourseAvailabilityController {
+
+    private final SeatAvailabilityFeed seatAvailabilityFeed;
+    private final SeatChangeBroadcaster seatChangeBroadcaster;
+
+    @Operation(
+            summary = "좌석 현황 조회",
+            description = "전체 강좌의 [ID, 정원, 신청 인원]을 버전과 함께 반환합니다. since에 이전 응답의 version을 주면 그 뒤 바뀐 강좌만 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "좌석 현황 조회 성공")
+    })
+    @GetMapping("/availability")
+    public ResponseEntity<SeatAvailabilityResponse> getAvailability(
+            @Parameter(description = "이전 응답의 version. 없거나 이 노드가 모르는 값이면 전체 반환", example = "1792400000000042")
+            @RequestParam(required = false) Long since
+    ) {
+        return ResponseEntity.ok(SeatAvailabilityResponse.from(seatAvailabilityFeed.changesSince(since)));
+    }
+
+    @Operation(
+            summary = "좌석 변경 스트림(SSE)",
+            description = "커밋된 좌석 변경을 seats 이벤트([ID, 정원, 신청 인원] 배열)로 보냅니다. 강좌별로 발행 간격당 최대 1건이며, "
+                    + "첫 이벤트는 현재 좌석(재연결 시 Last-Event-ID 이후 변경분)입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "스트림 연결 성공")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @Parameter(description = "강좌 ID 필터(지정하면 departmentId 무시)", example = "101")
+            @RequestParam(required = false) Long courseId,
+            @Parameter(description = "학과 ID 필터", example = "3")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 id(브라우저 EventSource가 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        return seatChangeBroadcaster.subscribe(courseId, departmentId, lastEventId);
+    }
+}
@@ -0,0 +1,214 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogCacheProperties;
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogVersions;
+import me.gogradually.courseenrollmentsystem.application.course.CourseQueryService;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.CourseResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Course list pages kept as serialized JSON (and gzip) bytes with a strong ETag of their content.
+ * A kept page is served while none of its courses changed since it was rendered, so a poll of an unchanged
+ * page costs no query and no serialization. A stale or missing page is rendered once; concurrent requests for
+ * the same page wait for that rendering instead of querying in parallel. Kept pages are rendered from the
+ * primary: a lagging replica could return rows older than the catalog version they would be stamped with.
+ * Lookups take no lock; only a store that pushes the cache over its bounds evicts the least recently used pages.
+ */
+@Component
+public class CourseCatalogResponseCache {
+
+    private final CourseQueryService courseQueryService;
+    private final CourseCatalogVersions courseCatalogVersions;
+    private final CourseCatalogCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<PageKey, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<PageKey, CompletableFuture<Entry>> rendering = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    public CourseCatalogResponseCache(
+            CourseQueryService courseQueryService,
+            CourseCatalogVersions courseCatalogVersions,
+            CourseCatalogCacheProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        this.courseQueryService = courseQueryService;
+        this.courseCatalogVersions = courseCatalogVersions;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the offset page, or the keyset page when {@code afterId} is given.
+     */
+    public RenderedPage get(Long departmentId, Integer offset, Long afterId, Integer limit) {
+        PageKey key = new PageKey(departmentId, afterId == null ? offset : null, afterId, limit);
+        if (!properties.enabled()) {
+            return render(key, false).page();
+        }
+
+        Entry cached = lookup(key);
+        if (cached != null && courseCatalogVersions.isUnchangedSince(cached.builtAt(), cached.courseIds())) {
+            return cached.page();
+        }
+        return renderOnce(key).page();
+    }
+
+    private Entry renderOnce(PageKey key) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> running = rendering.putIfAbsent(key, created);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            Entry entry = render(key, true);
+            store(key, entry);
+            created.complete(entry);
+            return entry;
+        } catch (RuntimeException exception) {
+            created.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            rendering.remove(key, created);
+        }
+    }
+
+    private Entry await(CompletableFuture<Entry> running) {
+        try {
+            return running.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+    private Entry render(PageKey key, boolean fromPrimary) {
+        long builtAt = courseCatalogVersions.current();
+        List<CourseSummary> courses;
+        Long nextAfterId = null;
+        if (key.afterId() != null) {
+            KeysetPage<CourseSummary> page = fromPrimary
+                    ? courseQueryService.getCoursesAfterFromPrimary(key.departmentId(), key.afterId(), key.limit())
+                    : courseQueryService.getCoursesAfter(key.departmentId(), key.afterId(), key.limit());
+            courses = page.items();
+            nextAfterId = page.nextAfterId();
+        } else {
+            courses = fromPrimary
+                    ? courseQueryService.getCoursesFromPrimary(key.departmentId(), key.offset(), key.limit())
+                    : courseQueryService.getCourses(key.departmentId(), key.offset(), key.limit());
+        }
+
+        byte[] body = serialize(courses.stream().map(CourseResponse::from).toList());
+        byte[] gzipBody = properties.gzip() && body.length >= properties.gzipMinSize().toBytes() ? gzip(body) : null;
+        String digest = digest(body);
+        return new Entry(
+                new RenderedPage(body, gzipBody, "\"" + digest + "\"", "\"" + digest + "-gzip\"", nextAfterId),
+                builtAt,
+                courses.stream().mapToLong(CourseSummary::id).toArray(),
+                new AtomicLong(System.nanoTime())
+        );
+    }
+
+    private Entry lookup(PageKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.lastUsed().set(System.nanoTime());
+        }
+        return entry;
+    }
+
+    private void store(PageKey key, Entry entry) {
+        Entry replaced = entries.put(key, entry);
+        cachedBytes.addAndGet(entry.size() - (replaced == null ? 0 : replaced.size()));
+        if (isOverBounds()) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            List<Map.Entry<PageKey, Entry>> leastRecentlyUsed = entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(cached -> cached.getValue().lastUsed().get()))
+                    .toList();
+            for (Map.Entry<PageKey, Entry> eldest : leastRecentlyUsed) {
+                if (!isOverBounds()) {
+                    return;
+                }
+                if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                    cachedBytes.addAndGet(-eldest.getValue().size());
+                }
+            }
+        }
+    }
+
+    private boolean isOverBounds() {
+        return entries.size() > properties.maxEntries() || cachedBytes.get() > properties.maxSize().toBytes();
+    }
+
+    private byte[] serialize(List<CourseResponse> courses) {
+        try {
+            return objectMapper.writeValueAsBytes(courses);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * One rendered page. The ETag is derived from the bytes, so every node yields the same tag for the same page.
+     */
+    public record RenderedPage(byte[] body, byte[] gzipBody, String etag, String gzipEtag, Long nextAfterId) {
+    }
+
+    private record PageKey(Long departmentId, Integer offset, Long afterId, Integer limit) {
+    }
+
+    private record Entry(RenderedPage page, long builtAt, long[] courseIds, AtomicLong lastUsed) {
+
+        long size() {
+            return page.body().length + (page.gzipBody() == null ? 0 : page.gzipBody().length);
+        }
+    }
+}
@@ -2,44 +2,156 @@ package me.gogradually.courseenrollmentsystem.interfaces.web;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
 import me.gogradually.courseenrollmentsystem.application.course.CourseQueryService;
+import me.gogradually.courseenrollmentsystem.application.course.PersonalizedCatalogService;
+import me.gogradually.courseenrollmentsystem.application.course.PersonalizedCourse;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.CourseLookupResponse;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.CourseResponse;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.PersonalizedCourseResponse;
+import me.gogradually.courseenrollmentsystem.interfaces.web.CourseCatalogResponseCache.RenderedPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Arrays;
 import java.util.List;
 
 @Tag(name = "Courses")
 @RestController
 @RequestMapping("/courses")
+@Validated
 @RequiredArgsConstructor
 public class CourseController {
 
+    private static final String GZIP = "gzip";
+
+    private final CourseCatalogResponseCache courseCatalogResponseCache;
     private final CourseQueryService courseQueryService;
+    private final PersonalizedCatalogService personalizedCatalogService;
 
-    @Operation(summary = "강좌 목록 조회", description = "전체 또는 학과별 강좌 목록을 조회합니다.")
+    /**
+     * Writes the cached bytes as is. With a matching {@code If-None-Match} the response is {@code 304} without a body.
+     */
+    @Operation(
+            summary = "강좌 목록 조회",
+            description = "전체 또는 학과별 강좌 목록을 조회합니다. after를 주면 keyset 페이지로 조회하고 다음 커서를 X-Next-Cursor 헤더로 반환합니다. "
+                    + "응답 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
+    )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "강좌 목록 조회 성공")
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "강좌 목록 조회 성공",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = CourseResponse.class))
+                    )
+            ),
+            @ApiResponse(responseCode = "304", description = "If-None-Match와 같은 페이지(본문 없음)")
     })
     @GetMapping
-    public ResponseEntity<List<CourseResponse>> getCourses(
+    public ResponseEntity<byte[]> getCourses(
+            @Parameter(description = "학과 ID 필터", example = "3")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "조회 시작 offset", example = "0")
+            @RequestParam(required = false) Integer offset,
+            @Parameter(description = "keyset 커서(이전 응답의 X-Next-Cursor 헤더 값, 빈 값이면 처음부터). 지정하면 offset 무시")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "조회 건수(limit, 최대 100)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        Long afterId = after == null ? null : PageCursors.decode(after);
+        RenderedPage page = courseCatalogResponseCache.get(departmentId, offset, afterId, limit);
+        boolean gzip = page.gzipBody() != null && acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder builder = afterId == null ? ResponseEntity.ok() : PageCursors.ok(page.nextAfterId());
+        builder.contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(gzip ? page.gzipEtag() : page.etag());
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.body(gzip ? page.gzipBody() : page.body());
+    }
+
+    @Operation(
+            summary = "학생별 강좌 목록 조회",
+            description = "목록 조회와 같은 페이지에 학생 기준 표시(이미 신청, 시간 충돌, 학점 초과, 마감)를 붙여 반환합니다. "
+                    + "학생마다 다르므로 응답 캐시/ETag는 사용하지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "학생별 강좌 목록 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "학생 없음")
+    })
+    @GetMapping(params = {"studentId", "!ids"})
+    public ResponseEntity<List<PersonalizedCourseResponse>> getCoursesForStudent(
+            @Parameter(description = "표시 기준 학생 ID", example = "1")
+            @RequestParam Long studentId,
             @Parameter(description = "학과 ID 필터", example = "3")
             @RequestParam(required = false) Long departmentId,
             @Parameter(description = "조회 시작 offset", example = "0")
             @RequestParam(required = false) Integer offset,
+            @Parameter(description = "keyset 커서(이전 응답의 X-Next-Cursor 헤더 값, 빈 값이면 처음부터). 지정하면 offset 무시")
+            @RequestParam(required = false) String after,
             @Parameter(description = "조회 건수(limit, 최대 100)", example = "50")
             @RequestParam(required = false) Integer limit
     ) {
-        List<CourseResponse> courses = courseQueryService.getCourses(departmentId, offset, limit).stream()
-                .map(CourseResponse::from)
+        if (after != null) {
+            KeysetPage<PersonalizedCourse> page = personalizedCatalogService.getCoursesAfter(
+                    studentId,
+                    departmentId,
+                    PageCursors.decode(after),
+                    limit
+            );
+            return PageCursors.ok(page.nextAfterId())
+                    .body(page.items().stream().map(PersonalizedCourseResponse::from).toList());
+        }
+
+        List<PersonalizedCourseResponse> courses = personalizedCatalogService
+                .getCourses(studentId, departmentId, offset, limit).stream()
+                .map(PersonalizedCourseResponse::from)
                 .toList();
         return ResponseEntity.ok(courses);
     }
+
+    @Operation(
+            summary = "강좌 ID 목록 조회",
+            description = "요청한 강좌들을 한 번의 조회로 요청 순서대로 반환하고, 존재하지 않는 ID는 missingIds로 알려줍니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "강좌 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID 형식 오류 또는 500개 초과")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<CourseLookupResponse> getCoursesByIds(
+            @Parameter(description = "강좌 ID 목록(쉼표 구분, 최대 500개)", example = "101,102,103")
+            @RequestParam @Size(max = 500, message = "ids must not exceed 500 items") List<Long> ids
+    ) {
+        return ResponseEntity.ok(CourseLookupResponse.from(courseQueryService.getCoursesByIds(ids)));
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(coding -> coding.replace(" ", ""))
+                .anyMatch(coding -> coding.equals(GZIP) || (coding.startsWith(GZIP + ";") && !coding.matches("gzip;q=0(\\.0+)?")));
+    }
 }
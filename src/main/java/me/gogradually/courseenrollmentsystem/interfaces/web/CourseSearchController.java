@@ -0,0 +1,88 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchCriteria;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchResult;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchService;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchSort;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.CourseResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+@Tag(name = "Courses")
+@RestController
+@RequestMapping("/courses")
+@RequiredArgsConstructor
+public class CourseSearchController {
+
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final CourseSearchService courseSearchService;
+
+    @Operation(
+            summary = "강좌 검색",
+            description = "학과, 교수, 학점, 요일, 시간대, 잔여석, 강좌명/코드 검색어로 강좌를 필터링하고 정렬합니다. "
+                    + "전체 매칭 건수는 X-Total-Count 헤더로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "강좌 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파라미터 형식")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<CourseResponse>> search(
+            @Parameter(description = "학과 ID 필터", example = "3")
+            @RequestParam(required = false) Long departmentId,
+            @Parameter(description = "교수 ID 필터", example = "12")
+            @RequestParam(required = false) Long professorId,
+            @Parameter(description = "학점 필터", example = "3")
+            @RequestParam(required = false) Integer credits,
+            @Parameter(description = "요일 필터", example = "MONDAY")
+            @RequestParam(required = false) DayOfWeek dayOfWeek,
+            @Parameter(description = "이 시각 이후 시작(HH:mm)", example = "09:00")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+            @Parameter(description = "이 시각 이전 종료(HH:mm)", example = "18:00")
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime to,
+            @Parameter(description = "잔여석이 있는 강좌만", example = "true")
+            @RequestParam(defaultValue = "false") boolean openOnly,
+            @Parameter(description = "강좌명/코드 검색어(대소문자, 공백 무시)", example = "자료구조")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "정렬 기준(CODE, CREDITS, FILL_RATE)", example = "FILL_RATE")
+            @RequestParam(defaultValue = "CODE") CourseSearchSort sort,
+            @Parameter(description = "내림차순 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean desc,
+            @Parameter(description = "조회 시작 offset", example = "0")
+            @RequestParam(required = false) Integer offset,
+            @Parameter(description = "조회 건수(limit, 최대 100)", example = "50")
+            @RequestParam(required = false) Integer limit
+    ) {
+        CourseSearchCriteria criteria = new CourseSearchCriteria(
+                departmentId,
+                professorId,
+                credits,
+                dayOfWeek,
+                from,
+                to,
+                openOnly,
+                q,
+                sort,
+                desc
+        );
+        CourseSearchResult result = courseSearchService.search(criteria, offset, limit);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.total()))
+                .body(result.courses().stream().map(CourseResponse::from).toList());
+    }
+}
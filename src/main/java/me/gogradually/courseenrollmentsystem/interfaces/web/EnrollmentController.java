@@ -6,19 +6,34 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.EnrollmentEligibilityService;
 import me.gogradually.courseenrollmentsystem.application.enrollment.orchestration.EnrollmentCommandService;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.EnrollmentEligibilityRequest;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.EnrollmentEligibilityResponse;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.EnrollmentRequest;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.EnrollmentResponse;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.EnrollmentSwapRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Enrollments")
 @RestController
 @RequestMapping("/enrollments")
 @RequiredArgsConstructor
 public class EnrollmentController {
 
+    /**
+     * Returned on every committed change; clients send it back on their next timetable reads so those see the
+     * change on whichever node serves them.
+     */
+    public static final String WRITE_TOKEN_HEADER = "X-Student-Write-Token";
+
     private final EnrollmentCommandService enrollmentCommandService;
+    private final EnrollmentEligibilityService enrollmentEligibilityService;
+    private final StudentWriteTokens studentWriteTokens;
 
     @Operation(summary = "수강신청")
     @ApiResponses({
@@ -32,7 +47,7 @@ public class EnrollmentController {
         EnrollmentResponse response = EnrollmentResponse.from(
                 enrollmentCommandService.enroll(request.studentId(), request.courseId())
         );
-        return ResponseEntity.status(201).body(response);
+        return created(response);
     }
 
     @Operation(summary = "수강신청 - 비관적 락 전략")
@@ -49,7 +64,7 @@ public class EnrollmentController {
         EnrollmentResponse response = EnrollmentResponse.from(
                 enrollmentCommandService.enrollWithPessimisticLock(request.studentId(), request.courseId())
         );
-        return ResponseEntity.status(201).body(response);
+        return created(response);
     }
 
     @Operation(summary = "수강신청 - 낙관적 락 전략")
@@ -66,7 +81,7 @@ public class EnrollmentController {
         EnrollmentResponse response = EnrollmentResponse.from(
                 enrollmentCommandService.enrollWithOptimisticLock(request.studentId(), request.courseId())
         );
-        return ResponseEntity.status(201).body(response);
+        return created(response);
     }
 
     @Operation(summary = "수강신청 - 원자적 업데이트 전략")
@@ -83,7 +98,7 @@ public class EnrollmentController {
         EnrollmentResponse response = EnrollmentResponse.from(
                 enrollmentCommandService.enrollWithAtomicUpdate(request.studentId(), request.courseId())
         );
-        return ResponseEntity.status(201).body(response);
+        return created(response);
     }
 
     @Operation(summary = "수강신청 - 트랜잭션 분리 전략")
@@ -100,7 +115,43 @@ public class EnrollmentController {
         EnrollmentResponse response = EnrollmentResponse.from(
                 enrollmentCommandService.enrollWithSeparatedTransaction(request.studentId(), request.courseId())
         );
-        return ResponseEntity.status(201).body(response);
+        return created(response);
+    }
+
+    @Operation(summary = "수강 교체(기존 신청 취소 + 새 강좌 신청)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "교체 성공, 새 신청 정보 반환"),
+            @ApiResponse(responseCode = "404", description = "학생, 강좌 또는 학생 본인의 신청 정보를 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "중복 신청, 이미 취소된 신청 또는 동시성/락 충돌"),
+            @ApiResponse(responseCode = "422", description = "학점/시간표/정원 규칙 위반")
+    })
+    @PostMapping("/swap")
+    public ResponseEntity<EnrollmentResponse> swap(@Valid @RequestBody EnrollmentSwapRequest request) {
+        EnrollmentResponse response = EnrollmentResponse.from(
+                enrollmentCommandService.swap(
+                        request.studentId(),
+                        request.dropEnrollmentId(),
+                        request.addCourseId()
+                )
+        );
+        return created(response);
+    }
+
+    @Operation(summary = "수강신청 가능 여부 사전 확인(락/쓰기 없음)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "강좌별 가능 여부 및 실패 사유 반환"),
+            @ApiResponse(responseCode = "400", description = "요청 형식 오류"),
+            @ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음")
+    })
+    @PostMapping("/eligibility")
+    public ResponseEntity<List<EnrollmentEligibilityResponse>> checkEligibility(
+            @Valid @RequestBody EnrollmentEligibilityRequest request
+    ) {
+        List<EnrollmentEligibilityResponse> response = enrollmentEligibilityService
+                .evaluate(request.studentId(), request.courseIds()).stream()
+                .map(EnrollmentEligibilityResponse::from)
+                .toList();
+        return ResponseEntity.ok(response);
     }
 
     @Operation(summary = "수강취소")
@@ -112,6 +163,18 @@ public class EnrollmentController {
     @DeleteMapping("/{enrollmentId}")
     public ResponseEntity<Void> cancel(@PathVariable Long enrollmentId) {
         enrollmentCommandService.cancel(enrollmentId);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.noContent()
+                .header(WRITE_TOKEN_HEADER, issueToken())
+                .build();
+    }
+
+    private ResponseEntity<EnrollmentResponse> created(EnrollmentResponse response) {
+        return ResponseEntity.status(201)
+                .header(WRITE_TOKEN_HEADER, issueToken())
+                .body(response);
+    }
+
+    private String issueToken() {
+        return String.valueOf(studentWriteTokens.issueToken());
     }
 }
@@ -0,0 +1,8 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+public class InvalidPageCursorException extends RuntimeException {
+
+    public InvalidPageCursorException(String cursor) {
+        super("Invalid page cursor: " + cursor);
+    }
+}
@@ -0,0 +1,51 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors for listing endpoints. A cursor wraps the last id of the previous page; an empty
+ * cursor starts a keyset listing from the beginning.
+ */
+public final class PageCursors {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String PREFIX = "id:";
+
+    private PageCursors() {
+    }
+
+    public static String encode(long afterId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + afterId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long decode(String cursor) {
+        if (cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidPageCursorException(cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidPageCursorException(cursor);
+        }
+    }
+
+    /**
+     * 200 response carrying the next cursor header unless this was the last page.
+     */
+    public static ResponseEntity.BodyBuilder ok(Long nextAfterId) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (nextAfterId != null) {
+            builder.header(NEXT_CURSOR_HEADER, encode(nextAfterId));
+        }
+        return builder;
+    }
+}
@@ -6,7 +6,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
 import me.gogradually.courseenrollmentsystem.application.professor.ProfessorQueryService;
+import me.gogradually.courseenrollmentsystem.application.professor.ProfessorSummary;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.ProfessorResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,7 +26,7 @@ public class ProfessorController {
 
     private final ProfessorQueryService professorQueryService;
 
-    @Operation(summary = "교수 목록 조회")
+    @Operation(summary = "교수 목록 조회", description = "after를 주면 keyset 페이지로 조회하고 다음 커서를 X-Next-Cursor 헤더로 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "교수 목록 조회 성공")
     })
@@ -32,9 +34,16 @@ public class ProfessorController {
     public ResponseEntity<List<ProfessorResponse>> getProfessors(
             @Parameter(description = "조회 시작 offset", example = "0")
             @RequestParam(required = false) Integer offset,
+            @Parameter(description = "keyset 커서(이전 응답의 X-Next-Cursor 헤더 값, 빈 값이면 처음부터). 지정하면 offset 무시")
+            @RequestParam(required = false) String after,
             @Parameter(description = "조회 건수(limit, 최대 100)", example = "50")
             @RequestParam(required = false) Integer limit
     ) {
+        if (after != null) {
+            KeysetPage<ProfessorSummary> page = professorQueryService.getProfessorsAfter(PageCursors.decode(after), limit);
+            return PageCursors.ok(page.nextAfterId()).body(page.items().stream().map(ProfessorResponse::from).toList());
+        }
+
         List<ProfessorResponse> professors = professorQueryService.getProfessors(offset, limit).stream()
                 .map(ProfessorResponse::from)
                 .toList();
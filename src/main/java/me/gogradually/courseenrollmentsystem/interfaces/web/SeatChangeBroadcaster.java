@@ -0,0 +1,235 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailability;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityChanges;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityFeed;
+import me.gogradually.courseenrollmentsystem.application.course.SeatChangeListener;
+import me.gogradually.courseenrollmentsystem.application.course.SeatStreamProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Fans seat changes out to server-sent event streams. Streams are async requests, so an idle subscriber holds
+ * a connection but no request thread. Each change batch is serialized once per distinct filter, not once per
+ * subscriber.
+ * Events are only queued per subscriber on the publishing thread; blocking writes run on virtual threads, at
+ * most one per subscriber at a time, so a slow client never holds up the scheduler or other subscribers.
+ * A subscriber whose queue is full is disconnected and catches up by reconnecting with its last event id.
+ */
+@Component
+public class SeatChangeBroadcaster implements SeatChangeListener, DisposableBean {
+
+    static final String EVENT_NAME = "seats";
+
+    private final SeatAvailabilityFeed seatAvailabilityFeed;
+    private final SeatStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SeatChangeBroadcaster(
+            SeatAvailabilityFeed seatAvailabilityFeed,
+            SeatStreamProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        this.seatAvailabilityFeed = seatAvailabilityFeed;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens a stream. The first event holds the current seats, or only those changed after {@code lastEventId}
+     * when a reconnecting client sends the id of the last event it received.
+     * The subscription is registered before the seats are read so no later change is missed; changes queued
+     * in between are held back until the first event and skipped when that event already covers them.
+     */
+    public SseEmitter subscribe(Long courseId, Long departmentId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscription subscription = new Subscription(
+                emitter,
+                new Filter(courseId, departmentId),
+                new LinkedBlockingDeque<>(properties.sendQueue()),
+                new AtomicBoolean(),
+                new AtomicBoolean()
+        );
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+
+        SeatAvailabilityChanges changes = seatAvailabilityFeed.changesSince(lastEventId);
+        Event first = Event.seats(changes.version(), serialize(subscription.filter().select(changes.seats())));
+        subscription.queue().removeIf(event -> event.isSeatsUpTo(first.version()));
+        if (!subscription.queue().offerFirst(first)) {
+            subscription.queue().pollLast();
+            subscription.queue().offerFirst(first);
+        }
+        subscription.started().set(true);
+        scheduleDrain(subscription);
+        return emitter;
+    }
+
+    @Override
+    public void onSeatChanges(long version, List<SeatAvailability> seats) {
+        Map<Filter, String> payloads = new HashMap<>();
+        for (Subscription subscription : subscriptions) {
+            String payload = payloads.computeIfAbsent(
+                    subscription.filter(),
+                    filter -> {
+                        List<SeatAvailability> selected = filter.select(seats);
+                        return selected.isEmpty() ? "" : serialize(selected);
+                    }
+            );
+            if (!payload.isEmpty()) {
+                enqueue(subscription, Event.seats(version, payload));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.course.seat-stream.heartbeat:PT15S}")
+    public void heartbeat() {
+        for (Subscription subscription : subscriptions) {
+            enqueue(subscription, Event.HEARTBEAT);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+    }
+
+    private void enqueue(Subscription subscription, Event event) {
+        if (!subscription.queue().offerLast(event)) {
+            drop(subscription);
+            return;
+        }
+        if (subscription.started().get()) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private void scheduleDrain(Subscription subscription) {
+        if (subscription.draining().compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    /**
+     * Writes queued events in order. Only one drain runs per subscriber; an event queued while the flag is
+     * being cleared starts the next one.
+     */
+    private void drain(Subscription subscription) {
+        try {
+            Event event;
+            while ((event = subscription.queue().pollFirst()) != null) {
+                if (!send(subscription, event)) {
+                    return;
+                }
+            }
+        } finally {
+            subscription.draining().set(false);
+        }
+        if (!subscription.queue().isEmpty() && subscriptions.contains(subscription)) {
+            scheduleDrain(subscription);
+        }
+    }
+
+    private boolean send(Subscription subscription, Event event) {
+        try {
+            if (event.version() == null) {
+                subscription.emitter().send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                subscription.emitter().send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(Long.toString(event.version()))
+                        .data(event.payload(), MediaType.APPLICATION_JSON));
+            }
+            return true;
+        } catch (IOException | IllegalStateException exception) {
+            drop(subscription);
+            return false;
+        }
+    }
+
+    private void drop(Subscription subscription) {
+        if (subscriptions.remove(subscription)) {
+            subscription.queue().clear();
+            sender.execute(subscription.emitter()::complete);
+        }
+    }
+
+    private String serialize(List<SeatAvailability> seats) {
+        List<long[]> rows = seats.stream()
+                .map(seat -> new long[]{seat.courseId(), seat.capacity(), seat.enrolled()})
+                .toList();
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private record Subscription(
+            SseEmitter emitter,
+            Filter filter,
+            BlockingDeque<Event> queue,
+            AtomicBoolean started,
+            AtomicBoolean draining
+    ) {
+    }
+
+    /**
+     * A seat event, or a heartbeat comment when {@code version} is null.
+     */
+    private record Event(Long version, String payload) {
+
+        static final Event HEARTBEAT = new Event(null, null);
+
+        static Event seats(long version, String payload) {
+            return new Event(version, payload);
+        }
+
+        boolean isSeatsUpTo(long snapshotVersion) {
+            return version != null && version <= snapshotVersion;
+        }
+    }
+
+    /**
+     * Course filter wins over department filter; neither means every course.
+     */
+    private record Filter(Long courseId, Long departmentId) {
+
+        List<SeatAvailability> select(List<SeatAvailability> seats) {
+            if (courseId == null && departmentId == null) {
+                return seats;
+            }
+            Predicate<SeatAvailability> matches = courseId != null
+                    ? seat -> seat.courseId() == courseId
+                    : seat -> seat.departmentId() == departmentId;
+            return seats.stream().filter(matches).toList();
+        }
+    }
+}
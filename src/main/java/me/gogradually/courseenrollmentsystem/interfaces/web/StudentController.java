@@ -5,10 +5,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
 import me.gogradually.courseenrollmentsystem.application.student.StudentQueryService;
+import me.gogradually.courseenrollmentsystem.application.student.StudentSummary;
+import me.gogradually.courseenrollmentsystem.interfaces.dto.StudentLookupResponse;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.StudentResponse;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -19,12 +24,13 @@ import java.util.List;
 @Tag(name = "Students")
 @RestController
 @RequestMapping("/students")
+@Validated
 @RequiredArgsConstructor
 public class StudentController {
 
     private final StudentQueryService studentQueryService;
 
-    @Operation(summary = "학생 목록 조회")
+    @Operation(summary = "학생 목록 조회", description = "after를 주면 keyset 페이지로 조회하고 다음 커서를 X-Next-Cursor 헤더로 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "학생 목록 조회 성공")
     })
@@ -32,12 +38,35 @@ public class StudentController {
     public ResponseEntity<List<StudentResponse>> getStudents(
             @Parameter(description = "조회 시작 offset", example = "0")
             @RequestParam(required = false) Integer offset,
+            @Parameter(description = "keyset 커서(이전 응답의 X-Next-Cursor 헤더 값, 빈 값이면 처음부터). 지정하면 offset 무시")
+            @RequestParam(required = false) String after,
             @Parameter(description = "조회 건수(limit, 최대 100)", example = "50")
             @RequestParam(required = false) Integer limit
     ) {
+        if (after != null) {
+            KeysetPage<StudentSummary> page = studentQueryService.getStudentsAfter(PageCursors.decode(after), limit);
+            return PageCursors.ok(page.nextAfterId()).body(page.items().stream().map(StudentResponse::from).toList());
+        }
+
         List<StudentResponse> students = studentQueryService.getStudents(offset, limit).stream()
                 .map(StudentResponse::from)
                 .toList();
         return ResponseEntity.ok(students);
     }
+
+    @Operation(
+            summary = "학생 ID 목록 조회",
+            description = "요청한 학생들을 한 번의 조회로 요청 순서대로 반환하고, 존재하지 않는 ID는 missingIds로 알려줍니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "학생 ID 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "ID 형식 오류 또는 500개 초과")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<StudentLookupResponse> getStudentsByIds(
+            @Parameter(description = "학생 ID 목록(쉼표 구분, 최대 500개)", example = "1,2,3")
+            @RequestParam @Size(max = 500, message = "ids must not exceed 500 items") List<Long> ids
+    ) {
+        return ResponseEntity.ok(StudentLookupResponse.from(studentQueryService.getStudentsByIds(ids)));
+    }
 }
@@ -5,11 +5,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import me.gogradually.courseenrollmentsystem.application.timetable.TaggedTimetable;
 import me.gogradually.courseenrollmentsystem.application.timetable.TimetableQueryService;
 import me.gogradually.courseenrollmentsystem.interfaces.dto.TimetableResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -21,14 +23,28 @@ public class TimetableController {
 
     private final TimetableQueryService timetableQueryService;
 
-    @Operation(summary = "내 시간표 조회")
+    /**
+     * With a matching {@code If-None-Match} the response is {@code 304} without a body.
+     * A recent write token from an enrollment response makes the read skip the cache and the replica.
+     */
+    @Operation(
+            summary = "내 시간표 조회",
+            description = "응답 ETag를 If-None-Match로 보내면 시간표가 바뀌지 않았을 때 304를 반환합니다. "
+                    + "수강신청/취소 응답의 X-Student-Write-Token을 보내면 직후 조회도 변경을 반영합니다."
+    )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "시간표 조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match와 같은 시간표(본문 없음)"),
             @ApiResponse(responseCode = "404", description = "학생을 찾을 수 없음")
     })
     @GetMapping("/{studentId}/timetable")
-    public ResponseEntity<TimetableResponse> getTimetable(@PathVariable Long studentId) {
-        TimetableResponse response = TimetableResponse.from(timetableQueryService.getStudentTimetable(studentId));
-        return ResponseEntity.ok(response);
+    public ResponseEntity<TimetableResponse> getTimetable(
+            @PathVariable Long studentId,
+            @RequestHeader(name = EnrollmentController.WRITE_TOKEN_HEADER, required = false) Long writeToken
+    ) {
+        TaggedTimetable timetable = timetableQueryService.getTaggedTimetable(studentId, writeToken);
+        return ResponseEntity.ok()
+                .eTag(timetable.etag())
+                .body(TimetableResponse.from(timetable.timetable()));
     }
 }
@@ -0,0 +1,88 @@
+package me.gogradually.courseenrollmentsystem.application.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutocompleteServiceTest {
+
+    private final Map<AutocompleteType, List<AutocompleteEntry>> rows = new EnumMap<>(AutocompleteType.class);
+    private final List<AutocompleteType> reads = new ArrayList<>();
+    private final AutocompleteService service = new AutocompleteService(type -> {
+        reads.add(type);
+        return rows.getOrDefault(type, List.of());
+    });
+
+    @Test
+    void shouldMatchNamePrefixCodeAndWordStarts() {
+        rows.put(AutocompleteType.COURSE, List.of(
+                new AutocompleteEntry(1L, "자료구조", "CSE301"),
+                new AutocompleteEntry(2L, "Linear Algebra", "MAT101"),
+                new AutocompleteEntry(3L, "자바 프로그래밍", "CSE201")
+        ));
+
+        assertEquals(List.of(1L, 3L), ids(service.suggest("자", List.of(AutocompleteType.COURSE), null)));
+        assertEquals(List.of(1L), ids(service.suggest("cse3", List.of(AutocompleteType.COURSE), null)));
+        assertEquals(List.of(2L), ids(service.suggest("ALG", List.of(AutocompleteType.COURSE), null)));
+        assertEquals(List.of(3L), ids(service.suggest("프로", List.of(AutocompleteType.COURSE), null)));
+    }
+
+    @Test
+    void shouldMatchInitialConsonantsAndMixedInput() {
+        rows.put(AutocompleteType.STUDENT, List.of(
+                new AutocompleteEntry(10L, "김민수", "20260001"),
+                new AutocompleteEntry(11L, "김민지", "20260002"),
+                new AutocompleteEntry(12L, "고민수", "20260003")
+        ));
+
+        assertEquals(List.of(10L, 12L, 11L), ids(service.suggest("ㄱㅁ", List.of(AutocompleteType.STUDENT), null)));
+        assertEquals(List.of(10L, 11L), ids(service.suggest("김ㅁ", List.of(AutocompleteType.STUDENT), null)));
+        assertEquals(List.of(11L), ids(service.suggest("김민ㅈ", List.of(AutocompleteType.STUDENT), null)));
+        assertEquals(List.of(12L), ids(service.suggest("20260003", List.of(AutocompleteType.STUDENT), null)));
+    }
+
+    @Test
+    void shouldStopAtLimitPerType() {
+        List<AutocompleteEntry> students = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> new AutocompleteEntry(id, "학생" + id, "2026" + String.format("%04d", id)))
+                .toList();
+        rows.put(AutocompleteType.STUDENT, students);
+        rows.put(AutocompleteType.PROFESSOR, List.of(new AutocompleteEntry(5L, "학장", null)));
+
+        List<AutocompleteSuggestion> suggestions = service.suggest("학", null, 3);
+
+        assertEquals(List.of(5L, 1L, 10L, 100L), ids(suggestions));
+        assertEquals(AutocompleteType.PROFESSOR, suggestions.get(0).type());
+        assertTrue(service.suggest(" ", null, 3).isEmpty());
+    }
+
+    @Test
+    void shouldServeInsertedRowsWithoutReloading() {
+        rows.put(AutocompleteType.STUDENT, List.of(new AutocompleteEntry(1L, "김민수", "20260001")));
+        service.load();
+
+        for (long id = 2; id <= AutocompleteService.MAX_RECENT + 2; id++) {
+            service.recordInserted(AutocompleteType.STUDENT, new AutocompleteEntry(id, "김신입" + id, "2027" + id));
+        }
+
+        assertEquals(List.of(1L, 10L), ids(service.suggest("김", List.of(AutocompleteType.STUDENT), 2)));
+        assertEquals(List.of(2L), ids(service.suggest("20272", List.of(AutocompleteType.STUDENT), 1)));
+        assertEquals(List.of(AutocompleteService.MAX_RECENT + 2L), ids(service.suggest(
+                "김신입" + (AutocompleteService.MAX_RECENT + 2),
+                List.of(AutocompleteType.STUDENT),
+                null
+        )));
+        assertEquals(List.of(AutocompleteType.COURSE, AutocompleteType.PROFESSOR, AutocompleteType.STUDENT), reads);
+    }
+
+    private List<Long> ids(List<AutocompleteSuggestion> suggestions) {
+        return suggestions.stream().map(AutocompleteSuggestion::id).toList();
+    }
+}
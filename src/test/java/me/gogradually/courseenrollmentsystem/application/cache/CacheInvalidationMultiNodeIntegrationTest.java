@@ -0,0 +1,192 @@
+package me.gogradually.courseenrollmentsystem.application.cache;
+
+import me.gogradually.courseenrollmentsystem.CourseEnrollmentSystemApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two application contexts share one embedded database, as two nodes would share MySQL.
+ */
+class CacheInvalidationMultiNodeIntegrationTest {
+
+    @Test
+    void shouldDeliverCommittedInvalidationsThroughChangeTableOnceAndCoalesced() {
+        String databaseUrl = "jdbc:h2:mem:cache-invalidation-polling;DB_CLOSE_DELAY=-1";
+        RecordingListener listenerA = new RecordingListener();
+        RecordingListener listenerB = new RecordingListener();
+        try (ConfigurableApplicationContext nodeA = startNode(databaseUrl, "create", listenerA, List.of());
+             ConfigurableApplicationContext nodeB = startNode(databaseUrl, "none", listenerB, List.of())) {
+            assertEquals(0, nodeB.getBean(CacheInvalidationPoller.class).poll());
+
+            publishInOneTransaction(nodeA, bus -> {
+                bus.publish("course", 1L, 1);
+                bus.publish("course", 1L, 2);
+                bus.publish("course", 2L, 1);
+            });
+            publishRolledBack(nodeA, bus -> bus.publish("course", 3L, 1));
+
+            assertEquals(3, nodeB.getBean(CacheInvalidationPoller.class).poll());
+            assertEquals(0, nodeB.getBean(CacheInvalidationPoller.class).poll());
+            assertEquals(List.of("1@2", "2@1"), listenerB.sorted());
+
+            nodeA.getBean(InvalidationDispatcher.class).flush();
+            assertEquals(List.of("1@2", "2@1"), listenerA.sorted());
+        }
+    }
+
+    @Test
+    void shouldPushOverUdpAndIgnoreTheSameInvalidationFromPolling() throws Exception {
+        String databaseUrl = "jdbc:h2:mem:cache-invalidation-udp;DB_CLOSE_DELAY=-1";
+        int portA = freeUdpPort();
+        int portB = freeUdpPort();
+        RecordingListener listenerB = new RecordingListener();
+        try (ConfigurableApplicationContext nodeA = startNode(databaseUrl, "create", new RecordingListener(), udp(portA, portB));
+             ConfigurableApplicationContext nodeB = startNode(databaseUrl, "none", listenerB, udp(portB, portA))) {
+            nodeB.getBean(CacheInvalidationPoller.class).poll();
+
+            publishInOneTransaction(nodeA, bus -> bus.publish("course", 7L, 3));
+
+            InvalidationDispatcher dispatcherB = nodeB.getBean(InvalidationDispatcher.class);
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (listenerB.sorted().isEmpty() && System.currentTimeMillis() < deadline) {
+                dispatcherB.flush();
+                Thread.sleep(20);
+            }
+            assertEquals(List.of("7@3"), listenerB.sorted());
+
+            assertEquals(1, nodeB.getBean(CacheInvalidationPoller.class).poll());
+            assertEquals(List.of("7@3"), listenerB.sorted());
+        }
+    }
+
+    @Test
+    void shouldDeliverRowCommittedAfterTheMarkSkippedItsGap() throws Exception {
+        String databaseUrl = "jdbc:h2:mem:cache-invalidation-late-commit;DB_CLOSE_DELAY=-1";
+        RecordingListener listenerB = new RecordingListener();
+        try (ConfigurableApplicationContext nodeA = startNode(databaseUrl, "create", new RecordingListener(), List.of());
+             ConfigurableApplicationContext nodeB = startNode(
+                     databaseUrl,
+                     "none",
+                     listenerB,
+                     List.of("app.cache.invalidation.gap-timeout=PT0S")
+             )) {
+            CacheInvalidationPoller pollerB = nodeB.getBean(CacheInvalidationPoller.class);
+            pollerB.poll();
+
+            CountDownLatch published = new CountDownLatch(1);
+            CountDownLatch commit = new CountDownLatch(1);
+            Thread slowWriter = new Thread(() -> publishInOneTransaction(nodeA, bus -> {
+                bus.publish("course", 8L, 1);
+                published.countDown();
+                awaitQuietly(commit);
+            }));
+            slowWriter.start();
+            assertTrue(published.await(5, TimeUnit.SECONDS));
+            publishInOneTransaction(nodeA, bus -> bus.publish("course", 9L, 1));
+
+            assertEquals(1, pollerB.poll());
+            assertEquals(List.of("9@1"), listenerB.sorted());
+
+            commit.countDown();
+            slowWriter.join(5_000);
+
+            assertEquals(1, pollerB.poll());
+            assertEquals(0, pollerB.poll());
+            assertEquals(List.of("8@1", "9@1"), listenerB.sorted());
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(
+            String databaseUrl,
+            String ddlAuto,
+            RecordingListener listener,
+            List<String> extraProperties
+    ) {
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=" + databaseUrl,
+                "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "app.cache.invalidation.enabled=true"
+        ));
+        properties.addAll(extraProperties);
+        ApplicationContextInitializer<ConfigurableApplicationContext> registerListener =
+                context -> context.getBeanFactory().registerSingleton("recordingListener", listener);
+        return new SpringApplicationBuilder(CourseEnrollmentSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(properties.toArray(String[]::new))
+                .initializers(registerListener)
+                .run();
+    }
+
+    private List<String> udp(int port, int peerPort) {
+        return List.of(
+                "app.cache.invalidation.transport=udp",
+                "app.cache.invalidation.udp.port=" + port,
+                "app.cache.invalidation.udp.peers[0]=127.0.0.1:" + peerPort
+        );
+    }
+
+    private void publishInOneTransaction(ConfigurableApplicationContext node, Consumer<CacheInvalidationBus> publisher) {
+        CacheInvalidationBus bus = node.getBean(CacheInvalidationBus.class);
+        new TransactionTemplate(node.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> publisher.accept(bus));
+    }
+
+    private void publishRolledBack(ConfigurableApplicationContext node, Consumer<CacheInvalidationBus> publisher) {
+        CacheInvalidationBus bus = node.getBean(CacheInvalidationBus.class);
+        new TransactionTemplate(node.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> {
+                    publisher.accept(bus);
+                    status.setRollbackOnly();
+                });
+    }
+
+    private int freeUdpPort() throws IOException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static final class RecordingListener implements CacheInvalidationListener {
+
+        private final List<String> invalidations = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String entityType() {
+            return "course";
+        }
+
+        @Override
+        public void invalidate(Long entityId, long version) {
+            invalidations.add(entityId + "@" + version);
+        }
+
+        private List<String> sorted() {
+            return invalidations.stream().sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.gogradually.courseenrollmentsystem.application.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final ClusterNode NODE_A = new ClusterNode("node-a", "http://localhost:8081");
+    private static final ClusterNode NODE_B = new ClusterNode("node-b", "http://localhost:8082");
+    private static final ClusterNode NODE_C = new ClusterNode("node-c", "http://localhost:8083");
+
+    @Test
+    void shouldAssignSameOwnerRegardlessOfMemberOrder() {
+        ConsistentHashRing first = new ConsistentHashRing(List.of(NODE_A, NODE_B, NODE_C), 64);
+        ConsistentHashRing second = new ConsistentHashRing(List.of(NODE_C, NODE_A, NODE_B), 64);
+
+        LongStream.rangeClosed(1, 500).forEach(courseId ->
+                assertEquals(first.ownerOf(courseId), second.ownerOf(courseId))
+        );
+    }
+
+    @Test
+    void shouldMoveOnlyCoursesOfRemovedNode() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of(NODE_A, NODE_B, NODE_C), 64);
+        ConsistentHashRing after = new ConsistentHashRing(List.of(NODE_A, NODE_B), 64);
+
+        LongStream.rangeClosed(1, 500)
+                .filter(courseId -> !before.ownerOf(courseId).equals(NODE_C))
+                .forEach(courseId -> assertEquals(before.ownerOf(courseId), after.ownerOf(courseId)));
+    }
+
+    @Test
+    void shouldSpreadCoursesAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of(NODE_A, NODE_B, NODE_C), 128);
+
+        long ownedByA = LongStream.rangeClosed(1, 3000).filter(courseId -> ring.isOwner("node-a", courseId)).count();
+
+        assertTrue(ownedByA > 600 && ownedByA < 1400, "node-a owns " + ownedByA);
+    }
+
+    @Test
+    void shouldReturnNullOwnerForEmptyRing() {
+        assertNull(new ConsistentHashRing(List.of(), 64).ownerOf(1L));
+    }
+}
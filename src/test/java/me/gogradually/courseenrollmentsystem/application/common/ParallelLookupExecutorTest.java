@@ -0,0 +1,105 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.gogradually.courseenrollmentsystem.application.common.ParallelLookupExecutor.ForkedLookup;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParallelLookupExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ParallelLookupExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new ParallelLookupExecutor(transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void shouldRunForkedLookupsConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        ForkedLookup<String> first = executor.fork("test", "first", () -> awaitPeer(bothStarted, "a"));
+        ForkedLookup<String> second = executor.fork("test", "second", () -> awaitPeer(bothStarted, "b"));
+
+        assertThat(first.join()).isEqualTo("a");
+        assertThat(second.join()).isEqualTo("b");
+    }
+
+    @Test
+    void shouldRunEachLookupInReadOnlyNewTransaction() {
+        executor.fork("test", "lookup", () -> 1).join();
+
+        verify(transactionManager, atLeastOnce()).getTransaction(argThat(definition ->
+            definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW
+                && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_READ_COMMITTED
+        ));
+    }
+
+    @Test
+    void shouldRethrowDomainExceptionFromLookup() {
+        ForkedLookup<Object> lookup = executor.fork("test", "student", () -> {
+            throw new StudentNotFoundException(1L);
+        });
+
+        assertThatThrownBy(lookup::join).isInstanceOf(StudentNotFoundException.class);
+    }
+
+    @Test
+    void shouldRecordTimerPerOperationAndPhase() {
+        executor.fork("timetable", "student", () -> true).join();
+        executor.record("timetable", "total", () -> true);
+
+        Timer lookupTimer = meterRegistry.get(ParallelLookupExecutor.TIMER_NAME)
+            .tag("operation", "timetable")
+            .tag("phase", "student")
+            .timer();
+        Timer totalTimer = meterRegistry.get(ParallelLookupExecutor.TIMER_NAME)
+            .tag("operation", "timetable")
+            .tag("phase", "total")
+            .timer();
+
+        assertThat(lookupTimer.count()).isEqualTo(1);
+        assertThat(totalTimer.count()).isEqualTo(1);
+    }
+
+    private String awaitPeer(CountDownLatch bothStarted, String value) {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("lookups did not overlap");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+        return value;
+    }
+}
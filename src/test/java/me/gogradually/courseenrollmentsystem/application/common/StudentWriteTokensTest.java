@@ -0,0 +1,40 @@
+package me.gogradually.courseenrollmentsystem.application.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentWriteTokensTest {
+
+    private final StudentWriteTokens studentWriteTokens = new StudentWriteTokens(
+            new ReadReplicaProperties(true, null, null, null, null, 0, Duration.ofSeconds(2))
+    );
+
+    @Test
+    void shouldHonourTokenIssuedWithinWindow() {
+        assertThat(studentWriteTokens.isRecent(studentWriteTokens.issueToken())).isTrue();
+        assertThat(studentWriteTokens.requiresPrimary(1L, studentWriteTokens.issueToken())).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreMissingOrExpiredToken() {
+        assertThat(studentWriteTokens.isRecent(null)).isFalse();
+        assertThat(studentWriteTokens.isRecent(System.currentTimeMillis() - 10_000)).isFalse();
+    }
+
+    @Test
+    void shouldToleratePeerClockSlightlyAhead() {
+        assertThat(studentWriteTokens.isRecent(System.currentTimeMillis() + 1_000)).isTrue();
+    }
+
+    @Test
+    void shouldIgnoreTokenBeyondClockSkew() {
+        long beyondSkew = System.currentTimeMillis() + StudentWriteTokens.MAX_CLOCK_SKEW.toMillis() + 60_000;
+
+        assertThat(studentWriteTokens.isRecent(beyondSkew)).isFalse();
+        assertThat(studentWriteTokens.isRecent(Long.MAX_VALUE)).isFalse();
+        assertThat(studentWriteTokens.requiresPrimary(1L, Long.MAX_VALUE)).isFalse();
+    }
+}
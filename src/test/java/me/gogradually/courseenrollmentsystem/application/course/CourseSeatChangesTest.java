@@ -0,0 +1,81 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationBus;
+import me.gogradually.courseenrollmentsystem.application.cache.CacheInvalidationTxExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSeatChangesTest {
+
+    @Mock
+    private CourseCatalogVersions courseCatalogVersions;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private CacheInvalidationTxExecutor cacheInvalidationTxExecutor;
+
+    @InjectMocks
+    private CourseSeatChanges courseSeatChanges;
+
+    @Test
+    void shouldMarkLocallyAtOnceAndPublishCoalescedChangesOnFlush() {
+        when(cacheInvalidationBus.isEnabled()).thenReturn(true);
+
+        courseSeatChanges.record(1L);
+        courseSeatChanges.record(1L);
+        courseSeatChanges.record(2L);
+
+        verify(courseCatalogVersions, times(2)).markChanged(1L);
+        verify(courseCatalogVersions).markChanged(2L);
+        verifyNoInteractions(cacheInvalidationTxExecutor);
+
+        assertThat(courseSeatChanges.flush()).isEqualTo(2);
+        verify(cacheInvalidationTxExecutor).publishToOtherNodes(
+                eq(CourseCatalogVersions.ENTITY_TYPE),
+                eq(List.of(1L, 2L)),
+                anyLong()
+        );
+        assertThat(courseSeatChanges.flush()).isZero();
+    }
+
+    @Test
+    void shouldKeepChangesForNextFlushWhenPublishingFails() {
+        when(cacheInvalidationBus.isEnabled()).thenReturn(true);
+        courseSeatChanges.record(3L);
+        doThrow(new IllegalStateException("database unavailable"))
+                .doNothing()
+                .when(cacheInvalidationTxExecutor)
+                .publishToOtherNodes(eq(CourseCatalogVersions.ENTITY_TYPE), eq(List.of(3L)), anyLong());
+
+        assertThat(courseSeatChanges.flush()).isZero();
+        assertThat(courseSeatChanges.flush()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotQueueChangesWhenBusIsDisabled() {
+        when(cacheInvalidationBus.isEnabled()).thenReturn(false);
+
+        courseSeatChanges.record(4L);
+
+        verify(courseCatalogVersions).markChanged(4L);
+        assertThat(courseSeatChanges.flush()).isZero();
+        verifyNoInteractions(cacheInvalidationTxExecutor);
+    }
+}
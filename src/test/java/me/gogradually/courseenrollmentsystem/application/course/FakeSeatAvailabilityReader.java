@@ -0,0 +1,31 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class FakeSeatAvailabilityReader implements SeatAvailabilityReader {
+
+    static final long DEPARTMENT_ID = 7L;
+
+    final List<List<Long>> partialReads = new ArrayList<>();
+
+    private final Map<Long, SeatAvailability> seats = new TreeMap<>();
+
+    void put(long courseId, int capacity, int enrolled) {
+        seats.put(courseId, new SeatAvailability(courseId, DEPARTMENT_ID, capacity, enrolled));
+    }
+
+    @Override
+    public List<SeatAvailability> findAll() {
+        return List.copyOf(seats.values());
+    }
+
+    @Override
+    public List<SeatAvailability> findByCourseIds(Collection<Long> courseIds) {
+        partialReads.add(List.copyOf(courseIds));
+        return courseIds.stream().map(seats::get).toList();
+    }
+}
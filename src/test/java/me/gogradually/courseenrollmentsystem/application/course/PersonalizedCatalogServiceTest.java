@@ -0,0 +1,77 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import me.gogradually.courseenrollmentsystem.application.course.CourseScheduleMasks.CourseSlot;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.StudentEnrollmentSnapshot;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.StudentEnrollmentSnapshotCache;
+import me.gogradually.courseenrollmentsystem.domain.course.ScheduleMask;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PersonalizedCatalogServiceTest {
+
+    @Mock
+    private CourseQueryService courseQueryService;
+
+    @Mock
+    private StudentEnrollmentSnapshotCache studentEnrollmentSnapshotCache;
+
+    @Mock
+    private CourseScheduleMasks courseScheduleMasks;
+
+    @InjectMocks
+    private PersonalizedCatalogService personalizedCatalogService;
+
+    @Test
+    void shouldFlagEachCourseAgainstStudentSnapshot() {
+        TimeSlot mondayMorning = slot(DayOfWeek.MONDAY, 9, 11);
+        TimeSlot mondayOverlap = slot(DayOfWeek.MONDAY, 10, 12);
+        TimeSlot tuesday = slot(DayOfWeek.TUESDAY, 9, 11);
+        StudentEnrollmentSnapshot snapshot = new StudentEnrollmentSnapshot(
+            1L,
+            Set.of(10L),
+            16,
+            ScheduleMask.of(mondayMorning),
+            List.of(mondayMorning)
+        );
+        when(studentEnrollmentSnapshotCache.get(1L)).thenReturn(snapshot);
+        when(courseQueryService.getCourses(null, null, null)).thenReturn(List.of(
+            course(10L, 3, 30, 30),
+            course(11L, 2, 30, 10),
+            course(12L, 3, 30, 29)
+        ));
+        when(courseScheduleMasks.get(List.of(10L, 11L, 12L))).thenReturn(Map.of(
+            10L, new CourseSlot(mondayMorning, ScheduleMask.of(mondayMorning)),
+            11L, new CourseSlot(mondayOverlap, ScheduleMask.of(mondayOverlap)),
+            12L, new CourseSlot(tuesday, ScheduleMask.of(tuesday))
+        ));
+
+        List<PersonalizedCourse> courses = personalizedCatalogService.getCourses(1L, null, null, null);
+
+        assertEquals(new PersonalizedCourse(course(10L, 3, 30, 30), true, false, false, true), courses.get(0));
+        assertEquals(new PersonalizedCourse(course(11L, 2, 30, 10), false, true, false, false), courses.get(1));
+        assertEquals(new PersonalizedCourse(course(12L, 3, 30, 29), false, false, true, false), courses.get(2));
+    }
+
+    private TimeSlot slot(DayOfWeek dayOfWeek, int startHour, int endHour) {
+        return new TimeSlot(dayOfWeek, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0));
+    }
+
+    private CourseSummary course(Long id, int credits, int capacity, int enrolled) {
+        return new CourseSummary(id, "C" + id, "강좌" + id, credits, capacity, enrolled, "월 09:00-11:00",
+            1L, "컴퓨터공학과", 1L, "김교수");
+    }
+}
@@ -0,0 +1,54 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatAvailabilityFeedTest {
+
+    private final FakeSeatAvailabilityReader reader = new FakeSeatAvailabilityReader();
+    private final CourseCatalogVersions versions = new CourseCatalogVersions();
+    private final SeatAvailabilityFeed feed = new SeatAvailabilityFeed(reader, versions);
+
+    @Test
+    void shouldReturnEveryCourseWithoutSince() {
+        reader.put(1L, 30, 10);
+        reader.put(2L, 40, 40);
+
+        SeatAvailabilityChanges changes = feed.changesSince(null);
+
+        assertTrue(changes.full());
+        assertEquals(List.of(new SeatAvailability(1L, 7L, 30, 10), new SeatAvailability(2L, 7L, 40, 40)), changes.seats());
+    }
+
+    @Test
+    void shouldReturnOnlyChangedCoursesAfterSince() {
+        reader.put(1L, 30, 10);
+        reader.put(2L, 40, 39);
+        long since = feed.changesSince(null).version();
+
+        reader.put(2L, 40, 40);
+        versions.markChanged(2L);
+        SeatAvailabilityChanges changes = feed.changesSince(since);
+
+        assertFalse(changes.full());
+        assertTrue(changes.version() > since);
+        assertEquals(List.of(new SeatAvailability(2L, 7L, 40, 40)), changes.seats());
+        assertEquals(List.of(List.of(2L)), reader.partialReads);
+        assertTrue(feed.changesSince(changes.version()).seats().isEmpty());
+    }
+
+    @Test
+    void shouldReturnEveryCourseForVersionUnknownToThisNode() {
+        reader.put(1L, 30, 10);
+        long version = feed.changesSince(null).version();
+
+        assertTrue(feed.changesSince(version - 1).full());
+        assertTrue(feed.changesSince(version + 1).full());
+        assertEquals(1, feed.changesSince(version + 1).seats().size());
+    }
+}
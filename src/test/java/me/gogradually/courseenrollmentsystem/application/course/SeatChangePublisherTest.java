@@ -0,0 +1,48 @@
+package me.gogradually.courseenrollmentsystem.application.course;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeatChangePublisherTest {
+
+    private final FakeSeatAvailabilityReader reader = new FakeSeatAvailabilityReader();
+    private final CourseCatalogVersions versions = new CourseCatalogVersions();
+    private final List<List<SeatAvailability>> published = new ArrayList<>();
+    private final SeatChangePublisher publisher = new SeatChangePublisher(
+            new SeatAvailabilityFeed(reader, versions),
+            new StaticListableBeanFactory(Map.of(
+                    "listener", (SeatChangeListener) (version, seats) -> published.add(seats)
+            )).getBeanProvider(SeatChangeListener.class)
+    );
+
+    @Test
+    void shouldCoalesceChangesOfOneCourseWithinInterval() {
+        reader.put(1L, 30, 10);
+        reader.put(2L, 30, 10);
+        publisher.publish();
+
+        reader.put(1L, 30, 11);
+        versions.markChanged(1L);
+        reader.put(1L, 30, 12);
+        versions.markChanged(1L);
+
+        assertEquals(1, publisher.publish());
+        assertEquals(List.of(List.of(new SeatAvailability(1L, FakeSeatAvailabilityReader.DEPARTMENT_ID, 30, 12))), published);
+    }
+
+    @Test
+    void shouldPublishNothingWithoutChanges() {
+        reader.put(1L, 30, 10);
+        publisher.publish();
+
+        assertEquals(0, publisher.publish());
+        assertTrue(published.isEmpty());
+    }
+}
@@ -0,0 +1,176 @@
+package me.gogradually.courseenrollmentsystem.application.course.search;
+
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogVersions;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailability;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityFeed;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CourseSearchServiceTest {
+
+    private final List<CourseSearchDocument> documents = new ArrayList<>();
+    private final SeatReader seatReader = new SeatReader();
+    private final CourseCatalogVersions versions = new CourseCatalogVersions();
+    private final CourseSearchService service = new CourseSearchService(
+            () -> List.copyOf(documents),
+            new SeatAvailabilityFeed(seatReader, versions),
+            versions
+    );
+
+    @BeforeEach
+    void setUp() {
+        course(1L, "CSE301", "자료구조", 3, DayOfWeek.MONDAY, "09:00", "10:30", 10L, 30, 30);
+        course(2L, "CSE302", "알고리즘", 3, DayOfWeek.TUESDAY, "13:00", "14:30", 10L, 40, 10);
+        course(3L, "MAT101", "Linear Algebra", 2, DayOfWeek.MONDAY, "15:00", "16:30", 20L, 20, 15);
+    }
+
+    @Test
+    void shouldIntersectFacetFilters() {
+        CourseSearchResult result = service.search(
+                criteria(null, 3, DayOfWeek.MONDAY, null, null, false, null, CourseSearchSort.CODE, false),
+                null,
+                null
+        );
+
+        assertEquals(1, result.total());
+        assertEquals(List.of(1L), ids(result));
+        assertEquals("MON 09:00-10:30", result.courses().get(0).schedule());
+    }
+
+    @Test
+    void shouldMatchKoreanAndLatinTextIgnoringCaseAndSpaces() {
+        assertEquals(List.of(1L), ids(service.search(text("자료"), null, null)));
+        assertEquals(List.of(3L), ids(service.search(text("linearalg"), null, null)));
+        assertEquals(List.of(1L, 2L), ids(service.search(text("cse3"), null, null)));
+        assertEquals(0, service.search(text("자료알"), null, null).total());
+    }
+
+    @Test
+    void shouldFilterByTimeRangeAndOpenSeats() {
+        CourseSearchResult result = service.search(
+                criteria(null, null, null, LocalTime.of(12, 0), LocalTime.of(18, 0), true, null, CourseSearchSort.CODE, false),
+                null,
+                null
+        );
+
+        assertEquals(List.of(2L, 3L), ids(result));
+    }
+
+    @Test
+    void shouldSortAndPage() {
+        CourseSearchCriteria byFillRate = criteria(null, null, null, null, null, false, null, CourseSearchSort.FILL_RATE, true);
+        CourseSearchCriteria byCredits = criteria(null, null, null, null, null, false, null, CourseSearchSort.CREDITS, false);
+
+        assertEquals(List.of(1L, 3L, 2L), ids(service.search(byFillRate, null, null)));
+        assertEquals(List.of(3L, 1L), ids(service.search(byCredits, 0, 2)));
+
+        CourseSearchResult secondPage = service.search(byCredits, 2, 2);
+        assertEquals(3, secondPage.total());
+        assertEquals(List.of(2L), ids(secondPage));
+    }
+
+    @Test
+    void shouldApplySeatChangesToLoadedIndex() {
+        CourseSearchCriteria open = criteria(null, null, null, null, null, true, null, CourseSearchSort.CODE, false);
+        assertEquals(List.of(2L, 3L), ids(service.search(open, null, null)));
+
+        seatReader.put(1L, 30, 29);
+        seatReader.put(2L, 40, 40);
+        versions.markChanged(1L);
+        versions.markChanged(2L);
+
+        assertEquals(List.of(1L, 3L), ids(service.search(open, null, null)));
+        assertEquals(29, service.search(text("자료구조"), null, null).courses().get(0).enrolled());
+    }
+
+    @Test
+    void shouldReloadCatalogWhenUnknownCourseAppears() {
+        assertEquals(3, service.search(text(""), null, null).total());
+
+        course(4L, "CSE401", "운영체제", 3, DayOfWeek.FRIDAY, "09:00", "10:30", 10L, 30, 0);
+        versions.markChanged(4L);
+
+        assertEquals(List.of(4L), ids(service.search(text("운영"), null, null)));
+    }
+
+    private void course(
+            long id,
+            String code,
+            String name,
+            int credits,
+            DayOfWeek dayOfWeek,
+            String start,
+            String end,
+            long departmentId,
+            int capacity,
+            int enrolled
+    ) {
+        documents.add(new CourseSearchDocument(
+                id,
+                code,
+                name,
+                credits,
+                dayOfWeek,
+                LocalTime.parse(start),
+                LocalTime.parse(end),
+                departmentId,
+                "학과" + departmentId,
+                100L + id,
+                "교수" + id
+        ));
+        seatReader.put(id, capacity, enrolled);
+    }
+
+    private CourseSearchCriteria text(String query) {
+        return criteria(null, null, null, null, null, false, query, CourseSearchSort.CODE, false);
+    }
+
+    private CourseSearchCriteria criteria(
+            Long departmentId,
+            Integer credits,
+            DayOfWeek dayOfWeek,
+            LocalTime from,
+            LocalTime to,
+            boolean openOnly,
+            String query,
+            CourseSearchSort sort,
+            boolean descending
+    ) {
+        return new CourseSearchCriteria(departmentId, null, credits, dayOfWeek, from, to, openOnly, query, sort, descending);
+    }
+
+    private List<Long> ids(CourseSearchResult result) {
+        return result.courses().stream().map(CourseSummary::id).toList();
+    }
+
+    private static class SeatReader implements SeatAvailabilityReader {
+
+        private final Map<Long, SeatAvailability> seats = new TreeMap<>();
+
+        void put(long courseId, int capacity, int enrolled) {
+            seats.put(courseId, new SeatAvailability(courseId, 1L, capacity, enrolled));
+        }
+
+        @Override
+        public List<SeatAvailability> findAll() {
+            return List.copyOf(seats.values());
+        }
+
+        @Override
+        public List<SeatAvailability> findByCourseIds(Collection<Long> courseIds) {
+            return courseIds.stream().map(seats::get).toList();
+        }
+    }
+}
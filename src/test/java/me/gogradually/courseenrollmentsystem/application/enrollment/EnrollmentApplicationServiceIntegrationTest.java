@@ -293,6 +293,66 @@ class EnrollmentApplicationServiceIntegrationTest {
         );
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldSwapEnrollmentWhenDroppedCourseConflictsWithRequestedCourse() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Fixture fixture = transactionTemplate.execute(status -> {
+            Department department = new Department("정보보호학과");
+            entityManager.persist(department);
+
+            Professor professor = new Professor("윤교수", department);
+            entityManager.persist(professor);
+
+            Student student = new Student("20261238", "한학생", department);
+            entityManager.persist(student);
+
+            Course existingCourse = new Course(
+                    "SEC-FIX-301",
+                    "암호학",
+                    3,
+                    30,
+                    0,
+                    new TimeSlot(DayOfWeek.THURSDAY, LocalTime.of(10, 0), LocalTime.of(11, 30)),
+                    department,
+                    professor
+            );
+            entityManager.persist(existingCourse);
+
+            Course requestedCourse = new Course(
+                    "SEC-FIX-302",
+                    "네트워크보안",
+                    3,
+                    30,
+                    0,
+                    new TimeSlot(DayOfWeek.THURSDAY, LocalTime.of(11, 0), LocalTime.of(12, 0)),
+                    department,
+                    professor
+            );
+            entityManager.persist(requestedCourse);
+            entityManager.flush();
+            entityManager.clear();
+
+            return new Fixture(student.getId(), existingCourse.getId(), requestedCourse.getId());
+        });
+
+        assertNotNull(fixture);
+        Enrollment dropped = enrollmentApplicationService.enroll(fixture.studentId(), fixture.existingCourseId());
+
+        Enrollment swapped = enrollmentApplicationService.swap(
+                fixture.studentId(),
+                dropped.getId(),
+                fixture.requestedCourseId()
+        );
+
+        assertNotNull(swapped.getId());
+        assertEquals(0, courseRepository.findById(fixture.existingCourseId()).orElseThrow().getEnrolledCount());
+        assertEquals(1, courseRepository.findById(fixture.requestedCourseId()).orElseThrow().getEnrolledCount());
+        List<Enrollment> activeEnrollments = enrollmentRepository.findActiveByStudentId(fixture.studentId());
+        assertEquals(1, activeEnrollments.size());
+        assertEquals(fixture.requestedCourseId(), activeEnrollments.get(0).getCourse().getId());
+    }
+
     private long countActiveEnrollmentByCourseId(Long courseId) {
         return entityManager.createQuery(
                         """
@@ -1,9 +1,12 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment;
 
+import me.gogradually.courseenrollmentsystem.application.common.IsolationScope;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
 import me.gogradually.courseenrollmentsystem.application.enrollment.orchestration.EnrollmentApplicationService;
 import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategy;
 import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyRouter;
 import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.EnrollmentStrategyType;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentIsolationProperties;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.department.Department;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
@@ -12,12 +15,17 @@ import me.gogradually.courseenrollmentsystem.domain.student.Student;
 import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
 
 import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Isolation;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,6 +48,15 @@ class EnrollmentApplicationServiceTest {
     @Mock
     private EnrollmentStrategy separatedStrategy;
 
+    @Mock
+    private StudentWriteTokens studentWriteTokens;
+
+    @Spy
+    private EnrollmentIsolationProperties isolationProperties = new EnrollmentIsolationProperties(
+            Map.of(EnrollmentStrategyType.ATOMIC, Isolation.READ_COMMITTED),
+            false
+    );
+
     @InjectMocks
     private EnrollmentApplicationService enrollmentApplicationService;
 
@@ -53,6 +70,23 @@ class EnrollmentApplicationServiceTest {
 
         assertSame(enrollment, result);
         verify(atomicStrategy).enroll(1L, 2L);
+        verify(studentWriteTokens).recordWrite(1L);
+    }
+
+    @Test
+    void shouldRunStrategyInConfiguredIsolationScope() {
+        Enrollment enrollment = sampleEnrollment();
+        AtomicReference<Isolation> observed = new AtomicReference<>();
+        when(enrollmentStrategyRouter.get(EnrollmentStrategyType.ATOMIC)).thenReturn(atomicStrategy);
+        when(atomicStrategy.enroll(1L, 2L)).thenAnswer(invocation -> {
+            observed.set(IsolationScope.current());
+            return enrollment;
+        });
+
+        enrollmentApplicationService.enroll(1L, 2L);
+
+        assertEquals(Isolation.READ_COMMITTED, observed.get());
+        assertEquals(Isolation.DEFAULT, IsolationScope.current());
     }
 
     @Test
@@ -0,0 +1,168 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.eligibility;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.gogradually.courseenrollmentsystem.application.common.ParallelLookupExecutor;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
+import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EnrollmentEligibilityServiceTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final CourseRepository courseRepository = mock(CourseRepository.class);
+    private final EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+
+    private ParallelLookupExecutor parallelLookupExecutor;
+    private EnrollmentEligibilityService service;
+    private Department department;
+    private Professor professor;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        parallelLookupExecutor = new ParallelLookupExecutor(transactionManager, new SimpleMeterRegistry());
+        service = new EnrollmentEligibilityService(
+                parallelLookupExecutor,
+                studentRepository,
+                courseRepository,
+                enrollmentRepository
+        );
+        department = DomainFixtureFactory.department();
+        professor = DomainFixtureFactory.professor(department);
+        student = DomainFixtureFactory.student(department);
+        when(studentRepository.existsById(1L)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelLookupExecutor.destroy();
+    }
+
+    @Test
+    void shouldReportOnlyDuplicateForAlreadyEnrolledCourse() {
+        Course enrolled = course(10L, "CSE101", 3, 30, 30, DayOfWeek.MONDAY, 9, 11);
+        givenActive(enrolled);
+        when(courseRepository.findAllByIds(List.of(10L))).thenReturn(List.of(enrolled));
+
+        EnrollmentEligibility eligibility = service.evaluate(1L, List.of(10L)).get(0);
+
+        assertFalse(eligibility.eligible());
+        assertEquals(List.of(EligibilityViolation.DUPLICATE), eligibility.violations());
+    }
+
+    @Test
+    void shouldReportCreditLimitWhenTotalWouldExceedMaximum() {
+        givenActive(course(10L, "CSE101", 16, 30, 1, DayOfWeek.MONDAY, 9, 11));
+        Course requested = course(20L, "CSE201", 3, 30, 0, DayOfWeek.TUESDAY, 9, 11);
+        when(courseRepository.findAllByIds(List.of(20L))).thenReturn(List.of(requested));
+
+        EnrollmentEligibility eligibility = service.evaluate(1L, List.of(20L)).get(0);
+
+        assertEquals(List.of(EligibilityViolation.CREDIT_LIMIT), eligibility.violations());
+    }
+
+    @Test
+    void shouldReportScheduleConflictOnlyForOverlappingSlot() {
+        givenActive(course(10L, "CSE101", 3, 30, 1, DayOfWeek.MONDAY, 9, 11));
+        Course overlapping = course(20L, "CSE201", 3, 30, 0, DayOfWeek.MONDAY, 10, 12);
+        Course adjacent = course(30L, "CSE301", 3, 30, 0, DayOfWeek.MONDAY, 11, 13);
+        when(courseRepository.findAllByIds(List.of(20L, 30L))).thenReturn(List.of(overlapping, adjacent));
+
+        List<EnrollmentEligibility> result = service.evaluate(1L, List.of(20L, 30L));
+
+        assertEquals(List.of(EligibilityViolation.SCHEDULE_CONFLICT), result.get(0).violations());
+        assertTrue(result.get(1).eligible());
+    }
+
+    @Test
+    void shouldReportCapacityAndKeepRequestOrderWithMissingCourse() {
+        givenActive();
+        Course full = course(20L, "CSE201", 3, 30, 30, DayOfWeek.TUESDAY, 9, 11);
+        when(courseRepository.findAllByIds(List.of(99L, 20L))).thenReturn(List.of(full));
+
+        List<EnrollmentEligibility> result = service.evaluate(1L, List.of(99L, 20L));
+
+        assertEquals(99L, result.get(0).courseId());
+        assertEquals(List.of(EligibilityViolation.COURSE_NOT_FOUND), result.get(0).violations());
+        assertEquals(20L, result.get(1).courseId());
+        assertEquals(List.of(EligibilityViolation.CAPACITY), result.get(1).violations());
+    }
+
+    @Test
+    void shouldCombineEveryViolationOfOneCourse() {
+        givenActive(course(10L, "CSE101", 16, 30, 1, DayOfWeek.MONDAY, 9, 11));
+        Course requested = course(20L, "CSE201", 3, 30, 30, DayOfWeek.MONDAY, 10, 12);
+        when(courseRepository.findAllByIds(List.of(20L))).thenReturn(List.of(requested));
+
+        EnrollmentEligibility eligibility = service.evaluate(1L, List.of(20L)).get(0);
+
+        assertEquals(
+                List.of(
+                        EligibilityViolation.CREDIT_LIMIT,
+                        EligibilityViolation.SCHEDULE_CONFLICT,
+                        EligibilityViolation.CAPACITY
+                ),
+                eligibility.violations()
+        );
+    }
+
+    @Test
+    void shouldThrowWhenStudentMissing() {
+        when(studentRepository.existsById(999L)).thenReturn(false);
+        when(enrollmentRepository.findActiveByStudentId(999L)).thenReturn(List.of());
+        when(courseRepository.findAllByIds(List.of(10L))).thenReturn(List.of());
+
+        assertThrows(StudentNotFoundException.class, () -> service.evaluate(999L, List.of(10L)));
+    }
+
+    private void givenActive(Course... courses) {
+        List<Enrollment> enrollments = Arrays.stream(courses)
+                .map(course -> Enrollment.enroll(student, course))
+                .toList();
+        when(enrollmentRepository.findActiveByStudentId(1L)).thenReturn(enrollments);
+    }
+
+    private Course course(
+            Long id,
+            String code,
+            int credits,
+            int capacity,
+            int enrolled,
+            DayOfWeek dayOfWeek,
+            int startHour,
+            int endHour
+    ) {
+        Course course = DomainFixtureFactory.course(
+                code, credits, capacity, enrolled, dayOfWeek, startHour, endHour, department, professor
+        );
+        ReflectionTestUtils.setField(course, "id", id);
+        return course;
+    }
+}
@@ -0,0 +1,135 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.lease;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.gogradually.courseenrollmentsystem.CourseEnrollmentSystemApplication;
+import me.gogradually.courseenrollmentsystem.application.enrollment.orchestration.EnrollmentApplicationService;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentStatus;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseCapacityExceededException;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Two application contexts share one embedded database, like two nodes sharing one MySQL.
+ */
+class SeatLeaseMultiNodeIntegrationTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:seat-lease-multi-node;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void shouldServeSeatsFromNodeLeasesWithoutOverbooking() {
+        try (ConfigurableApplicationContext nodeA = startNode("node-a", "create");
+             ConfigurableApplicationContext nodeB = startNode("node-b", "none")) {
+            Fixture fixture = createFixture(nodeA.getBean(EntityManagerFactory.class), 5, 5);
+            EnrollmentApplicationService serviceA = nodeA.getBean(EnrollmentApplicationService.class);
+            EnrollmentApplicationService serviceB = nodeB.getBean(EnrollmentApplicationService.class);
+            Long courseId = fixture.courseId();
+            List<Long> studentIds = fixture.studentIds();
+
+            serviceA.enroll(studentIds.get(0), courseId);
+            serviceA.enroll(studentIds.get(1), courseId);
+            serviceB.enroll(studentIds.get(2), courseId);
+            serviceB.enroll(studentIds.get(3), courseId);
+
+            assertEquals(5, enrolledCount(nodeA, courseId));
+            assertThrows(CourseCapacityExceededException.class, () -> serviceB.enroll(studentIds.get(4), courseId));
+
+            nodeA.getBean(SeatLeaseManager.class).returnAll();
+            assertEquals(4, enrolledCount(nodeA, courseId));
+
+            serviceB.enroll(studentIds.get(4), courseId);
+            nodeB.getBean(SeatLeaseManager.class).returnAll();
+
+            assertEquals(5, enrolledCount(nodeA, courseId));
+            assertEquals(5L, activeEnrollmentCount(nodeA.getBean(EntityManagerFactory.class), courseId));
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, String ddlAuto) {
+        return new SpringApplicationBuilder(CourseEnrollmentSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + DATABASE_URL,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "app.enrollment.seat-lease.enabled=true",
+                        "app.enrollment.seat-lease.node-id=" + nodeId,
+                        "app.enrollment.seat-lease.block-size=3"
+                )
+                .run();
+    }
+
+    private int enrolledCount(ConfigurableApplicationContext node, Long courseId) {
+        return node.getBean(CourseRepository.class).findById(courseId).orElseThrow().getEnrolledCount();
+    }
+
+    private Fixture createFixture(EntityManagerFactory entityManagerFactory, int capacity, int studentCount) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Department department = new Department("데이터사이언스학과");
+            entityManager.persist(department);
+
+            Professor professor = new Professor("임교수", department);
+            entityManager.persist(professor);
+
+            Course course = new Course(
+                    "DS101",
+                    "데이터사이언스개론",
+                    3,
+                    capacity,
+                    0,
+                    new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 30)),
+                    department,
+                    professor
+            );
+            entityManager.persist(course);
+
+            List<Long> studentIds = new ArrayList<>();
+            for (int index = 0; index < studentCount; index++) {
+                Student student = new Student("2026L" + index, "임대학생" + index, department);
+                entityManager.persist(student);
+                studentIds.add(student.getId());
+            }
+            entityManager.getTransaction().commit();
+            return new Fixture(course.getId(), studentIds);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private long activeEnrollmentCount(EntityManagerFactory entityManagerFactory, Long courseId) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("""
+                            select count(e)
+                            from Enrollment e
+                            where e.course.id = :courseId
+                              and e.status = :status
+                            """, Long.class)
+                    .setParameter("courseId", courseId)
+                    .setParameter("status", EnrollmentStatus.ACTIVE)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private record Fixture(Long courseId, List<Long> studentIds) {
+    }
+}
@@ -0,0 +1,79 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.reconcile;
+
+import jakarta.persistence.EntityManager;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PendingEnrollmentReconcilerIntegrationTest {
+
+    @Autowired
+    private PendingEnrollmentReconciler reconciler;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldReleaseStalePendingReservationAndItsSeatOnce() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Fixture fixture = transactionTemplate.execute(status -> {
+            Department department = DomainFixtureFactory.department("물류공학과");
+            entityManager.persist(department);
+
+            Professor professor = DomainFixtureFactory.professor(department);
+            entityManager.persist(professor);
+
+            Student student = DomainFixtureFactory.student("20269001", department);
+            entityManager.persist(student);
+
+            Course course = DomainFixtureFactory.course(
+                    "IE301", 3, 10, 0, DayOfWeek.FRIDAY, 13, 14, department, professor
+            );
+            entityManager.persist(course);
+            entityManager.flush();
+            entityManager.clear();
+
+            courseRepository.incrementEnrolledCountIfAvailable(course.getId());
+            Long enrollmentId = enrollmentRepository.insertPending(student.getId(), course.getId());
+            return new Fixture(course.getId(), enrollmentId);
+        });
+        assertNotNull(fixture);
+
+        PendingEnrollmentReconciler.ReconcileResult first =
+                reconciler.reconcileOlderThan(LocalDateTime.now().plusSeconds(1));
+        PendingEnrollmentReconciler.ReconcileResult second =
+                reconciler.reconcileOlderThan(LocalDateTime.now().plusSeconds(1));
+
+        assertTrue(first.released() >= 1);
+        assertEquals(0, second.found());
+        assertTrue(enrollmentRepository.findById(fixture.enrollmentId()).isEmpty());
+        assertEquals(0, courseRepository.findById(fixture.courseId()).orElseThrow().getEnrolledCount());
+    }
+
+    private record Fixture(Long courseId, Long enrollmentId) {
+    }
+}
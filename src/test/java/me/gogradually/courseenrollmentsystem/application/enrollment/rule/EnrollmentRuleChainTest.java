@@ -0,0 +1,104 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.rule;
+
+import me.gogradually.courseenrollmentsystem.domain.exception.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EnrollmentRuleChainTest {
+
+    @Test
+    void shouldStartWithCacheableRules() {
+        FakeRule lockedRule = new FakeRule("locked", RuleReadRequirement.LOCKED_READ, false);
+        FakeRule cacheableRule = new FakeRule("cacheable", RuleReadRequirement.CACHEABLE, false);
+
+        EnrollmentRuleChain chain = new EnrollmentRuleChain(List.of(lockedRule, cacheableRule));
+
+        assertSame(cacheableRule, chain.orderedRules().get(0));
+    }
+
+    @Test
+    void shouldShortCircuitOnFirstRejection() {
+        FakeRule rejectingRule = new FakeRule("rejecting", RuleReadRequirement.CACHEABLE, true);
+        FakeRule passingRule = new FakeRule("passing", RuleReadRequirement.LOCKED_READ, false);
+        EnrollmentRuleChain chain = new EnrollmentRuleChain(List.of(rejectingRule, passingRule));
+
+        assertThrows(RuleRejectedException.class, () -> chain.evaluate(null, EnumSet.allOf(RuleReadRequirement.class)));
+
+        assertEquals(1, rejectingRule.invocations.get());
+        assertEquals(0, passingRule.invocations.get());
+    }
+
+    @Test
+    void shouldMoveFrequentlyRejectingRuleFirstAfterReorder() {
+        FakeRule passingRule = new FakeRule("passing", RuleReadRequirement.LOCKED_READ, false);
+        FakeRule rejectingRule = new FakeRule("rejecting", RuleReadRequirement.LOCKED_READ, true);
+        EnrollmentRuleChain chain = new EnrollmentRuleChain(List.of(passingRule, rejectingRule));
+
+        for (int i = 0; i < 100; i++) {
+            assertThrows(RuleRejectedException.class, () -> chain.evaluate(null, EnumSet.allOf(RuleReadRequirement.class)));
+        }
+        chain.reorder();
+
+        assertSame(rejectingRule, chain.orderedRules().get(0));
+        assertEquals(100, chain.statisticsOf(rejectingRule).rejections());
+    }
+
+    @Test
+    void shouldSkipRulesThatNeedLockedReadWhenOnlyCacheableAllowed() {
+        FakeRule lockedRule = new FakeRule("locked", RuleReadRequirement.LOCKED_READ, true);
+        EnrollmentRuleChain chain = new EnrollmentRuleChain(List.of(lockedRule));
+
+        chain.evaluate(null, EnumSet.of(RuleReadRequirement.CACHEABLE));
+
+        assertEquals(0, lockedRule.invocations.get());
+    }
+
+    private static final class FakeRule implements EnrollmentRule {
+
+        private final String name;
+        private final RuleReadRequirement readRequirement;
+        private final boolean rejects;
+        private final AtomicInteger invocations = new AtomicInteger();
+        // preallocated so the measured cost of a rejection is not dominated by stack trace capture
+        private final RuleRejectedException rejection;
+
+        private FakeRule(String name, RuleReadRequirement readRequirement, boolean rejects) {
+            this.name = name;
+            this.readRequirement = readRequirement;
+            this.rejects = rejects;
+            this.rejection = new RuleRejectedException(name);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public RuleReadRequirement readRequirement() {
+            return readRequirement;
+        }
+
+        @Override
+        public void check(EnrollmentRuleContext context) {
+            invocations.incrementAndGet();
+            if (rejects) {
+                throw rejection;
+            }
+        }
+    }
+
+    private static final class RuleRejectedException extends DomainException {
+
+        private RuleRejectedException(String ruleName) {
+            super("Rejected by " + ruleName);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package me.gogradually.courseenrollmentsystem.application.enrollment.strategy;
 
 import jakarta.persistence.OptimisticLockException;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentCancellationProcessor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.tx.OptimisticEnrollmentTxExecutor;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
 import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
@@ -96,7 +97,11 @@ class OptimisticEnrollmentStrategyRetryTest {
                 OptimisticEnrollmentTxExecutor optimisticEnrollmentTxExecutor,
                 EnrollmentCancellationProcessor enrollmentCancellationProcessor
         ) {
-            return new OptimisticEnrollmentStrategy(optimisticEnrollmentTxExecutor, enrollmentCancellationProcessor);
+            return new OptimisticEnrollmentStrategy(
+                    optimisticEnrollmentTxExecutor,
+                    enrollmentCancellationProcessor,
+                    new EnrollmentLockWaitProperties(null, null)
+            );
         }
     }
 }
@@ -3,7 +3,10 @@ package me.gogradually.courseenrollmentsystem.application.enrollment.strategy;
 import jakarta.persistence.LockTimeoutException;
 import jakarta.persistence.PessimisticLockException;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentCancellationProcessor;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentLockWaitProperties;
 import me.gogradually.courseenrollmentsystem.application.enrollment.support.EnrollmentRuleValidator;
+import me.gogradually.courseenrollmentsystem.application.enrollment.support.LockWaitExceededException;
+import me.gogradually.courseenrollmentsystem.domain.common.LockWait;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
@@ -13,6 +16,7 @@ import me.gogradually.courseenrollmentsystem.domain.student.StudentRepository;
 import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.CannotAcquireLockException;
@@ -20,7 +24,9 @@ import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import java.sql.SQLException;
 import java.time.DayOfWeek;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,66 +67,94 @@ class PessimisticEnrollmentStrategyRetryTest {
                 professor
         );
 
-        when(studentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(student));
+        when(studentRepository.findByIdForUpdate(1L, LockWait.NOWAIT)).thenReturn(Optional.of(student));
         when(courseRepository.save(course)).thenReturn(course);
         when(enrollmentRepository.save(any(Enrollment.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0, Enrollment.class));
     }
 
     @Test
-    void shouldRetryAndSucceedWhenLockCannotBeAcquired() {
-        when(courseRepository.findByIdForUpdate(2L))
-                .thenThrow(new CannotAcquireLockException("lock timeout"))
-                .thenThrow(new CannotAcquireLockException("lock timeout"))
+    void shouldRetryAndSucceedWhenChosenAsDeadlockVictim() {
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT))
+                .thenThrow(new CannotAcquireLockException("deadlock", new SQLException("Deadlock", "40001", 1213)))
+                .thenThrow(new CannotAcquireLockException("deadlock", new SQLException("Deadlock", "40001", 1213)))
                 .thenReturn(Optional.of(course));
 
         Enrollment enrollment = pessimisticEnrollmentStrategy.enroll(1L, 2L);
 
         assertEquals(student, enrollment.getStudent());
         assertEquals(course, enrollment.getCourse());
-        verify(courseRepository, times(3)).findByIdForUpdate(2L);
-        verify(studentRepository, times(1)).findByIdForUpdate(1L);
+        verify(courseRepository, times(3)).findByIdForUpdate(2L, LockWait.NOWAIT);
+        verify(studentRepository, times(3)).findByIdForUpdate(1L, LockWait.NOWAIT);
     }
 
     @Test
-    void shouldRetryAndSucceedWhenLockTimeoutOccursInitially() {
-        when(courseRepository.findByIdForUpdate(2L))
-                .thenThrow(new LockTimeoutException("lock timeout"))
+    void shouldFailFastWithoutRetryWhenLockTimesOutUnderBudget() {
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT))
                 .thenThrow(new LockTimeoutException("lock timeout"))
                 .thenReturn(Optional.of(course));
 
-        Enrollment enrollment = pessimisticEnrollmentStrategy.enroll(1L, 2L);
+        assertThrows(LockWaitExceededException.class, () -> pessimisticEnrollmentStrategy.enroll(1L, 2L));
 
-        assertEquals(student, enrollment.getStudent());
-        assertEquals(course, enrollment.getCourse());
-        verify(courseRepository, times(3)).findByIdForUpdate(2L);
-        verify(studentRepository, times(1)).findByIdForUpdate(1L);
+        verify(courseRepository, times(1)).findByIdForUpdate(2L, LockWait.NOWAIT);
+        verify(studentRepository, times(1)).findByIdForUpdate(1L, LockWait.NOWAIT);
+    }
+
+    @Test
+    void shouldFailFastWithoutRetryWhenNowaitRejectsLock() {
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT))
+                .thenThrow(new CannotAcquireLockException("nowait", new SQLException("Lock wait", "HY000", 3572)));
+
+        assertThrows(LockWaitExceededException.class, () -> pessimisticEnrollmentStrategy.enroll(1L, 2L));
+
+        verify(courseRepository, times(1)).findByIdForUpdate(2L, LockWait.NOWAIT);
     }
 
     @Test
     void shouldThrowConflictWhenRetryExhaustedByPessimisticLockFailure() {
-        when(courseRepository.findByIdForUpdate(2L))
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT))
                 .thenThrow(new PessimisticLockingFailureException("pessimistic lock failure"));
 
         assertThrows(
                 PessimisticLockingFailureException.class,
                 () -> pessimisticEnrollmentStrategy.enroll(1L, 2L)
         );
-        verify(courseRepository, times(3)).findByIdForUpdate(2L);
-        verify(studentRepository, times(0)).findByIdForUpdate(1L);
+        verify(courseRepository, times(3)).findByIdForUpdate(2L, LockWait.NOWAIT);
+        verify(studentRepository, times(3)).findByIdForUpdate(1L, LockWait.NOWAIT);
     }
 
     @Test
     void shouldThrowConflictWhenRetryExhaustedByJpaPessimisticLockException() {
-        when(courseRepository.findByIdForUpdate(2L))
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT))
                 .thenThrow(new PessimisticLockException("pessimistic lock"));
 
         assertThrows(
                 PessimisticLockException.class,
                 () -> pessimisticEnrollmentStrategy.enroll(1L, 2L)
         );
-        verify(courseRepository, times(3)).findByIdForUpdate(2L);
-        verify(studentRepository, times(0)).findByIdForUpdate(1L);
+        verify(courseRepository, times(3)).findByIdForUpdate(2L, LockWait.NOWAIT);
+        verify(studentRepository, times(3)).findByIdForUpdate(1L, LockWait.NOWAIT);
+    }
+
+    @Test
+    void shouldUseConfiguredLockWaitForPessimisticStrategy() {
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT)).thenReturn(Optional.of(course));
+
+        pessimisticEnrollmentStrategy.enroll(1L, 2L);
+
+        verify(studentRepository, never()).findByIdForUpdate(1L, LockWait.DEFAULT);
+        verify(courseRepository, never()).findByIdForUpdate(2L, LockWait.DEFAULT);
+    }
+
+    @Test
+    void shouldLockStudentBeforeCourse() {
+        when(courseRepository.findByIdForUpdate(2L, LockWait.NOWAIT)).thenReturn(Optional.of(course));
+
+        pessimisticEnrollmentStrategy.enroll(1L, 2L);
+
+        InOrder lockOrder = inOrder(studentRepository, courseRepository);
+        lockOrder.verify(studentRepository).findByIdForUpdate(1L, LockWait.NOWAIT);
+        lockOrder.verify(courseRepository).findByIdForUpdate(2L, LockWait.NOWAIT);
     }
 
     @Configuration
@@ -165,7 +199,11 @@ class PessimisticEnrollmentStrategyRetryTest {
                     courseRepository,
                     enrollmentRepository,
                     enrollmentRuleValidator,
-                    enrollmentCancellationProcessor
+                    enrollmentCancellationProcessor,
+                    new EnrollmentLockWaitProperties(
+                            "default",
+                            Map.of(EnrollmentStrategyType.PESSIMISTIC, "nowait")
+                    )
             );
         }
     }
@@ -1,5 +1,6 @@
 package me.gogradually.courseenrollmentsystem.application.enrollment.support;
 
+import me.gogradually.courseenrollmentsystem.application.course.CourseSeatChanges;
 import me.gogradually.courseenrollmentsystem.domain.course.Course;
 import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
 import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
@@ -14,11 +15,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +34,9 @@ class EnrollmentPersistenceSupportTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private CourseSeatChanges courseSeatChanges;
+
     @InjectMocks
     private EnrollmentPersistenceSupport enrollmentPersistenceSupport;
 
@@ -45,9 +52,12 @@ class EnrollmentPersistenceSupportTest {
     }
 
     @Test
-    void shouldThrowDuplicateEnrollmentWhenIntegrityViolationRepresentsDuplicate() {
+    void shouldThrowDuplicateEnrollmentWhenIntegrityViolationCarriesMySqlDuplicateEntryCode() {
         when(enrollmentRepository.insertActive(1L, 2L))
-                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key uk_enrollments_student_course_status"));
+                .thenThrow(new DataIntegrityViolationException(
+                        "could not execute statement",
+                        new SQLException("Duplicate entry '1-2'", "23000", 1062)
+                ));
 
         assertThrows(
                 DuplicateEnrollmentException.class,
@@ -55,6 +65,34 @@ class EnrollmentPersistenceSupportTest {
         );
     }
 
+    @Test
+    void shouldThrowDuplicateEnrollmentWhenIntegrityViolationCarriesUniqueViolationSqlState() {
+        when(enrollmentRepository.insertActive(1L, 2L))
+                .thenThrow(new DataIntegrityViolationException(
+                        "could not execute statement",
+                        new SQLException("Unique index or primary key violation", "23505", 23505)
+                ));
+
+        assertThrows(
+                DuplicateEnrollmentException.class,
+                () -> enrollmentPersistenceSupport.insertActiveOrThrow(1L, 2L)
+        );
+    }
+
+    @Test
+    void shouldNotTreatDuplicateWordInMessageAsDuplicateEnrollment() {
+        when(enrollmentRepository.insertActive(1L, 2L))
+                .thenThrow(new DataIntegrityViolationException(
+                        "duplicate column value rejected by check constraint",
+                        new SQLException("Check constraint violation", "23513", 23513)
+                ));
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> enrollmentPersistenceSupport.insertActiveOrThrow(1L, 2L)
+        );
+    }
+
     @Test
     void shouldThrowIllegalStateWhenIntegrityViolationOccursAndIsNotDuplicate() {
         DataIntegrityViolationException integrityViolation = new DataIntegrityViolationException("integrity violation");
@@ -67,6 +105,18 @@ class EnrollmentPersistenceSupportTest {
         assertSame(integrityViolation, exception.getCause());
     }
 
+    @Test
+    void shouldRecordSeatChangeOnlyWhenSeatCountChanged() {
+        when(courseRepository.incrementEnrolledCountIfAvailable(2L)).thenReturn(1);
+        when(courseRepository.decrementEnrolledCountIfPositive(3L)).thenReturn(0);
+
+        enrollmentPersistenceSupport.incrementSeatOrThrow(2L);
+        enrollmentPersistenceSupport.decrementSeat(3L);
+
+        verify(courseSeatChanges).record(2L);
+        verify(courseSeatChanges, never()).record(3L);
+    }
+
     @Test
     void shouldThrowCourseCapacityExceededWhenSeatIncrementCannotProceed() {
         Course course = mock(Course.class);
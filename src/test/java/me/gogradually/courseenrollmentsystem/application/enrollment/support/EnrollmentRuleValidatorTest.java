@@ -0,0 +1,125 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.support;
+
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.CourseCapacityRule;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.CreditLimitRule;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.DuplicateEnrollmentRule;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.EnrollmentRuleChain;
+import me.gogradually.courseenrollmentsystem.application.enrollment.rule.ScheduleConflictRule;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.CourseCapacityExceededException;
+import me.gogradually.courseenrollmentsystem.domain.exception.DuplicateEnrollmentException;
+import me.gogradually.courseenrollmentsystem.domain.exception.ScheduleConflictException;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EnrollmentRuleValidatorTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private Student student;
+    private Course existingCourse;
+    private Course overlappingCourse;
+
+    @BeforeEach
+    void setUp() {
+        Department department = DomainFixtureFactory.department();
+        Professor professor = DomainFixtureFactory.professor(department);
+        student = DomainFixtureFactory.student(department);
+        existingCourse = DomainFixtureFactory.course("CSE201", 3, 30, 0, DayOfWeek.MONDAY, 9, 11, department, professor);
+        overlappingCourse = DomainFixtureFactory.course("CSE202", 3, 30, 0, DayOfWeek.MONDAY, 10, 12, department, professor);
+        ReflectionTestUtils.setField(existingCourse, "id", 10L);
+        ReflectionTestUtils.setField(overlappingCourse, "id", 20L);
+    }
+
+    @Test
+    void shouldSkipExistenceQueryWhenUniqueIndexModeEnabled() {
+        EnrollmentRuleValidator validator = validator(DuplicateCheckMode.UNIQUE_INDEX);
+        when(enrollmentRepository.findActiveByStudentId(1L)).thenReturn(List.of());
+
+        validator.validateForPreInsert(1L, 20L, student, overlappingCourse);
+
+        verify(enrollmentRepository, never()).existsActiveByStudentIdAndCourseId(anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldReportDuplicateInsteadOfScheduleConflictWhenUniqueIndexModeFindsActiveRow() {
+        EnrollmentRuleValidator validator = validator(DuplicateCheckMode.UNIQUE_INDEX);
+        when(enrollmentRepository.findActiveByStudentId(1L))
+                .thenReturn(List.of(Enrollment.enroll(student, existingCourse)));
+
+        assertThrows(
+                DuplicateEnrollmentException.class,
+                () -> validator.validateForPreInsert(1L, 10L, student, existingCourse)
+        );
+    }
+
+    @Test
+    void shouldRunExistenceQueryWhenPreCheckModeEnabled() {
+        EnrollmentRuleValidator validator = validator(DuplicateCheckMode.PRE_CHECK);
+        when(enrollmentRepository.existsActiveByStudentIdAndCourseId(1L, 20L)).thenReturn(true);
+
+        assertThrows(
+                DuplicateEnrollmentException.class,
+                () -> validator.validateForPreInsert(1L, 20L, student, overlappingCourse)
+        );
+    }
+
+    @Test
+    void shouldRejectFullCourseBeforeLockWithoutStudentQueries() {
+        EnrollmentRuleValidator validator = validator(DuplicateCheckMode.PRE_CHECK);
+        Course fullCourse = DomainFixtureFactory.course(
+                "CSE203", 3, 1, 1, DayOfWeek.FRIDAY, 9, 10,
+                DomainFixtureFactory.department(), DomainFixtureFactory.professor(DomainFixtureFactory.department())
+        );
+
+        assertThrows(
+                CourseCapacityExceededException.class,
+                () -> validator.validateBeforeLock(1L, 30L, fullCourse)
+        );
+        verifyNoInteractions(enrollmentRepository);
+    }
+
+    @Test
+    void shouldRejectScheduleConflictWithRemainingEnrollments() {
+        EnrollmentRuleValidator validator = validator(DuplicateCheckMode.UNIQUE_INDEX);
+        when(enrollmentRepository.findActiveByStudentId(1L))
+                .thenReturn(List.of(Enrollment.enroll(student, existingCourse)));
+
+        assertThrows(
+                ScheduleConflictException.class,
+                () -> validator.validateForPreInsert(1L, 20L, student, overlappingCourse)
+        );
+    }
+
+    private EnrollmentRuleValidator validator(DuplicateCheckMode mode) {
+        EnrollmentRuleChain ruleChain = new EnrollmentRuleChain(List.of(
+                new DuplicateEnrollmentRule(enrollmentRepository, new EnrollmentValidationProperties(mode)),
+                new CreditLimitRule(),
+                new ScheduleConflictRule(),
+                new CourseCapacityRule()
+        ));
+        return new EnrollmentRuleValidator(enrollmentRepository, ruleChain);
+    }
+}
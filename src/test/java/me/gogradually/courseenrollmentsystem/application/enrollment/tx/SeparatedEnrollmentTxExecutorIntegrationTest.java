@@ -0,0 +1,166 @@
+package me.gogradually.courseenrollmentsystem.application.enrollment.tx;
+
+import jakarta.persistence.EntityManager;
+import me.gogradually.courseenrollmentsystem.application.enrollment.reconcile.PendingEnrollmentReconciler;
+import me.gogradually.courseenrollmentsystem.application.enrollment.strategy.SeparatedEnrollmentStrategy;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentChanges;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseRepository;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.EnrollmentRepository;
+import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentReservationExpiredException;
+import me.gogradually.courseenrollmentsystem.domain.exception.ScheduleConflictException;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class SeparatedEnrollmentTxExecutorIntegrationTest {
+
+    @Autowired
+    private SeparatedEnrollmentStrategy separatedEnrollmentStrategy;
+
+    @Autowired
+    private SeparatedEnrollmentTxExecutor separatedEnrollmentTxExecutor;
+
+    @Autowired
+    private PendingEnrollmentReconciler reconciler;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @SpyBean
+    private StudentEnrollmentChanges studentEnrollmentChanges;
+
+    @Test
+    void shouldConfirmReservationAsActiveEnrollment() {
+        Fixture fixture = createFixture("해양공학과", "20269101", "SE101", "SE102");
+
+        Enrollment enrollment = separatedEnrollmentStrategy.enroll(fixture.studentId(), fixture.firstCourseId());
+
+        assertTrue(enrollment.isActive());
+        assertTrue(enrollmentRepository.findById(enrollment.getId()).orElseThrow().isActive());
+        assertEquals(1, courseRepository.findById(fixture.firstCourseId()).orElseThrow().getEnrolledCount());
+    }
+
+    @Test
+    void shouldRecordStudentChangeInsideConfirmationTransaction() {
+        Fixture fixture = createFixture("조선해양공학과", "20269104", "SE107", "SE108");
+        AtomicBoolean recordedInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            recordedInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(studentEnrollmentChanges).record(fixture.studentId());
+
+        separatedEnrollmentStrategy.enroll(fixture.studentId(), fixture.firstCourseId());
+
+        verify(studentEnrollmentChanges).record(fixture.studentId());
+        assertTrue(recordedInTransaction.get());
+    }
+
+    @Test
+    void shouldReleaseReservationAndSeatWhenRuleIsViolated() {
+        Fixture fixture = createFixture("원자력공학과", "20269102", "SE103", "SE104");
+        separatedEnrollmentStrategy.enroll(fixture.studentId(), fixture.firstCourseId());
+
+        Long enrollmentId = separatedEnrollmentTxExecutor.reserveSeat(fixture.secondCourseId(), fixture.studentId());
+        assertEquals(1, courseRepository.findById(fixture.secondCourseId()).orElseThrow().getEnrolledCount());
+
+        assertThrows(
+                ScheduleConflictException.class,
+                () -> separatedEnrollmentTxExecutor.finalizeEnrollment(
+                        fixture.studentId(),
+                        fixture.secondCourseId(),
+                        enrollmentId
+                )
+        );
+
+        assertTrue(enrollmentRepository.findById(enrollmentId).isEmpty());
+        assertEquals(0, courseRepository.findById(fixture.secondCourseId()).orElseThrow().getEnrolledCount());
+        assertEquals(1, courseRepository.findById(fixture.firstCourseId()).orElseThrow().getEnrolledCount());
+    }
+
+    @Test
+    void shouldRejectConfirmationOfReservationAlreadyReleasedByReconciler() {
+        Fixture fixture = createFixture("항공우주공학과", "20269103", "SE105", "SE106");
+        Long enrollmentId = separatedEnrollmentTxExecutor.reserveSeat(fixture.firstCourseId(), fixture.studentId());
+
+        reconciler.reconcileOlderThan(LocalDateTime.now().plusSeconds(1));
+
+        assertThrows(
+                EnrollmentReservationExpiredException.class,
+                () -> separatedEnrollmentTxExecutor.finalizeEnrollment(
+                        fixture.studentId(),
+                        fixture.firstCourseId(),
+                        enrollmentId
+                )
+        );
+        assertTrue(enrollmentRepository.findById(enrollmentId).isEmpty());
+        assertEquals(0, courseRepository.findById(fixture.firstCourseId()).orElseThrow().getEnrolledCount());
+        verify(studentEnrollmentChanges, never()).record(fixture.studentId());
+    }
+
+    private Fixture createFixture(
+            String departmentName,
+            String studentNumber,
+            String firstCourseCode,
+            String secondCourseCode
+    ) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Fixture fixture = transactionTemplate.execute(status -> {
+            Department department = DomainFixtureFactory.department(departmentName);
+            entityManager.persist(department);
+
+            Professor professor = DomainFixtureFactory.professor(department);
+            entityManager.persist(professor);
+
+            Student student = DomainFixtureFactory.student(studentNumber, department);
+            entityManager.persist(student);
+
+            List<Course> courses = List.of(
+                    DomainFixtureFactory.course(
+                            firstCourseCode, 3, 10, 0, DayOfWeek.MONDAY, 9, 11, department, professor
+                    ),
+                    DomainFixtureFactory.course(
+                            secondCourseCode, 3, 10, 0, DayOfWeek.MONDAY, 10, 12, department, professor
+                    )
+            );
+            courses.forEach(entityManager::persist);
+            entityManager.flush();
+
+            return new Fixture(student.getId(), courses.get(0).getId(), courses.get(1).getId());
+        });
+        assertNotNull(fixture);
+        return fixture;
+    }
+
+    private record Fixture(Long studentId, Long firstCourseId, Long secondCourseId) {
+    }
+}
@@ -0,0 +1,129 @@
+package me.gogradually.courseenrollmentsystem.application.timetable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.gogradually.courseenrollmentsystem.application.common.ParallelLookupExecutor;
+import me.gogradually.courseenrollmentsystem.application.common.ReadReplicaProperties;
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentVersions;
+import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TimetableQueryServiceTest {
+
+    private final FakeTimetableCourseReader reader = new FakeTimetableCourseReader();
+    private ParallelLookupExecutor parallelLookupExecutor;
+    private StudentEnrollmentVersions studentEnrollmentVersions;
+    private TimetableQueryService timetableQueryService;
+
+    @BeforeEach
+    void setUp() {
+        StudentWriteTokens studentWriteTokens = new StudentWriteTokens(
+                new ReadReplicaProperties(false, null, null, null, null, 0, null)
+        );
+        parallelLookupExecutor = new ParallelLookupExecutor(
+                mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry()
+        );
+        studentEnrollmentVersions = new StudentEnrollmentVersions(studentWriteTokens);
+        timetableQueryService = new TimetableQueryService(
+                parallelLookupExecutor,
+                reader,
+                studentWriteTokens,
+                studentEnrollmentVersions
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelLookupExecutor.destroy();
+    }
+
+    @Test
+    void shouldServeCachedTimetableWhileVersionIsUnchanged() {
+        reader.put(1L, course(101L, 3));
+
+        TaggedTimetable first = timetableQueryService.getTaggedTimetable(1L);
+        TaggedTimetable second = timetableQueryService.getTaggedTimetable(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(reader.reads).containsExactly(1L);
+    }
+
+    @Test
+    void shouldReloadTimetableAfterEnrollmentChange() {
+        reader.put(1L, course(101L, 3));
+        TaggedTimetable before = timetableQueryService.getTaggedTimetable(1L);
+
+        reader.put(1L, course(101L, 3), course(102L, 2));
+        studentEnrollmentVersions.markChanged(1L);
+        TaggedTimetable after = timetableQueryService.getTaggedTimetable(1L);
+
+        assertThat(reader.reads).containsExactly(1L, 1L);
+        assertThat(after.timetable().totalCredits()).isEqualTo(5);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    void shouldNotCacheMissingStudent() {
+        assertThatThrownBy(() -> timetableQueryService.getTaggedTimetable(9L))
+                .isInstanceOf(StudentNotFoundException.class);
+        assertThatThrownBy(() -> timetableQueryService.getTaggedTimetable(9L))
+                .isInstanceOf(StudentNotFoundException.class);
+
+        assertThat(reader.reads).containsExactly(9L, 9L);
+        assertThat(timetableQueryService.cachedStudentCount()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedStudentsBeyondCapacity() {
+        for (long studentId = 1; studentId <= TimetableQueryService.MAX_ENTRIES; studentId++) {
+            reader.put(studentId);
+            timetableQueryService.getTaggedTimetable(studentId);
+        }
+        timetableQueryService.getTaggedTimetable(1L);
+        reader.put(TimetableQueryService.MAX_ENTRIES + 1L);
+        timetableQueryService.getTaggedTimetable(TimetableQueryService.MAX_ENTRIES + 1L);
+        reader.reads.clear();
+
+        assertThat(timetableQueryService.cachedStudentCount())
+                .isEqualTo(TimetableQueryService.ENTRIES_AFTER_EVICTION);
+        timetableQueryService.getTaggedTimetable(1L);
+        timetableQueryService.getTaggedTimetable(TimetableQueryService.MAX_ENTRIES + 1L);
+        timetableQueryService.getTaggedTimetable(2L);
+        assertThat(reader.reads).containsExactly(2L);
+    }
+
+    private static TimetableCourseSummary course(Long courseId, int credits) {
+        return new TimetableCourseSummary(courseId, "과목" + courseId, credits, "MON 09:00-10:00", "교수", "학과");
+    }
+
+    private static class FakeTimetableCourseReader implements TimetableCourseReader {
+
+        final List<Long> reads = new ArrayList<>();
+
+        private final Map<Long, List<TimetableCourseSummary>> coursesByStudent = new HashMap<>();
+
+        void put(Long studentId, TimetableCourseSummary... courses) {
+            coursesByStudent.put(studentId, List.of(courses));
+        }
+
+        @Override
+        public Optional<List<TimetableCourseSummary>> findActiveCourses(Long studentId) {
+            reads.add(studentId);
+            return Optional.ofNullable(coursesByStudent.get(studentId));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.gogradually.courseenrollmentsystem.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockWaitTest {
+
+    @Test
+    void shouldParseKeywords() {
+        assertThat(LockWait.parse("default")).isEqualTo(LockWait.DEFAULT);
+        assertThat(LockWait.parse(" NOWAIT ")).isEqualTo(LockWait.NOWAIT);
+        assertThat(LockWait.parse(null)).isEqualTo(LockWait.DEFAULT);
+    }
+
+    @Test
+    void shouldParseDurations() {
+        assertThat(LockWait.parse("500ms").timeoutMillis()).isEqualTo(500);
+        assertThat(LockWait.parse("2s").timeoutMillis()).isEqualTo(2000);
+        assertThat(LockWait.parse("750").timeoutMillis()).isEqualTo(750);
+        assertThat(LockWait.parse("0ms")).isEqualTo(LockWait.NOWAIT);
+    }
+
+    @Test
+    void shouldRejectInvalidValue() {
+        assertThatThrownBy(() -> LockWait.parse("soon")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LockWait.ofMillis(-5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
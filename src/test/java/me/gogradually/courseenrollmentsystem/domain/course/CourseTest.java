@@ -33,6 +33,17 @@ class CourseTest {
         assertThrows(CourseCapacityExceededException.class, course::increaseEnrollment);
     }
 
+    @Test
+    void shouldRejectEnrolledCountAboveCapacity() {
+        Department department = DomainFixtureFactory.department();
+        Professor professor = DomainFixtureFactory.professor(department);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DomainFixtureFactory.course("컴파일러", 3, 30, 31, DayOfWeek.MONDAY, 9, 10, department, professor)
+        );
+    }
+
     @Test
     void shouldDetectScheduleConflictWhenTimeOverlaps() {
         Department department = DomainFixtureFactory.department();
@@ -0,0 +1,36 @@
+package me.gogradually.courseenrollmentsystem.domain.course;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+class ScheduleMaskTest {
+
+    @Test
+    void shouldIntersectWhenTimeSlotsOverlap() {
+        ScheduleMask base = ScheduleMask.of(new TimeSlot(DayOfWeek.TUESDAY, LocalTime.of(10, 0), LocalTime.of(11, 30)));
+        ScheduleMask overlap = ScheduleMask.of(new TimeSlot(DayOfWeek.TUESDAY, LocalTime.of(11, 0), LocalTime.of(12, 0)));
+
+        assertTrue(base.intersects(overlap));
+    }
+
+    @Test
+    void shouldNotIntersectWhenTimeSlotsOnlyTouch() {
+        ScheduleMask base = ScheduleMask.of(new TimeSlot(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(10, 30)));
+        ScheduleMask adjacent = ScheduleMask.of(new TimeSlot(DayOfWeek.TUESDAY, LocalTime.of(10, 30), LocalTime.of(12, 0)));
+
+        assertFalse(base.intersects(adjacent));
+    }
+
+    @Test
+    void shouldNotIntersectWhenDaysDiffer() {
+        ScheduleMask monday = ScheduleMask.of(new TimeSlot(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 30)));
+        ScheduleMask sunday = ScheduleMask.of(new TimeSlot(DayOfWeek.SUNDAY, LocalTime.of(9, 0), LocalTime.of(10, 30)));
+
+        assertFalse(monday.intersects(sunday));
+        assertTrue(monday.union(sunday).intersects(sunday));
+    }
+}
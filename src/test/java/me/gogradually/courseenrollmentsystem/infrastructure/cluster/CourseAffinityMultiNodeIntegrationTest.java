@@ -0,0 +1,205 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.cluster;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.gogradually.courseenrollmentsystem.CourseEnrollmentSystemApplication;
+import me.gogradually.courseenrollmentsystem.application.cluster.ClusterMembership;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.CourseSeatLease;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two nodes on random ports share one embedded database and a registry file.
+ */
+class CourseAffinityMultiNodeIntegrationTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:course-affinity-multi-node;DB_CLOSE_DELAY=-1";
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldForwardToOwnerAndHandOffLeaseWhenOwnershipMoves() throws Exception {
+        Path registryFile = Files.createFile(tempDir.resolve("cluster-registry.properties"));
+        try (ConfigurableApplicationContext nodeA = startNode("node-a", "create", registryFile);
+             ConfigurableApplicationContext nodeB = startNode("node-b", "none", registryFile)) {
+            writeRegistry(registryFile, List.of(nodeA, nodeB));
+            refresh(nodeA, nodeB);
+
+            Fixture fixture = createFixture(nodeA.getBean(EntityManagerFactory.class), 2);
+            String ownerId = nodeA.getBean(ClusterMembership.class).ownerOf(fixture.courseId()).id();
+            ConfigurableApplicationContext owner = ownerId.equals("node-a") ? nodeA : nodeB;
+            ConfigurableApplicationContext other = owner == nodeA ? nodeB : nodeA;
+
+            assertEquals(201, enroll(other, fixture.studentIds().get(0), fixture.courseId()));
+            assertEquals(1.0, forwardedCount(other));
+            assertEquals(ownerId, onlyLease(nodeA, fixture.courseId()).getNodeId());
+
+            writeRegistry(registryFile, List.of(other));
+            refresh(owner, other);
+
+            CourseSeatLease handedOff = onlyLease(nodeA, fixture.courseId());
+            assertEquals(nodeId(other), handedOff.getNodeId());
+            assertEquals(1, handedOff.getUsed());
+
+            assertEquals(201, enroll(other, fixture.studentIds().get(1), fixture.courseId()));
+            assertEquals(1.0, forwardedCount(other));
+            assertEquals(2, onlyLease(nodeA, fixture.courseId()).getUsed());
+        }
+    }
+
+    @Test
+    void shouldStillForwardRequestWithForgedForwardedByHeader() throws Exception {
+        Path registryFile = Files.createFile(tempDir.resolve("cluster-registry.properties"));
+        try (ConfigurableApplicationContext nodeA = startNode("node-a", "create", registryFile);
+             ConfigurableApplicationContext nodeB = startNode("node-b", "none", registryFile)) {
+            writeRegistry(registryFile, List.of(nodeA, nodeB));
+            refresh(nodeA, nodeB);
+
+            Fixture fixture = createFixture(nodeA.getBean(EntityManagerFactory.class), 2);
+            String ownerId = nodeA.getBean(ClusterMembership.class).ownerOf(fixture.courseId()).id();
+            ConfigurableApplicationContext other = ownerId.equals("node-a") ? nodeB : nodeA;
+
+            assertEquals(201, enroll(other, fixture.studentIds().get(0), fixture.courseId(),
+                    ClusterHttp.FORWARDED_BY_HEADER, ownerId));
+            assertEquals(201, enroll(other, fixture.studentIds().get(1), fixture.courseId(),
+                    ClusterHttp.FORWARDED_BY_HEADER, ownerId, ClusterHttp.SECRET_HEADER, "guessed-secret"));
+            assertEquals(2.0, forwardedCount(other));
+            CourseSeatLease lease = onlyLease(nodeA, fixture.courseId());
+            assertEquals(ownerId, lease.getNodeId());
+            assertEquals(2, lease.getUsed());
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId, String ddlAuto, Path registryFile) {
+        return new SpringApplicationBuilder(CourseEnrollmentSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + DATABASE_URL,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "app.cluster.enabled=true",
+                        "app.cluster.node-id=" + nodeId,
+                        "app.cluster.registry-file=" + registryFile,
+                        "app.cluster.shared-secret=multi-node-secret",
+                        "app.enrollment.seat-lease.enabled=true",
+                        "app.enrollment.seat-lease.node-id=" + nodeId,
+                        "app.enrollment.seat-lease.block-size=3"
+                )
+                .run();
+    }
+
+    private void writeRegistry(Path registryFile, List<ConfigurableApplicationContext> nodes) throws IOException {
+        StringBuilder registry = new StringBuilder();
+        for (ConfigurableApplicationContext node : nodes) {
+            registry.append(nodeId(node)).append('=').append(baseUrl(node)).append('\n');
+        }
+        Files.writeString(registryFile, registry);
+    }
+
+    private void refresh(ConfigurableApplicationContext... nodes) {
+        for (ConfigurableApplicationContext node : nodes) {
+            node.getBean(ClusterMembership.class).refresh();
+        }
+    }
+
+    private int enroll(ConfigurableApplicationContext node, Long studentId, Long courseId, String... headers)
+            throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl(node) + "/enrollments"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"studentId\":" + studentId + ",\"courseId\":" + courseId + "}"
+                ));
+        if (headers.length > 0) {
+            request.headers(headers);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private double forwardedCount(ConfigurableApplicationContext node) {
+        return node.getBean(MeterRegistry.class).counter("cluster.forward", "outcome", "forwarded").count();
+    }
+
+    private String nodeId(ConfigurableApplicationContext node) {
+        return node.getEnvironment().getProperty("app.cluster.node-id");
+    }
+
+    private String baseUrl(ConfigurableApplicationContext node) {
+        return "http://localhost:" + node.getEnvironment().getProperty("local.server.port");
+    }
+
+    private CourseSeatLease onlyLease(ConfigurableApplicationContext node, Long courseId) {
+        EntityManager entityManager = node.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            return entityManager.createQuery(
+                            "select l from CourseSeatLease l where l.courseId = :courseId",
+                            CourseSeatLease.class
+                    )
+                    .setParameter("courseId", courseId)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private Fixture createFixture(EntityManagerFactory entityManagerFactory, int studentCount) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Department department = new Department("분산시스템학과");
+            entityManager.persist(department);
+
+            Professor professor = new Professor("윤교수", department);
+            entityManager.persist(professor);
+
+            Course course = new Course(
+                    "DS201",
+                    "분산시스템",
+                    3,
+                    30,
+                    0,
+                    new TimeSlot(DayOfWeek.THURSDAY, LocalTime.of(15, 0), LocalTime.of(16, 30)),
+                    department,
+                    professor
+            );
+            entityManager.persist(course);
+
+            List<Long> studentIds = new ArrayList<>();
+            for (int index = 0; index < studentCount; index++) {
+                Student student = new Student("2026C" + index, "분산학생" + index, department);
+                entityManager.persist(student);
+                studentIds.add(student.getId());
+            }
+            entityManager.getTransaction().commit();
+            return new Fixture(course.getId(), studentIds);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private record Fixture(Long courseId, List<Long> studentIds) {
+    }
+}
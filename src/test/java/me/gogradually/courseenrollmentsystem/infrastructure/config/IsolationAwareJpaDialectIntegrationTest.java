@@ -0,0 +1,73 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import me.gogradually.courseenrollmentsystem.application.common.IsolationScope;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class IsolationAwareJpaDialectIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldApplyScopedIsolationToTransactionWithDefaultIsolation() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Integer isolation = IsolationScope.call(
+                Isolation.REPEATABLE_READ,
+                () -> transactionTemplate.execute(status -> currentIsolation())
+        );
+
+        assertThat(isolation).isEqualTo(Connection.TRANSACTION_REPEATABLE_READ);
+    }
+
+    @Test
+    void shouldKeepExplicitIsolationInsideScope() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        Integer isolation = IsolationScope.call(
+                Isolation.REPEATABLE_READ,
+                () -> transactionTemplate.execute(status -> currentIsolation())
+        );
+
+        assertThat(isolation).isEqualTo(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    @Test
+    void shouldRestorePoolDefaultAfterScopedTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Integer poolDefault = transactionTemplate.execute(status -> currentIsolation());
+
+        IsolationScope.run(Isolation.SERIALIZABLE, () -> transactionTemplate.executeWithoutResult(status -> currentIsolation()));
+
+        assertThat(transactionTemplate.execute(status -> currentIsolation())).isEqualTo(poolDefault);
+    }
+
+    private int currentIsolation() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.getTransactionIsolation();
+        } catch (SQLException exception) {
+            throw new IllegalStateException(exception);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
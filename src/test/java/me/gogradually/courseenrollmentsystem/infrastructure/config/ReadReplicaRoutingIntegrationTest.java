@@ -0,0 +1,118 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import me.gogradually.courseenrollmentsystem.CourseEnrollmentSystemApplication;
+import me.gogradually.courseenrollmentsystem.application.course.CourseQueryService;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.enrollment.orchestration.EnrollmentApplicationService;
+import me.gogradually.courseenrollmentsystem.application.student.StudentEnrollmentVersions;
+import me.gogradually.courseenrollmentsystem.application.timetable.TimetableQueryService;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.interfaces.web.CourseCatalogResponseCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Two embedded databases stand in for a primary and a replica that has not replicated anything yet,
+ * so where a read was served is visible from its result.
+ */
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:read-routing-primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:read-routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void shouldServeCatalogFromReplicaAndStudentOwnWritesFromPrimary() throws InterruptedException {
+        Fixture replicaFixture;
+        try (ConfigurableApplicationContext replica = start(
+                "spring.datasource.url=" + REPLICA_URL
+        )) {
+            replicaFixture = createFixture(replica.getBean(EntityManagerFactory.class));
+        }
+
+        try (ConfigurableApplicationContext primary = start(
+                "spring.datasource.url=" + PRIMARY_URL,
+                "app.datasource.replica.enabled=true",
+                "app.datasource.replica.url=" + REPLICA_URL,
+                "app.datasource.replica.username=sa",
+                "app.datasource.replica.read-your-writes-window=PT2S"
+        )) {
+            Fixture fixture = createFixture(primary.getBean(EntityManagerFactory.class));
+            assertEquals(replicaFixture, fixture);
+
+            primary.getBean(EnrollmentApplicationService.class).enroll(fixture.studentId(), fixture.courseId());
+
+            TimetableQueryService timetableQueryService = primary.getBean(TimetableQueryService.class);
+            assertEquals(1, timetableQueryService.getStudentTimetable(fixture.studentId()).courses().size());
+
+            CourseSummary course = primary.getBean(CourseQueryService.class).getCourses(null, 0, 10).get(0);
+            assertEquals(0, course.enrolled());
+
+            CourseCatalogResponseCache catalogCache = primary.getBean(CourseCatalogResponseCache.class);
+            String cachedPage = new String(catalogCache.get(null, 0, null, 10).body(), StandardCharsets.UTF_8);
+            assertTrue(cachedPage.contains("\"enrolled\":1"), cachedPage);
+
+            Thread.sleep(2_100);
+            assertEquals(1, timetableQueryService.getStudentTimetable(fixture.studentId()).courses().size());
+
+            primary.getBean(StudentEnrollmentVersions.class).markChanged(fixture.studentId());
+            assertEquals(0, timetableQueryService.getStudentTimetable(fixture.studentId()).courses().size());
+        }
+    }
+
+    private ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(CourseEnrollmentSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.hibernate.ddl-auto=create")
+                .properties(properties)
+                .run();
+    }
+
+    private Fixture createFixture(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Department department = new Department("통계학과");
+            entityManager.persist(department);
+
+            Professor professor = new Professor("한교수", department);
+            entityManager.persist(professor);
+
+            Course course = new Course(
+                    "ST101",
+                    "통계학개론",
+                    3,
+                    30,
+                    0,
+                    new TimeSlot(DayOfWeek.TUESDAY, LocalTime.of(10, 0), LocalTime.of(11, 30)),
+                    department,
+                    professor
+            );
+            entityManager.persist(course);
+
+            Student student = new Student("2026R0", "복제학생", department);
+            entityManager.persist(student);
+            entityManager.getTransaction().commit();
+            return new Fixture(course.getId(), student.getId());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private record Fixture(Long courseId, Long studentId) {
+    }
+}
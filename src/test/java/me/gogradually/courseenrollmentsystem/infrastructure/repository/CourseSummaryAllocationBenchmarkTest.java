@@ -0,0 +1,152 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.common.ScheduleFormatter;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummaryReader;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.course.TimeSlot;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares bytes allocated per 100-row catalog page by the previous entity path (join fetch, then map each
+ * managed entity) and by the constructor projection. Runs inside a rolled-back transaction.
+ * The allocation measurement is tagged {@code benchmark} and only runs with {@code ./gradlew benchmark};
+ * the default test run keeps the deterministic check that the projection loads no entities.
+ */
+@SpringBootTest
+@Transactional
+class CourseSummaryAllocationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private CourseSummaryReader courseSummaryReader;
+
+    @Test
+    void projectionShouldNotLoadEntitiesIntoPersistenceContext() {
+        Long departmentId = createCourses();
+
+        List<CourseSummary> page = courseSummaryReader.findPage(departmentId, 0, PAGE_SIZE);
+
+        assertThat(page).hasSize(PAGE_SIZE).isEqualTo(loadThroughEntitiesDetached(departmentId));
+        entityManager.clear();
+        courseSummaryReader.findPage(departmentId, 0, PAGE_SIZE);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void projectionShouldAllocateLessPerPageThanEntityMapping() {
+        Long departmentId = createCourses();
+        entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+
+        Supplier<List<CourseSummary>> entityPage = () -> loadThroughEntities(departmentId);
+        Supplier<List<CourseSummary>> projectionPage = () -> courseSummaryReader.findPage(departmentId, 0, PAGE_SIZE);
+        assertThat(projectionPage.get()).hasSize(PAGE_SIZE).isEqualTo(entityPage.get());
+
+        long entityBytes = bytesPerPage(entityPage);
+        long projectionBytes = bytesPerPage(projectionPage);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private long bytesPerPage(Supplier<List<CourseSummary>> page) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            entityManager.clear();
+            page.get();
+        }
+
+        long total = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            entityManager.clear();
+            long before = threadMXBean.getCurrentThreadAllocatedBytes();
+            page.get();
+            total += threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        }
+        return total / MEASURED_ITERATIONS;
+    }
+
+    private List<CourseSummary> loadThroughEntitiesDetached(Long departmentId) {
+        List<CourseSummary> summaries = loadThroughEntities(departmentId);
+        entityManager.clear();
+        return summaries;
+    }
+
+    private List<CourseSummary> loadThroughEntities(Long departmentId) {
+        return entityManager.createQuery("""
+                        select c from Course c
+                        join fetch c.seat
+                        join fetch c.department d
+                        join fetch c.professor p
+                        where d.id = :departmentId
+                        order by c.id
+                        """, Course.class)
+                .setParameter("departmentId", departmentId)
+                .setFirstResult(0)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(course -> new CourseSummary(
+                        course.getId(),
+                        course.getCourseCode(),
+                        course.getName(),
+                        course.getCredits(),
+                        course.getCapacity(),
+                        course.getEnrolledCount(),
+                        ScheduleFormatter.format(course.getTimeSlot()),
+                        course.getDepartment().getId(),
+                        course.getDepartment().getName(),
+                        course.getProfessor().getId(),
+                        course.getProfessor().getName()
+                ))
+                .toList();
+    }
+
+    private Long createCourses() {
+        Department department = new Department("측정학과");
+        entityManager.persist(department);
+        Professor professor = new Professor("측교수", department);
+        entityManager.persist(professor);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            entityManager.persist(new Course(
+                    "ALLOC" + i,
+                    "할당측정" + i,
+                    3,
+                    40,
+                    i % 40,
+                    new TimeSlot(DayOfWeek.of(i % 5 + 1), LocalTime.of(9 + i % 8, 0), LocalTime.of(10 + i % 8, 0)),
+                    department,
+                    professor
+            ));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return department.getId();
+    }
+}
@@ -0,0 +1,86 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import me.gogradually.courseenrollmentsystem.application.timetable.TimetableCourseReader;
+import me.gogradually.courseenrollmentsystem.application.timetable.TimetableCourseSummary;
+import me.gogradually.courseenrollmentsystem.domain.course.Course;
+import me.gogradually.courseenrollmentsystem.domain.department.Department;
+import me.gogradually.courseenrollmentsystem.domain.enrollment.Enrollment;
+import me.gogradually.courseenrollmentsystem.domain.professor.Professor;
+import me.gogradually.courseenrollmentsystem.domain.student.Student;
+import me.gogradually.courseenrollmentsystem.support.DomainFixtureFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Covers both outer-join cases of the timetable query. Runs inside a rolled-back transaction.
+ */
+@SpringBootTest
+@Transactional
+class TimetableCourseReaderAdapterTest {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TimetableCourseReader timetableCourseReader;
+
+    @Test
+    void shouldReturnEmptyWhenStudentDoesNotExist() {
+        assertThat(timetableCourseReader.findActiveCourses(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyListForStudentWithoutActiveEnrollments() {
+        Department department = persist(DomainFixtureFactory.department("시간표무신청학과"));
+        Professor professor = persist(DomainFixtureFactory.professor(department));
+        Student student = persist(DomainFixtureFactory.student("20269201", department));
+        Course course = persist(DomainFixtureFactory.course(
+                "TT101", 3, 10, 0, DayOfWeek.MONDAY, 9, 11, department, professor
+        ));
+        Enrollment cancelled = persist(Enrollment.enroll(student, course));
+        cancelled.cancel();
+        flushAndClear();
+
+        assertThat(timetableCourseReader.findActiveCourses(student.getId())).hasValue(List.of());
+    }
+
+    @Test
+    void shouldReturnActiveCoursesInCourseIdOrder() {
+        Department department = persist(DomainFixtureFactory.department("시간표신청학과"));
+        Professor professor = persist(DomainFixtureFactory.professor(department));
+        Student student = persist(DomainFixtureFactory.student("20269202", department));
+        Course first = persist(DomainFixtureFactory.course(
+                "TT102", 3, 10, 0, DayOfWeek.TUESDAY, 9, 11, department, professor
+        ));
+        Course second = persist(DomainFixtureFactory.course(
+                "TT103", 2, 10, 0, DayOfWeek.WEDNESDAY, 13, 15, department, professor
+        ));
+        persist(Enrollment.enroll(student, second));
+        persist(Enrollment.enroll(student, first));
+        flushAndClear();
+
+        assertThat(timetableCourseReader.findActiveCourses(student.getId()))
+                .hasValueSatisfying(courses -> assertThat(courses)
+                        .extracting(TimetableCourseSummary::courseId)
+                        .containsExactly(first.getId(), second.getId()));
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
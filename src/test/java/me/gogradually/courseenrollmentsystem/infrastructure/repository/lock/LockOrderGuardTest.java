@@ -0,0 +1,95 @@
+package me.gogradually.courseenrollmentsystem.infrastructure.repository.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LockOrderGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldAllowAcquisitionInGlobalOrder() {
+        LockOrderGuard guard = guard(true);
+
+        assertThatCode(() -> {
+            guard.acquire(LockResource.STUDENT, 1L);
+            guard.acquire(LockResource.COURSE, 3L);
+            guard.acquire(LockResource.COURSE, 7L);
+            guard.acquire(LockResource.ENROLLMENT, 2L);
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldAllowReacquiringHeldRow() {
+        LockOrderGuard guard = guard(true);
+        guard.acquire(LockResource.COURSE, 3L);
+        guard.acquire(LockResource.ENROLLMENT, 2L);
+
+        assertThatCode(() -> guard.acquire(LockResource.COURSE, 3L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldRejectCourseLockedAfterEnrollmentInStrictMode() {
+        LockOrderGuard guard = guard(true);
+        guard.acquire(LockResource.ENROLLMENT, 10L);
+
+        assertThatThrownBy(() -> guard.acquire(LockResource.COURSE, 3L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("COURSE#3");
+    }
+
+    @Test
+    void shouldRejectDescendingIdsOfSameResourceInStrictMode() {
+        LockOrderGuard guard = guard(true);
+        guard.acquire(LockResource.COURSE, 7L);
+
+        assertThatThrownBy(() -> guard.acquire(LockResource.COURSE, 3L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldOnlyCountViolationWhenNotStrict() {
+        LockOrderGuard guard = guard(false);
+        guard.acquire(LockResource.COURSE, 3L);
+
+        assertThatCode(() -> guard.acquire(LockResource.STUDENT, 1L)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get(LockOrderGuard.VIOLATION_METRIC).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldIgnoreAcquisitionOutsideTransaction() {
+        LockOrderGuard guard = guard(true);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThatCode(() -> {
+            guard.acquire(LockResource.ENROLLMENT, 10L);
+            guard.acquire(LockResource.STUDENT, 1L);
+        }).doesNotThrowAnyException();
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private LockOrderGuard guard(boolean strict) {
+        return new LockOrderGuard(new LockOrderProperties(strict), meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteService;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteSuggestion;
+import me.gogradually.courseenrollmentsystem.application.autocomplete.AutocompleteType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AutocompleteController.class)
+class AutocompleteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AutocompleteService autocompleteService;
+
+    @Test
+    void shouldReturnSuggestionsForRequestedTypes() throws Exception {
+        given(autocompleteService.suggest("ㅈㄹ", List.of(AutocompleteType.COURSE, AutocompleteType.STUDENT), 5))
+                .willReturn(List.of(new AutocompleteSuggestion(AutocompleteType.COURSE, 101L, "자료구조", "CSE301")));
+
+        mockMvc.perform(get("/autocomplete")
+                        .param("q", "ㅈㄹ")
+                        .param("types", "COURSE,STUDENT")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("COURSE"))
+                .andExpect(jsonPath("$[0].id").value(101))
+                .andExpect(jsonPath("$[0].detail").value("CSE301"));
+    }
+
+    @Test
+    void shouldRejectUnknownType() throws Exception {
+        mockMvc.perform(get("/autocomplete").param("q", "김").param("types", "DEPARTMENT"))
+                .andExpect(status().isBadRequest());
+    }
+}
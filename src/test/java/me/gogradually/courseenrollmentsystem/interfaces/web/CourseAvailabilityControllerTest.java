@@ -0,0 +1,57 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailability;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityChanges;
+import me.gogradually.courseenrollmentsystem.application.course.SeatAvailabilityFeed;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CourseAvailabilityController.class)
+class CourseAvailabilityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SeatAvailabilityFeed seatAvailabilityFeed;
+
+    @MockBean
+    private SeatChangeBroadcaster seatChangeBroadcaster;
+
+    @Test
+    void shouldReturnSeatsAsCompactArrays() throws Exception {
+        given(seatAvailabilityFeed.changesSince(41L)).willReturn(new SeatAvailabilityChanges(
+                42L,
+                false,
+                List.of(new SeatAvailability(101L, 3L, 30, 25))
+        ));
+
+        mockMvc.perform(get("/courses/availability").param("since", "41"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(42))
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.seats[0][0]").value(101))
+                .andExpect(jsonPath("$.seats[0][1]").value(30))
+                .andExpect(jsonPath("$.seats[0][2]").value(25));
+    }
+
+    @Test
+    void shouldOpenSeatStreamWithCourseFilter() throws Exception {
+        given(seatChangeBroadcaster.subscribe(101L, null, 42L)).willReturn(new SseEmitter());
+
+        mockMvc.perform(get("/courses/stream").param("courseId", "101").header("Last-Event-ID", "42"))
+                .andExpect(request().asyncStarted());
+    }
+}
@@ -1,32 +1,64 @@
 package me.gogradually.courseenrollmentsystem.interfaces.web;
 
+import me.gogradually.courseenrollmentsystem.application.common.IdLookup;
+import me.gogradually.courseenrollmentsystem.application.common.KeysetPage;
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogCacheProperties;
+import me.gogradually.courseenrollmentsystem.application.course.CourseCatalogVersions;
 import me.gogradually.courseenrollmentsystem.application.course.CourseQueryService;
 import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.PersonalizedCatalogService;
+import me.gogradually.courseenrollmentsystem.application.course.PersonalizedCourse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(CourseController.class)
+@WebMvcTest(
+        controllers = CourseController.class,
+        properties = {
+                "app.course.catalog-cache.enabled=true",
+                "app.course.catalog-cache.gzip=true",
+                "app.course.catalog-cache.gzip-min-size=0B"
+        }
+)
+@Import({CourseCatalogResponseCache.class, CourseCatalogVersions.class, CourseControllerTest.CacheConfig.class})
 class CourseControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CourseCatalogVersions courseCatalogVersions;
+
     @MockBean
     private CourseQueryService courseQueryService;
 
+    @MockBean
+    private PersonalizedCatalogService personalizedCatalogService;
+
     @Test
     void shouldReturnCoursesWithRequiredFields() throws Exception {
-        given(courseQueryService.getCourses(null, null, null)).willReturn(
+        given(courseQueryService.getCoursesFromPrimary(null, null, null)).willReturn(
                 List.of(new CourseSummary(
                         101L,
                         "CSE301",
@@ -54,7 +86,7 @@ class CourseControllerTest {
 
     @Test
     void shouldApplyDepartmentFilter() throws Exception {
-        given(courseQueryService.getCourses(2L, 10, 20)).willReturn(List.of());
+        given(courseQueryService.getCoursesFromPrimary(2L, 10, 20)).willReturn(List.of());
 
         mockMvc.perform(
                         get("/courses")
@@ -64,4 +96,139 @@ class CourseControllerTest {
                 )
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void shouldReturnKeysetPageWithNextCursor() throws Exception {
+        given(courseQueryService.getCoursesAfterFromPrimary(2L, 101L, 1)).willReturn(new KeysetPage<>(
+                List.of(new CourseSummary(
+                        102L,
+                        "CSE302",
+                        "운영체제",
+                        3,
+                        30,
+                        10,
+                        "TUE 09:00-10:30",
+                        2L,
+                        "컴퓨터공학과",
+                        11L,
+                        "김교수"
+                )),
+                102L
+        ));
+
+        mockMvc.perform(
+                        get("/courses")
+                                .param("departmentId", "2")
+                                .param("after", PageCursors.encode(101L))
+                                .param("limit", "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(102))
+                .andExpect(header().string(PageCursors.NEXT_CURSOR_HEADER, PageCursors.encode(102L)));
+    }
+
+    @Test
+    void shouldOmitNextCursorOnLastKeysetPage() throws Exception {
+        given(courseQueryService.getCoursesAfterFromPrimary(null, 0L, null)).willReturn(new KeysetPage<>(List.of(), null));
+
+        mockMvc.perform(get("/courses").param("after", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PageCursors.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() throws Exception {
+        mockMvc.perform(get("/courses").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedFromCacheWithoutQuerying() throws Exception {
+        given(courseQueryService.getCoursesFromPrimary(5L, null, null)).willReturn(List.of(course(501L, 10)));
+
+        String etag = mockMvc.perform(get("/courses").param("departmentId", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/courses").param("departmentId", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(courseQueryService, times(1)).getCoursesFromPrimary(5L, null, null);
+    }
+
+    @Test
+    void shouldRenderPageAgainAfterSeatChange() throws Exception {
+        given(courseQueryService.getCoursesFromPrimary(6L, null, null)).willReturn(List.of(course(601L, 10)));
+        String etag = mockMvc.perform(get("/courses").param("departmentId", "6"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        given(courseQueryService.getCoursesFromPrimary(6L, null, null)).willReturn(List.of(course(601L, 11)));
+        courseCatalogVersions.markChanged(601L);
+
+        mockMvc.perform(get("/courses").param("departmentId", "6").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].enrolled").value(11));
+        verify(courseQueryService, times(2)).getCoursesFromPrimary(6L, null, null);
+    }
+
+    @Test
+    void shouldServePrecompressedBodyWhenGzipAccepted() throws Exception {
+        given(courseQueryService.getCoursesFromPrimary(7L, null, null)).willReturn(List.of(course(701L, 3)));
+
+        byte[] body = mockMvc.perform(
+                        get("/courses").param("departmentId", "7").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(gunzip(body)).contains("\"id\":701");
+    }
+
+    @Test
+    void shouldReturnCoursesByIdsInRequestOrder() throws Exception {
+        given(courseQueryService.getCoursesByIds(List.of(802L, 801L, 899L))).willReturn(new IdLookup<>(
+                List.of(course(802L, 5), course(801L, 4)),
+                List.of(899L)
+        ));
+
+        mockMvc.perform(get("/courses").param("ids", "802,801,899"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[0].id").value(802))
+                .andExpect(jsonPath("$.courses[1].id").value(801))
+                .andExpect(jsonPath("$.missingIds[0]").value(899));
+    }
+
+    @Test
+    void shouldAnnotateCoursesForStudentWithoutResponseCache() throws Exception {
+        given(personalizedCatalogService.getCourses(1L, 9L, null, null)).willReturn(List.of(
+                new PersonalizedCourse(course(901L, 30), false, true, false, true)
+        ));
+
+        mockMvc.perform(get("/courses").param("studentId", "1").param("departmentId", "9"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].id").value(901))
+                .andExpect(jsonPath("$[0].alreadyEnrolled").value(false))
+                .andExpect(jsonPath("$[0].scheduleConflict").value(true))
+                .andExpect(jsonPath("$[0].exceedsCreditLimit").value(false))
+                .andExpect(jsonPath("$[0].full").value(true));
+        verify(courseQueryService, times(0)).getCoursesFromPrimary(9L, null, null);
+    }
+
+    private CourseSummary course(Long id, int enrolled) {
+        return new CourseSummary(id, "C" + id, "강좌" + id, 3, 30, enrolled, "MON 09:00-10:30", 2L, "컴퓨터공학과", 11L, "김교수");
+    }
+
+    private String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties(CourseCatalogCacheProperties.class)
+    static class CacheConfig {
+    }
 }
@@ -0,0 +1,79 @@
+package me.gogradually.courseenrollmentsystem.interfaces.web;
+
+import me.gogradually.courseenrollmentsystem.application.course.CourseSummary;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchCriteria;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchResult;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchService;
+import me.gogradually.courseenrollmentsystem.application.course.search.CourseSearchSort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CourseSearchController.class)
+class CourseSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CourseSearchService courseSearchService;
+
+    @Test
+    void shouldPassFiltersAndReturnTotalCount() throws Exception {
+        CourseSearchCriteria criteria = new CourseSearchCriteria(
+                3L,
+                null,
+                3,
+                DayOfWeek.MONDAY,
+                LocalTime.of(9, 0),
+                LocalTime.of(18, 0),
+                true,
+                "자료",
+                CourseSearchSort.FILL_RATE,
+                true
+        );
+        given(courseSearchService.search(eq(criteria), eq(0), eq(20))).willReturn(new CourseSearchResult(
+                41,
+                List.of(new CourseSummary(101L, "CSE301", "자료구조", 3, 30, 25, "MON 09:00-10:30", 3L, "컴퓨터공학과", 12L, "김교수"))
+        ));
+
+        mockMvc.perform(get("/courses/search")
+                        .param("departmentId", "3")
+                        .param("credits", "3")
+                        .param("dayOfWeek", "MONDAY")
+                        .param("from", "09:00")
+                        .param("to", "18:00")
+                        .param("openOnly", "true")
+                        .param("q", "자료")
+                        .param("sort", "FILL_RATE")
+                        .param("desc", "true")
+                        .param("offset", "0")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "41"))
+                .andExpect(jsonPath("$[0].id").value(101))
+                .andExpect(jsonPath("$[0].enrolled").value(25));
+    }
+
+    @Test
+    void shouldRejectUnknownSort() throws Exception {
+        mockMvc.perform(get("/courses/search").param("sort", "POPULARITY"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(courseSearchService);
+    }
+}
@@ -1,8 +1,13 @@
 package me.gogradually.courseenrollmentsystem.interfaces.web;
 
+import me.gogradually.courseenrollmentsystem.application.common.StudentWriteTokens;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.EligibilityViolation;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.EnrollmentEligibility;
+import me.gogradually.courseenrollmentsystem.application.enrollment.eligibility.EnrollmentEligibilityService;
 import me.gogradually.courseenrollmentsystem.application.enrollment.orchestration.EnrollmentCommandService;
 import me.gogradually.courseenrollmentsystem.application.enrollment.orchestration.EnrollmentResult;
 import me.gogradually.courseenrollmentsystem.domain.exception.DuplicateEnrollmentException;
+import me.gogradually.courseenrollmentsystem.domain.exception.EnrollmentCancellationNotAllowedException;
 import me.gogradually.courseenrollmentsystem.infrastructure.web.GlobalExceptionHandler;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +19,13 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.sql.SQLException;
+import java.util.List;
+
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,11 +39,18 @@ class EnrollmentControllerTest {
     @MockBean
     private EnrollmentCommandService enrollmentCommandService;
 
+    @MockBean
+    private EnrollmentEligibilityService enrollmentEligibilityService;
+
+    @MockBean
+    private StudentWriteTokens studentWriteTokens;
+
     @Test
     void shouldCreateEnrollment() throws Exception {
         given(enrollmentCommandService.enroll(1L, 101L)).willReturn(
                 new EnrollmentResult(1001L, 1L, 101L, "ACTIVE")
         );
+        given(studentWriteTokens.issueToken()).willReturn(1_760_000_000_000L);
 
         mockMvc.perform(
                         post("/enrollments")
@@ -47,6 +63,7 @@ class EnrollmentControllerTest {
                                         """)
                 )
                 .andExpect(status().isCreated())
+                .andExpect(header().string(EnrollmentController.WRITE_TOKEN_HEADER, "1760000000000"))
                 .andExpect(jsonPath("$.enrollmentId").value(1001))
                 .andExpect(jsonPath("$.studentId").value(1))
                 .andExpect(jsonPath("$.courseId").value(101))
@@ -137,6 +154,90 @@ class EnrollmentControllerTest {
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void shouldSwapEnrollment() throws Exception {
+        given(enrollmentCommandService.swap(1L, 1001L, 102L)).willReturn(
+                new EnrollmentResult(1002L, 1L, 102L, "ACTIVE")
+        );
+
+        mockMvc.perform(
+                        post("/enrollments/swap")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "studentId": 1,
+                                          "dropEnrollmentId": 1001,
+                                          "addCourseId": 102
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.enrollmentId").value(1002))
+                .andExpect(jsonPath("$.courseId").value(102))
+                .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    void shouldReturnConflictWhenSwapDropsCanceledEnrollment() throws Exception {
+        given(enrollmentCommandService.swap(1L, 1001L, 102L))
+                .willThrow(new EnrollmentCancellationNotAllowedException(1001L));
+
+        mockMvc.perform(
+                        post("/enrollments/swap")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "studentId": 1,
+                                          "dropEnrollmentId": 1001,
+                                          "addCourseId": 102
+                                        }
+                                        """)
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ENROLLMENT_CANCELLATION_NOT_ALLOWED"));
+    }
+
+    @Test
+    void shouldReturnEligibilityPerCourse() throws Exception {
+        given(enrollmentEligibilityService.evaluate(1L, List.of(101L, 102L))).willReturn(List.of(
+                EnrollmentEligibility.of(101L, List.of()),
+                EnrollmentEligibility.of(102L, List.of(EligibilityViolation.SCHEDULE_CONFLICT))
+        ));
+
+        mockMvc.perform(
+                        post("/enrollments/eligibility")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "studentId": 1,
+                                          "courseIds": [101, 102]
+                                        }
+                                        """)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courseId").value(101))
+                .andExpect(jsonPath("$[0].eligible").value(true))
+                .andExpect(jsonPath("$[1].courseId").value(102))
+                .andExpect(jsonPath("$[1].eligible").value(false))
+                .andExpect(jsonPath("$[1].violations[0]").value("SCHEDULE_CONFLICT"));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenEligibilityCourseIdsEmpty() throws Exception {
+        mockMvc.perform(
+                        post("/enrollments/eligibility")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "studentId": 1,
+                                          "courseIds": []
+                                        }
+                                        """)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("BAD_REQUEST"));
+    }
+
     @Test
     void shouldReturnConflictWhenDuplicateEnrollmentRequested() throws Exception {
         given(enrollmentCommandService.enroll(1L, 101L))
@@ -221,6 +322,28 @@ class EnrollmentControllerTest {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    void shouldReturnConflictWhenNowaitLockFails() throws Exception {
+        given(enrollmentCommandService.enrollWithPessimisticLock(1L, 101L))
+                .willThrow(new RuntimeException(
+                        "wrapped",
+                        new SQLException("lock could not be acquired immediately and NOWAIT is set", "HY000", 3572)
+                ));
+
+        mockMvc.perform(
+                        post("/enrollments/pessimistic")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "studentId": 1,
+                                          "courseId": 101
+                                        }
+                                        """)
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ENROLLMENT_CONCURRENCY_CONFLICT"));
+    }
+
     @Test
     void shouldReturnBadRequestWhenRequestFieldMissing() throws Exception {
         mockMvc.perform(
@@ -240,7 +363,10 @@ class EnrollmentControllerTest {
 
     @Test
     void shouldCancelEnrollment() throws Exception {
+        given(studentWriteTokens.issueToken()).willReturn(1_760_000_000_000L);
+
         mockMvc.perform(delete("/enrollments/{enrollmentId}", 1001L))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(EnrollmentController.WRITE_TOKEN_HEADER, "1760000000000"));
     }
 }
@@ -1,5 +1,6 @@
 package me.gogradually.courseenrollmentsystem.interfaces.web;
 
+import me.gogradually.courseenrollmentsystem.application.common.IdLookup;
 import me.gogradually.courseenrollmentsystem.application.student.StudentQueryService;
 import me.gogradually.courseenrollmentsystem.application.student.StudentSummary;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,11 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -36,4 +40,31 @@ class StudentControllerTest {
                 .andExpect(jsonPath("$[0].studentNumber").value("20260001"))
                 .andExpect(jsonPath("$[0].departmentName").value("컴퓨터공학과"));
     }
+
+    @Test
+    void shouldReturnStudentsByIdsWithMissingIds() throws Exception {
+        given(studentQueryService.getStudentsByIds(List.of(3L, 999L, 1L))).willReturn(new IdLookup<>(
+                List.of(
+                        new StudentSummary(3L, "20260003", "김학생", 2L, "컴퓨터공학과"),
+                        new StudentSummary(1L, "20260001", "홍길동", 2L, "컴퓨터공학과")
+                ),
+                List.of(999L)
+        ));
+
+        mockMvc.perform(get("/students").param("ids", "3,999,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.students[0].id").value(3))
+                .andExpect(jsonPath("$.students[1].id").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(999));
+    }
+
+    @Test
+    void shouldRejectMoreThanFiveHundredIds() throws Exception {
+        String ids = LongStream.rangeClosed(1, 501).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/students").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(studentQueryService);
+    }
 }
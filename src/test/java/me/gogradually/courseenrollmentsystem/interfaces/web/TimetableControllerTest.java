@@ -1,6 +1,7 @@
 package me.gogradually.courseenrollmentsystem.interfaces.web;
 
 import me.gogradually.courseenrollmentsystem.application.timetable.StudentTimetable;
+import me.gogradually.courseenrollmentsystem.application.timetable.TaggedTimetable;
 import me.gogradually.courseenrollmentsystem.application.timetable.TimetableCourseSummary;
 import me.gogradually.courseenrollmentsystem.application.timetable.TimetableQueryService;
 import me.gogradually.courseenrollmentsystem.domain.exception.StudentNotFoundException;
@@ -10,12 +11,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,19 +57,42 @@ class TimetableControllerTest {
                         )
                 )
         );
-        given(timetableQueryService.getStudentTimetable(1L)).willReturn(timetable);
+        given(timetableQueryService.getTaggedTimetable(1L, null)).willReturn(new TaggedTimetable(timetable, "\"t1\""));
 
         mockMvc.perform(get("/students/{studentId}/timetable", 1L))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"t1\""))
                 .andExpect(jsonPath("$.studentId").value(1))
                 .andExpect(jsonPath("$.totalCredits").value(6))
                 .andExpect(jsonPath("$.courses[0].courseId").value(101))
                 .andExpect(jsonPath("$.courses[0].schedule").value("MON 09:00-10:30"));
     }
 
+    @Test
+    void shouldReturnNotModifiedWhenTimetableUnchanged() throws Exception {
+        given(timetableQueryService.getTaggedTimetable(1L, null))
+                .willReturn(new TaggedTimetable(new StudentTimetable(1L, 0, List.of()), "\"t1\""));
+
+        mockMvc.perform(get("/students/{studentId}/timetable", 1L).header(HttpHeaders.IF_NONE_MATCH, "\"t1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldPassWriteTokenToQuery() throws Exception {
+        given(timetableQueryService.getTaggedTimetable(1L, 1_760_000_000_000L))
+                .willReturn(new TaggedTimetable(new StudentTimetable(1L, 3, List.of()), "\"t2\""));
+
+        mockMvc.perform(get("/students/{studentId}/timetable", 1L)
+                        .header(EnrollmentController.WRITE_TOKEN_HEADER, "1760000000000"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"t2\""))
+                .andExpect(jsonPath("$.totalCredits").value(3));
+    }
+
     @Test
     void shouldReturnNotFoundWhenStudentMissing() throws Exception {
-        given(timetableQueryService.getStudentTimetable(999L)).willThrow(new StudentNotFoundException(999L));
+        given(timetableQueryService.getTaggedTimetable(999L, null)).willThrow(new StudentNotFoundException(999L));
 
         mockMvc.perform(get("/students/{studentId}/timetable", 999L))
                 .andExpect(status().isNotFound())
@@ -14,7 +14,11 @@ public final class DomainFixtureFactory {
     }
 
     public static Department department() {
-        return new Department("컴퓨터공학과");
+        return department("컴퓨터공학과");
+    }
+
+    public static Department department(String name) {
+        return new Department(name);
     }
 
     public static Professor professor(Department department) {
@@ -22,7 +26,11 @@ public final class DomainFixtureFactory {
     }
 
     public static Student student(Department department) {
-        return new Student("20260001", "홍길동", department);
+        return student("20260001", department);
+    }
+
+    public static Student student(String studentNumber, Department department) {
+        return new Student(studentNumber, "홍길동", department);
     }
 
     public static Course course(